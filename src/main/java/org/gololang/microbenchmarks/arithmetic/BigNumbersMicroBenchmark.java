@@ -0,0 +1,439 @@
+/*
+ * Copyright 2012-2016 Institut National des Sciences Appliquées de Lyon (INSA-Lyon)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gololang.microbenchmarks.arithmetic;
+
+import clojure.lang.Var;
+import org.gololang.microbenchmarks.support.CodeLoader;
+import org.gololang.microbenchmarks.support.JRubyContainerAndReceiver;
+import org.jruby.runtime.builtin.IRubyObject;
+import org.openjdk.jmh.annotations.*;
+import org.python.core.Py;
+import org.python.core.PyFunction;
+import org.python.core.PyObject;
+import org.python.util.PythonInterpreter;
+
+import javax.script.Invocable;
+import java.lang.invoke.MethodHandle;
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.invoke.MethodType.genericMethodType;
+
+/*
+ * Allocation per operation is a large part of the story on big numbers, run with -prof gc.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class BigNumbersMicroBenchmark {
+
+  /* ................................................................................................................ */
+
+  @State(Scope.Thread)
+  static public class PiState {
+
+    @Param({"100", "1000"})
+    int digits;
+
+    Object boxedDigits;
+    PyObject pyDigits;
+
+    @Setup(Level.Trial)
+    public void prepare() {
+      boxedDigits = digits;
+      pyDigits = Py.newInteger(digits);
+    }
+  }
+
+  @State(Scope.Thread)
+  static public class FactorialState {
+
+    @Param({"20", "100", "1000"})
+    int factorialN;
+
+    Object boxedN;
+    PyObject pyN;
+
+    @Setup(Level.Trial)
+    public void prepare() {
+      boxedN = factorialN;
+      pyN = Py.newInteger(factorialN);
+    }
+  }
+
+  @State(Scope.Thread)
+  static public class FibonacciState {
+
+    // 92 is the last index that fits in a long
+    @Param({"92", "1000", "10000"})
+    int fibonacciN;
+
+    Object boxedN;
+    PyObject pyN;
+
+    @Setup(Level.Trial)
+    public void prepare() {
+      boxedN = fibonacciN;
+      pyN = Py.newInteger(fibonacciN);
+    }
+  }
+
+  @State(Scope.Thread)
+  static public class InterestState {
+
+    // monthly over 1 year and over 30 years
+    @Param({"12", "360"})
+    int periods;
+
+    final String principalText = "250000.00";
+    final String rateText = "0.0035";
+
+    BigDecimal principal;
+    BigDecimal rate;
+    Object boxedPeriods;
+
+    @Setup(Level.Trial)
+    public void prepare() {
+      principal = new BigDecimal(principalText);
+      rate = new BigDecimal(rateText);
+      boxedPeriods = periods;
+    }
+  }
+
+  // Ruby and Python work on their own decimal types, built here from the textual amounts rather than in the benchmark
+  @State(Scope.Thread)
+  static public class JRubyInterestState {
+
+    Object principal;
+    Object rate;
+
+    @Setup(Level.Trial)
+    public void prepare(InterestState interestState, JRubyState jRubyState) {
+      principal = jRubyState.rubyCall("decimal", interestState.principalText);
+      rate = jRubyState.rubyCall("decimal", interestState.rateText);
+    }
+  }
+
+  @State(Scope.Thread)
+  static public class JythonInterestState {
+
+    PyObject principal;
+    PyObject rate;
+    PyObject periods;
+
+    @Setup(Level.Trial)
+    public void prepare(InterestState interestState, JythonState jythonState) {
+      principal = jythonState.decimal.__call__(Py.newString(interestState.principalText));
+      rate = jythonState.decimal.__call__(Py.newString(interestState.rateText));
+      periods = Py.newInteger(interestState.periods);
+    }
+  }
+
+  /* ................................................................................................................ */
+
+  @State(Scope.Thread)
+  static public class GoloState {
+
+    MethodHandle piDigits;
+    MethodHandle factorial;
+    MethodHandle fibonacci;
+    MethodHandle compoundInterest;
+
+    @Setup(Level.Trial)
+    public void prepare() {
+      CodeLoader loader = new CodeLoader();
+      piDigits = loader.golo("big-numbers", "pi_digits", 1);
+      factorial = loader.golo("big-numbers", "factorial", 1);
+      fibonacci = loader.golo("big-numbers", "fibonacci", 1);
+      compoundInterest = loader.golo("big-numbers", "compound_interest", 3);
+    }
+  }
+
+  @State(Scope.Thread)
+  static public class GroovyState {
+
+    MethodHandle piDigits;
+    MethodHandle factorial;
+    MethodHandle fibonacci;
+    MethodHandle compoundInterest;
+
+    @Setup(Level.Trial)
+    public void prepare() {
+      CodeLoader loader = new CodeLoader();
+      piDigits = loader.groovy("BigNumbers", "pi_digits", genericMethodType(1));
+      factorial = loader.groovy("BigNumbers", "factorial", genericMethodType(1));
+      fibonacci = loader.groovy("BigNumbers", "fibonacci", genericMethodType(1));
+      compoundInterest = loader.groovy("BigNumbers", "compound_interest", genericMethodType(3));
+    }
+  }
+
+  @State(Scope.Thread)
+  static public class GroovyIndyState {
+
+    MethodHandle piDigits;
+    MethodHandle factorial;
+    MethodHandle fibonacci;
+    MethodHandle compoundInterest;
+
+    @Setup(Level.Trial)
+    public void prepare() {
+      CodeLoader loader = new CodeLoader();
+      piDigits = loader.groovy_indy("BigNumbers", "pi_digits", genericMethodType(1));
+      factorial = loader.groovy_indy("BigNumbers", "factorial", genericMethodType(1));
+      fibonacci = loader.groovy_indy("BigNumbers", "fibonacci", genericMethodType(1));
+      compoundInterest = loader.groovy_indy("BigNumbers", "compound_interest", genericMethodType(3));
+    }
+  }
+
+  @State(Scope.Thread)
+  static public class ClojureState {
+
+    Var piDigits;
+    Var factorial;
+    Var fibonacci;
+    Var compoundInterest;
+
+    @Setup(Level.Trial)
+    public void prepare() {
+      CodeLoader loader = new CodeLoader();
+      piDigits = loader.clojure("big-numbers", "big-numbers", "pi-digits");
+      factorial = loader.clojure("big-numbers", "big-numbers", "factorial");
+      fibonacci = loader.clojure("big-numbers", "big-numbers", "fibonacci");
+      compoundInterest = loader.clojure("big-numbers", "big-numbers", "compound-interest");
+    }
+  }
+
+  @State(Scope.Thread)
+  static public class JRubyState {
+
+    JRubyContainerAndReceiver containerAndReceiver;
+
+    @Setup(Level.Trial)
+    public void prepare() {
+      containerAndReceiver = new CodeLoader().jruby("big-numbers");
+    }
+
+    Object call(String method, Object... args) {
+      return containerAndReceiver.container().callMethod(containerAndReceiver.receiver(), method, args);
+    }
+
+    // Keeps the result as a Ruby object instead of converting it to its Java counterpart
+    IRubyObject rubyCall(String method, Object... args) {
+      return containerAndReceiver.container().callMethod(containerAndReceiver.receiver(), method, args, IRubyObject.class);
+    }
+  }
+
+  @State(Scope.Thread)
+  static public class NashornState {
+
+    Invocable invocable;
+
+    @Setup(Level.Trial)
+    public void prepare() {
+      invocable = (Invocable) new CodeLoader().nashorn("big-numbers");
+    }
+  }
+
+  @State(Scope.Thread)
+  static public class JythonState {
+
+    PyFunction piDigits;
+    PyFunction factorial;
+    PyFunction fibonacci;
+    PyFunction compoundInterest;
+    PyFunction decimal;
+
+    @Setup(Level.Trial)
+    public void prepare() {
+      PythonInterpreter interpreter = new CodeLoader().jython("big-numbers");
+      piDigits = (PyFunction) interpreter.get("pi_digits");
+      factorial = (PyFunction) interpreter.get("factorial");
+      fibonacci = (PyFunction) interpreter.get("fibonacci");
+      compoundInterest = (PyFunction) interpreter.get("compound_interest");
+      decimal = (PyFunction) interpreter.get("decimal");
+    }
+  }
+
+  /* ................................................................................................................ */
+
+  @Benchmark
+  public Object pi_digits_baseline_java(PiState piState) {
+    return JavaBigNumbers.piDigits(piState.digits);
+  }
+
+  @Benchmark
+  public Object pi_digits_golo(PiState piState, GoloState goloState) throws Throwable {
+    return goloState.piDigits.invokeExact(piState.boxedDigits);
+  }
+
+  @Benchmark
+  public Object pi_digits_groovy(PiState piState, GroovyState groovyState) throws Throwable {
+    return groovyState.piDigits.invokeExact(piState.boxedDigits);
+  }
+
+  @Benchmark
+  public Object pi_digits_groovy_indy(PiState piState, GroovyIndyState groovyState) throws Throwable {
+    return groovyState.piDigits.invokeExact(piState.boxedDigits);
+  }
+
+  @Benchmark
+  public Object pi_digits_clojure(PiState piState, ClojureState clojureState) {
+    return clojureState.piDigits.invoke(piState.boxedDigits);
+  }
+
+  @Benchmark
+  public Object pi_digits_jruby(PiState piState, JRubyState jRubyState) {
+    return jRubyState.call("pi_digits", piState.boxedDigits);
+  }
+
+  @Benchmark
+  public Object pi_digits_nashorn(PiState piState, NashornState nashornState) throws Throwable {
+    return nashornState.invocable.invokeFunction("pi_digits", piState.boxedDigits);
+  }
+
+  @Benchmark
+  public Object pi_digits_jython(PiState piState, JythonState jythonState) {
+    return jythonState.piDigits.__call__(piState.pyDigits);
+  }
+
+  /* ................................................................................................................ */
+
+  @Benchmark
+  public Object factorial_baseline_java(FactorialState factorialState) {
+    return JavaBigNumbers.factorial(factorialState.factorialN);
+  }
+
+  @Benchmark
+  public Object factorial_golo(FactorialState factorialState, GoloState goloState) throws Throwable {
+    return goloState.factorial.invokeExact(factorialState.boxedN);
+  }
+
+  @Benchmark
+  public Object factorial_groovy(FactorialState factorialState, GroovyState groovyState) throws Throwable {
+    return groovyState.factorial.invokeExact(factorialState.boxedN);
+  }
+
+  @Benchmark
+  public Object factorial_groovy_indy(FactorialState factorialState, GroovyIndyState groovyState) throws Throwable {
+    return groovyState.factorial.invokeExact(factorialState.boxedN);
+  }
+
+  @Benchmark
+  public Object factorial_clojure(FactorialState factorialState, ClojureState clojureState) {
+    return clojureState.factorial.invoke(factorialState.boxedN);
+  }
+
+  @Benchmark
+  public Object factorial_jruby(FactorialState factorialState, JRubyState jRubyState) {
+    return jRubyState.call("factorial", factorialState.boxedN);
+  }
+
+  @Benchmark
+  public Object factorial_nashorn(FactorialState factorialState, NashornState nashornState) throws Throwable {
+    return nashornState.invocable.invokeFunction("factorial", factorialState.boxedN);
+  }
+
+  @Benchmark
+  public Object factorial_jython(FactorialState factorialState, JythonState jythonState) {
+    return jythonState.factorial.__call__(factorialState.pyN);
+  }
+
+  /* ................................................................................................................ */
+
+  @Benchmark
+  public Object fibonacci_baseline_java(FibonacciState fibonacciState) {
+    return JavaBigNumbers.fibonacci(fibonacciState.fibonacciN);
+  }
+
+  @Benchmark
+  public Object fibonacci_golo(FibonacciState fibonacciState, GoloState goloState) throws Throwable {
+    return goloState.fibonacci.invokeExact(fibonacciState.boxedN);
+  }
+
+  @Benchmark
+  public Object fibonacci_groovy(FibonacciState fibonacciState, GroovyState groovyState) throws Throwable {
+    return groovyState.fibonacci.invokeExact(fibonacciState.boxedN);
+  }
+
+  @Benchmark
+  public Object fibonacci_groovy_indy(FibonacciState fibonacciState, GroovyIndyState groovyState) throws Throwable {
+    return groovyState.fibonacci.invokeExact(fibonacciState.boxedN);
+  }
+
+  @Benchmark
+  public Object fibonacci_clojure(FibonacciState fibonacciState, ClojureState clojureState) {
+    return clojureState.fibonacci.invoke(fibonacciState.boxedN);
+  }
+
+  @Benchmark
+  public Object fibonacci_jruby(FibonacciState fibonacciState, JRubyState jRubyState) {
+    return jRubyState.call("fibonacci", fibonacciState.boxedN);
+  }
+
+  @Benchmark
+  public Object fibonacci_nashorn(FibonacciState fibonacciState, NashornState nashornState) throws Throwable {
+    return nashornState.invocable.invokeFunction("fibonacci", fibonacciState.boxedN);
+  }
+
+  @Benchmark
+  public Object fibonacci_jython(FibonacciState fibonacciState, JythonState jythonState) {
+    return jythonState.fibonacci.__call__(fibonacciState.pyN);
+  }
+
+  /* ................................................................................................................ */
+
+  @Benchmark
+  public Object compound_interest_baseline_java(InterestState interestState) {
+    return JavaBigNumbers.compoundInterest(interestState.principal, interestState.rate, interestState.periods);
+  }
+
+  @Benchmark
+  public Object compound_interest_golo(InterestState interestState, GoloState goloState) throws Throwable {
+    return goloState.compoundInterest.invokeExact((Object) interestState.principal, (Object) interestState.rate, interestState.boxedPeriods);
+  }
+
+  @Benchmark
+  public Object compound_interest_groovy(InterestState interestState, GroovyState groovyState) throws Throwable {
+    return groovyState.compoundInterest.invokeExact((Object) interestState.principal, (Object) interestState.rate, interestState.boxedPeriods);
+  }
+
+  @Benchmark
+  public Object compound_interest_groovy_indy(InterestState interestState, GroovyIndyState groovyState) throws Throwable {
+    return groovyState.compoundInterest.invokeExact((Object) interestState.principal, (Object) interestState.rate, interestState.boxedPeriods);
+  }
+
+  @Benchmark
+  public Object compound_interest_clojure(InterestState interestState, ClojureState clojureState) {
+    return clojureState.compoundInterest.invoke(interestState.principal, interestState.rate, interestState.boxedPeriods);
+  }
+
+  @Benchmark
+  public Object compound_interest_jruby(InterestState interestState, JRubyInterestState jRubyInterestState, JRubyState jRubyState) {
+    return jRubyState.call("compound_interest", jRubyInterestState.principal, jRubyInterestState.rate, interestState.boxedPeriods);
+  }
+
+  @Benchmark
+  public Object compound_interest_nashorn(InterestState interestState, NashornState nashornState) throws Throwable {
+    return nashornState.invocable.invokeFunction("compound_interest", interestState.principal, interestState.rate, interestState.boxedPeriods);
+  }
+
+  @Benchmark
+  public Object compound_interest_jython(JythonInterestState jythonInterestState, JythonState jythonState) {
+    return jythonState.compoundInterest.__call__(jythonInterestState.principal, jythonInterestState.rate, jythonInterestState.periods);
+  }
+
+  /* ................................................................................................................ */
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2012-2016 Institut National des Sciences Appliquées de Lyon (INSA-Lyon)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gololang.microbenchmarks.arithmetic;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+
+// Reference implementations of the big-numbers snippets, every language returns the same values
+public class JavaBigNumbers {
+
+  private static final BigInteger TWO = BigInteger.valueOf(2L);
+  private static final BigInteger THREE = BigInteger.valueOf(3L);
+  private static final BigInteger FOUR = BigInteger.valueOf(4L);
+  private static final BigInteger SEVEN = BigInteger.valueOf(7L);
+
+  // Gibbons' unbounded spigot
+  public static String piDigits(int count) {
+    StringBuilder digits = new StringBuilder(count);
+    BigInteger q = BigInteger.ONE;
+    BigInteger r = BigInteger.ZERO;
+    BigInteger t = BigInteger.ONE;
+    BigInteger k = BigInteger.ONE;
+    BigInteger n = THREE;
+    BigInteger l = THREE;
+    while (digits.length() < count) {
+      if (FOUR.multiply(q).add(r).subtract(t).compareTo(n.multiply(t)) < 0) {
+        digits.append(n);
+        BigInteger nr = BigInteger.TEN.multiply(r.subtract(n.multiply(t)));
+        n = BigInteger.TEN.multiply(THREE.multiply(q).add(r)).divide(t).subtract(BigInteger.TEN.multiply(n));
+        q = q.multiply(BigInteger.TEN);
+        r = nr;
+      } else {
+        BigInteger nr = TWO.multiply(q).add(r).multiply(l);
+        BigInteger nn = q.multiply(SEVEN.multiply(k)).add(TWO).add(r.multiply(l)).divide(t.multiply(l));
+        q = q.multiply(k);
+        t = t.multiply(l);
+        l = l.add(TWO);
+        k = k.add(BigInteger.ONE);
+        n = nn;
+        r = nr;
+      }
+    }
+    return digits.toString();
+  }
+
+  public static BigInteger factorial(int n) {
+    BigInteger result = BigInteger.ONE;
+    for (int i = 2; i <= n; i++) {
+      result = result.multiply(BigInteger.valueOf(i));
+    }
+    return result;
+  }
+
+  public static BigInteger fibonacci(int n) {
+    BigInteger a = BigInteger.ZERO;
+    BigInteger b = BigInteger.ONE;
+    for (int i = 0; i < n; i++) {
+      BigInteger next = a.add(b);
+      a = b;
+      b = next;
+    }
+    return a;
+  }
+
+  // Balance after a schedule of periods, the interest of each period being rounded to the cent
+  public static BigDecimal compoundInterest(BigDecimal principal, BigDecimal rate, int periods) {
+    BigDecimal balance = principal;
+    for (int i = 0; i < periods; i++) {
+      BigDecimal interest = balance.multiply(rate).setScale(2, RoundingMode.HALF_EVEN);
+      balance = balance.add(interest);
+    }
+    return balance;
+  }
+}
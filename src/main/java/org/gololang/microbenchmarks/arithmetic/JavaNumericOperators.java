@@ -0,0 +1,177 @@
+/*
+ * Copyright 2012-2016 Institut National des Sciences Appliquées de Lyon (INSA-Lyon)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gololang.microbenchmarks.arithmetic;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+// Hand-written type promotion following the Golo rules for Integer, Long, Double, BigInteger and BigDecimal
+public class JavaNumericOperators {
+
+  private static final int INTEGER = 0;
+  private static final int LONG = 1;
+  private static final int DOUBLE = 2;
+  private static final int BIG_INTEGER = 3;
+  private static final int BIG_DECIMAL = 4;
+
+  private static int kind(Object value) {
+    if (value instanceof Integer) {
+      return INTEGER;
+    } else if (value instanceof Long) {
+      return LONG;
+    } else if (value instanceof Double) {
+      return DOUBLE;
+    } else if (value instanceof BigInteger) {
+      return BIG_INTEGER;
+    } else if (value instanceof BigDecimal) {
+      return BIG_DECIMAL;
+    }
+    throw new IllegalArgumentException("Not a supported number: " + value);
+  }
+
+  private static int promoted(Object a, Object b) {
+    int left = kind(a);
+    int right = kind(b);
+    if ((left == DOUBLE && right == BIG_INTEGER) || (left == BIG_INTEGER && right == DOUBLE)) {
+      return BIG_DECIMAL;
+    }
+    return Math.max(left, right);
+  }
+
+  private static BigInteger bigInteger(Object value) {
+    if (value instanceof BigInteger) {
+      return (BigInteger) value;
+    }
+    return BigInteger.valueOf(((Number) value).longValue());
+  }
+
+  private static BigDecimal bigDecimal(Object value) {
+    if (value instanceof BigDecimal) {
+      return (BigDecimal) value;
+    } else if (value instanceof BigInteger) {
+      return new BigDecimal((BigInteger) value);
+    } else if (value instanceof Double) {
+      return new BigDecimal((Double) value);
+    }
+    return BigDecimal.valueOf(((Number) value).longValue());
+  }
+
+  public static Object plus(Object a, Object b) {
+    switch (promoted(a, b)) {
+      case INTEGER:
+        return (Integer) a + (Integer) b;
+      case LONG:
+        return ((Number) a).longValue() + ((Number) b).longValue();
+      case DOUBLE:
+        return ((Number) a).doubleValue() + ((Number) b).doubleValue();
+      case BIG_INTEGER:
+        return bigInteger(a).add(bigInteger(b));
+      default:
+        return bigDecimal(a).add(bigDecimal(b));
+    }
+  }
+
+  public static Object minus(Object a, Object b) {
+    switch (promoted(a, b)) {
+      case INTEGER:
+        return (Integer) a - (Integer) b;
+      case LONG:
+        return ((Number) a).longValue() - ((Number) b).longValue();
+      case DOUBLE:
+        return ((Number) a).doubleValue() - ((Number) b).doubleValue();
+      case BIG_INTEGER:
+        return bigInteger(a).subtract(bigInteger(b));
+      default:
+        return bigDecimal(a).subtract(bigDecimal(b));
+    }
+  }
+
+  public static Object times(Object a, Object b) {
+    switch (promoted(a, b)) {
+      case INTEGER:
+        return (Integer) a * (Integer) b;
+      case LONG:
+        return ((Number) a).longValue() * ((Number) b).longValue();
+      case DOUBLE:
+        return ((Number) a).doubleValue() * ((Number) b).doubleValue();
+      case BIG_INTEGER:
+        return bigInteger(a).multiply(bigInteger(b));
+      default:
+        return bigDecimal(a).multiply(bigDecimal(b));
+    }
+  }
+
+  public static Object divide(Object a, Object b) {
+    switch (promoted(a, b)) {
+      case INTEGER:
+        return (Integer) a / (Integer) b;
+      case LONG:
+        return ((Number) a).longValue() / ((Number) b).longValue();
+      case DOUBLE:
+        return ((Number) a).doubleValue() / ((Number) b).doubleValue();
+      case BIG_INTEGER:
+        return bigInteger(a).divide(bigInteger(b));
+      default:
+        return bigDecimal(a).divide(bigDecimal(b));
+    }
+  }
+
+  public static Object modulo(Object a, Object b) {
+    switch (promoted(a, b)) {
+      case INTEGER:
+        return (Integer) a % (Integer) b;
+      case LONG:
+        return ((Number) a).longValue() % ((Number) b).longValue();
+      case DOUBLE:
+        return ((Number) a).doubleValue() % ((Number) b).doubleValue();
+      case BIG_INTEGER:
+        return bigInteger(a).remainder(bigInteger(b));
+      default:
+        return bigDecimal(a).remainder(bigDecimal(b));
+    }
+  }
+
+  public static Object less(Object a, Object b) {
+    switch (promoted(a, b)) {
+      case INTEGER:
+        return (Integer) a < (Integer) b;
+      case LONG:
+        return ((Number) a).longValue() < ((Number) b).longValue();
+      case DOUBLE:
+        return ((Number) a).doubleValue() < ((Number) b).doubleValue();
+      case BIG_INTEGER:
+        return bigInteger(a).compareTo(bigInteger(b)) < 0;
+      default:
+        return bigDecimal(a).compareTo(bigDecimal(b)) < 0;
+    }
+  }
+
+  public static Object equals(Object a, Object b) {
+    switch (promoted(a, b)) {
+      case INTEGER:
+        return ((Integer) a).intValue() == ((Integer) b).intValue();
+      case LONG:
+        return ((Number) a).longValue() == ((Number) b).longValue();
+      case DOUBLE:
+        return ((Number) a).doubleValue() == ((Number) b).doubleValue();
+      case BIG_INTEGER:
+        return bigInteger(a).compareTo(bigInteger(b)) == 0;
+      default:
+        return bigDecimal(a).compareTo(bigDecimal(b)) == 0;
+    }
+  }
+}
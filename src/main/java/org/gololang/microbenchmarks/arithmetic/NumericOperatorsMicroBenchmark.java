@@ -0,0 +1,186 @@
+/*
+ * Copyright 2012-2016 Institut National des Sciences Appliquées de Lyon (INSA-Lyon)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gololang.microbenchmarks.arithmetic;
+
+import org.gololang.microbenchmarks.support.CodeLoader;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.invoke.MethodType.genericMethodType;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class NumericOperatorsMicroBenchmark {
+
+  /* ................................................................................................................ */
+
+  private static final int N = 1024;
+
+  private static final String[] TYPES = {"Integer", "Long", "Double", "BigInteger", "BigDecimal"};
+
+  public static Object number(String type, int value) {
+    switch (type) {
+      case "Integer":
+        return value;
+      case "Long":
+        return (long) value;
+      case "Double":
+        return (double) value;
+      case "BigInteger":
+        return BigInteger.valueOf(value);
+      case "BigDecimal":
+        return BigDecimal.valueOf(value);
+      default:
+        throw new IllegalArgumentException("Unknown number type: " + type);
+    }
+  }
+
+  // Right operands are powers of 2 so that BigDecimal divisions always terminate
+  private static int left(Random random) {
+    return 1 + random.nextInt(10_000);
+  }
+
+  private static int right(Random random) {
+    return 1 << random.nextInt(11);
+  }
+
+  /* ................................................................................................................ */
+
+  @State(Scope.Thread)
+  static public class MonomorphicState {
+
+    @Param({"Integer", "Long", "Double", "BigInteger", "BigDecimal"})
+    String left;
+
+    @Param({"Integer", "Long", "Double", "BigInteger", "BigDecimal"})
+    String right;
+
+    Object[] x;
+    Object[] y;
+
+    private int pos = 0;
+
+    public int nextIndex() {
+      int i = pos;
+      pos = (pos + 1) % N;
+      return i;
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+      Random random = new Random(666_999L);
+      x = new Object[N];
+      y = new Object[N];
+      for (int i = 0; i < N; i++) {
+        x[i] = number(left, left(random));
+        y[i] = number(right, right(random));
+      }
+    }
+  }
+
+  @State(Scope.Thread)
+  static public class MixedState {
+
+    Object[] x;
+    Object[] y;
+
+    private int pos = 0;
+
+    public int nextIndex() {
+      int i = pos;
+      pos = (pos + 1) % N;
+      return i;
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+      Random random = new Random(666_999L);
+      x = new Object[N];
+      y = new Object[N];
+      for (int i = 0; i < N; i++) {
+        x[i] = number(TYPES[i % TYPES.length], left(random));
+        y[i] = number(TYPES[(i / TYPES.length) % TYPES.length], right(random));
+      }
+    }
+  }
+
+  @State(Scope.Thread)
+  static public class JavaState {
+
+    @Param({"plus", "minus", "times", "divide", "modulo", "less", "equals"})
+    String operator;
+
+    MethodHandle operatorHandle;
+
+    @Setup(Level.Trial)
+    public void setup() {
+      try {
+        operatorHandle = MethodHandles.lookup().findStatic(JavaNumericOperators.class, operator, genericMethodType(2));
+      } catch (NoSuchMethodException | IllegalAccessException e) {
+        throw new AssertionError(e);
+      }
+    }
+  }
+
+  @State(Scope.Thread)
+  static public class GoloState {
+
+    @Param({"plus", "minus", "times", "divide", "modulo", "less", "equals"})
+    String operator;
+
+    MethodHandle operatorHandle;
+
+    @Setup(Level.Trial)
+    public void setup() {
+      operatorHandle = new CodeLoader().golo("numeric-operators", operator, 2);
+    }
+  }
+
+  /* ................................................................................................................ */
+
+  @Benchmark
+  public Object monomorphic_baseline_java(MonomorphicState dataState, JavaState javaState) throws Throwable {
+    int index = dataState.nextIndex();
+    return javaState.operatorHandle.invokeExact(dataState.x[index], dataState.y[index]);
+  }
+
+  @Benchmark
+  public Object monomorphic_golo(MonomorphicState dataState, GoloState goloState) throws Throwable {
+    int index = dataState.nextIndex();
+    return goloState.operatorHandle.invokeExact(dataState.x[index], dataState.y[index]);
+  }
+
+  @Benchmark
+  public Object mixed_baseline_java(MixedState dataState, JavaState javaState) throws Throwable {
+    int index = dataState.nextIndex();
+    return javaState.operatorHandle.invokeExact(dataState.x[index], dataState.y[index]);
+  }
+
+  @Benchmark
+  public Object mixed_golo(MixedState dataState, GoloState goloState) throws Throwable {
+    int index = dataState.nextIndex();
+    return goloState.operatorHandle.invokeExact(dataState.x[index], dataState.y[index]);
+  }
+
+  /* ................................................................................................................ */
+}
@@ -0,0 +1,344 @@
+/*
+ * Copyright 2012-2016 Institut National des Sciences Appliquées de Lyon (INSA-Lyon)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gololang.microbenchmarks.arrays;
+
+import clojure.lang.Var;
+import org.gololang.microbenchmarks.support.CodeLoader;
+import org.gololang.microbenchmarks.support.JRubyContainerAndReceiver;
+import org.openjdk.jmh.annotations.*;
+import org.python.core.Py;
+import org.python.core.PyObject;
+import org.python.util.PythonInterpreter;
+
+import javax.script.Invocable;
+import java.lang.invoke.MethodHandle;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.invoke.MethodType.genericMethodType;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ArrayKernelsMicroBenchmark {
+
+  /* ................................................................................................................ */
+
+  @State(Scope.Thread)
+  static public class SieveState {
+
+    @Param({"10000", "1000000"})
+    int sieveN;
+
+    Object boxedN;
+    PyObject pyN;
+
+    @Setup(Level.Trial)
+    public void prepare() {
+      boxedN = sieveN;
+      pyN = Py.newInteger(sieveN);
+    }
+  }
+
+  @State(Scope.Thread)
+  static public class FannkuchState {
+
+    @Param({"7", "9"})
+    int fannkuchN;
+
+    Object boxedN;
+    PyObject pyN;
+
+    @Setup(Level.Trial)
+    public void prepare() {
+      boxedN = fannkuchN;
+      pyN = Py.newInteger(fannkuchN);
+    }
+  }
+
+  @State(Scope.Thread)
+  static public class MatrixState {
+
+    // Matrices are n x n
+    @Param({"16", "128"})
+    int matrixN;
+
+    Object boxedN;
+    PyObject pyN;
+
+    @Setup(Level.Trial)
+    public void prepare() {
+      boxedN = matrixN;
+      pyN = Py.newInteger(matrixN);
+    }
+  }
+
+  /* ................................................................................................................ */
+
+  @State(Scope.Thread)
+  static public class GoloState {
+
+    MethodHandle sieveObjects;
+    MethodHandle sievePrimitives;
+    MethodHandle fannkuchObjects;
+    MethodHandle fannkuchPrimitives;
+    MethodHandle matrixMultiplyObjects;
+    MethodHandle matrixMultiplyPrimitives;
+
+    // Each handle comes from its own module so that the array accesses of a kernel only ever see one array type
+    @Setup(Level.Trial)
+    public void prepare() {
+      sieveObjects = new CodeLoader().golo("array-kernels", "sieve_objects", 1);
+      sievePrimitives = new CodeLoader().golo("array-kernels", "sieve_primitives", 1);
+      fannkuchObjects = new CodeLoader().golo("array-kernels", "fannkuch_objects", 1);
+      fannkuchPrimitives = new CodeLoader().golo("array-kernels", "fannkuch_primitives", 1);
+      matrixMultiplyObjects = new CodeLoader().golo("array-kernels", "matrix_multiply_objects", 1);
+      matrixMultiplyPrimitives = new CodeLoader().golo("array-kernels", "matrix_multiply_primitives", 1);
+    }
+  }
+
+  @State(Scope.Thread)
+  static public class GroovyState {
+
+    MethodHandle sieve;
+    MethodHandle fannkuch;
+    MethodHandle matrixMultiply;
+
+    @Setup(Level.Trial)
+    public void prepare() {
+      CodeLoader loader = new CodeLoader();
+      sieve = loader.groovy("ArrayKernels", "sieve", genericMethodType(1));
+      fannkuch = loader.groovy("ArrayKernels", "fannkuch", genericMethodType(1));
+      matrixMultiply = loader.groovy("ArrayKernels", "matrix_multiply", genericMethodType(1));
+    }
+  }
+
+  @State(Scope.Thread)
+  static public class GroovyIndyState {
+
+    MethodHandle sieve;
+    MethodHandle fannkuch;
+    MethodHandle matrixMultiply;
+
+    @Setup(Level.Trial)
+    public void prepare() {
+      CodeLoader loader = new CodeLoader();
+      sieve = loader.groovy_indy("ArrayKernels", "sieve", genericMethodType(1));
+      fannkuch = loader.groovy_indy("ArrayKernels", "fannkuch", genericMethodType(1));
+      matrixMultiply = loader.groovy_indy("ArrayKernels", "matrix_multiply", genericMethodType(1));
+    }
+  }
+
+  @State(Scope.Thread)
+  static public class ClojureState {
+
+    Var sieve;
+    Var fannkuch;
+    Var matrixMultiply;
+
+    @Setup(Level.Trial)
+    public void prepare() {
+      CodeLoader loader = new CodeLoader();
+      sieve = loader.clojure("array-kernels", "array-kernels", "sieve");
+      fannkuch = loader.clojure("array-kernels", "array-kernels", "fannkuch");
+      matrixMultiply = loader.clojure("array-kernels", "array-kernels", "matrix-multiply");
+    }
+  }
+
+  @State(Scope.Thread)
+  static public class JRubyState {
+
+    JRubyContainerAndReceiver containerAndReceiver;
+
+    @Setup(Level.Trial)
+    public void prepare() {
+      containerAndReceiver = new CodeLoader().jruby("array-kernels");
+    }
+
+    Object call(String method, Object n) {
+      return containerAndReceiver.container().callMethod(containerAndReceiver.receiver(), method, n);
+    }
+  }
+
+  @State(Scope.Thread)
+  static public class NashornState {
+
+    Invocable invocable;
+
+    @Setup(Level.Trial)
+    public void prepare() {
+      invocable = (Invocable) new CodeLoader().nashorn("array-kernels");
+    }
+  }
+
+  @State(Scope.Thread)
+  static public class JythonState {
+
+    PyObject sieve;
+    PyObject fannkuch;
+    PyObject matrixMultiply;
+
+    @Setup(Level.Trial)
+    public void prepare() {
+      PythonInterpreter interpreter = new CodeLoader().jython("array-kernels");
+      sieve = interpreter.get("sieve");
+      fannkuch = interpreter.get("fannkuch");
+      matrixMultiply = interpreter.get("matrix_multiply");
+    }
+  }
+
+  /* ................................................................................................................ */
+
+  @Benchmark
+  public int sieve_baseline_java(SieveState sieveState) {
+    return JavaArrayKernels.sieve(sieveState.sieveN);
+  }
+
+  @Benchmark
+  public Object sieve_golo_object_array(SieveState sieveState, GoloState goloState) throws Throwable {
+    return goloState.sieveObjects.invokeExact(sieveState.boxedN);
+  }
+
+  @Benchmark
+  public Object sieve_golo_primitive_array(SieveState sieveState, GoloState goloState) throws Throwable {
+    return goloState.sievePrimitives.invokeExact(sieveState.boxedN);
+  }
+
+  @Benchmark
+  public Object sieve_groovy(SieveState sieveState, GroovyState groovyState) throws Throwable {
+    return groovyState.sieve.invokeExact(sieveState.boxedN);
+  }
+
+  @Benchmark
+  public Object sieve_groovy_indy(SieveState sieveState, GroovyIndyState groovyState) throws Throwable {
+    return groovyState.sieve.invokeExact(sieveState.boxedN);
+  }
+
+  @Benchmark
+  public Object sieve_clojure(SieveState sieveState, ClojureState clojureState) {
+    return clojureState.sieve.invoke(sieveState.boxedN);
+  }
+
+  @Benchmark
+  public Object sieve_jruby(SieveState sieveState, JRubyState jRubyState) {
+    return jRubyState.call("sieve", sieveState.boxedN);
+  }
+
+  @Benchmark
+  public Object sieve_nashorn(SieveState sieveState, NashornState nashornState) throws Throwable {
+    return nashornState.invocable.invokeFunction("sieve", sieveState.boxedN);
+  }
+
+  @Benchmark
+  public Object sieve_jython(SieveState sieveState, JythonState jythonState) {
+    return jythonState.sieve.__call__(sieveState.pyN);
+  }
+
+  /* ................................................................................................................ */
+
+  @Benchmark
+  public int fannkuch_baseline_java(FannkuchState fannkuchState) {
+    return JavaArrayKernels.fannkuch(fannkuchState.fannkuchN);
+  }
+
+  @Benchmark
+  public Object fannkuch_golo_object_array(FannkuchState fannkuchState, GoloState goloState) throws Throwable {
+    return goloState.fannkuchObjects.invokeExact(fannkuchState.boxedN);
+  }
+
+  @Benchmark
+  public Object fannkuch_golo_primitive_array(FannkuchState fannkuchState, GoloState goloState) throws Throwable {
+    return goloState.fannkuchPrimitives.invokeExact(fannkuchState.boxedN);
+  }
+
+  @Benchmark
+  public Object fannkuch_groovy(FannkuchState fannkuchState, GroovyState groovyState) throws Throwable {
+    return groovyState.fannkuch.invokeExact(fannkuchState.boxedN);
+  }
+
+  @Benchmark
+  public Object fannkuch_groovy_indy(FannkuchState fannkuchState, GroovyIndyState groovyState) throws Throwable {
+    return groovyState.fannkuch.invokeExact(fannkuchState.boxedN);
+  }
+
+  @Benchmark
+  public Object fannkuch_clojure(FannkuchState fannkuchState, ClojureState clojureState) {
+    return clojureState.fannkuch.invoke(fannkuchState.boxedN);
+  }
+
+  @Benchmark
+  public Object fannkuch_jruby(FannkuchState fannkuchState, JRubyState jRubyState) {
+    return jRubyState.call("fannkuch", fannkuchState.boxedN);
+  }
+
+  @Benchmark
+  public Object fannkuch_nashorn(FannkuchState fannkuchState, NashornState nashornState) throws Throwable {
+    return nashornState.invocable.invokeFunction("fannkuch", fannkuchState.boxedN);
+  }
+
+  @Benchmark
+  public Object fannkuch_jython(FannkuchState fannkuchState, JythonState jythonState) {
+    return jythonState.fannkuch.__call__(fannkuchState.pyN);
+  }
+
+  /* ................................................................................................................ */
+
+  @Benchmark
+  public long matrix_multiply_baseline_java(MatrixState matrixState) {
+    return JavaArrayKernels.matrixMultiply(matrixState.matrixN);
+  }
+
+  @Benchmark
+  public Object matrix_multiply_golo_object_array(MatrixState matrixState, GoloState goloState) throws Throwable {
+    return goloState.matrixMultiplyObjects.invokeExact(matrixState.boxedN);
+  }
+
+  @Benchmark
+  public Object matrix_multiply_golo_primitive_array(MatrixState matrixState, GoloState goloState) throws Throwable {
+    return goloState.matrixMultiplyPrimitives.invokeExact(matrixState.boxedN);
+  }
+
+  @Benchmark
+  public Object matrix_multiply_groovy(MatrixState matrixState, GroovyState groovyState) throws Throwable {
+    return groovyState.matrixMultiply.invokeExact(matrixState.boxedN);
+  }
+
+  @Benchmark
+  public Object matrix_multiply_groovy_indy(MatrixState matrixState, GroovyIndyState groovyState) throws Throwable {
+    return groovyState.matrixMultiply.invokeExact(matrixState.boxedN);
+  }
+
+  @Benchmark
+  public Object matrix_multiply_clojure(MatrixState matrixState, ClojureState clojureState) {
+    return clojureState.matrixMultiply.invoke(matrixState.boxedN);
+  }
+
+  @Benchmark
+  public Object matrix_multiply_jruby(MatrixState matrixState, JRubyState jRubyState) {
+    return jRubyState.call("matrix_multiply", matrixState.boxedN);
+  }
+
+  @Benchmark
+  public Object matrix_multiply_nashorn(MatrixState matrixState, NashornState nashornState) throws Throwable {
+    return nashornState.invocable.invokeFunction("matrix_multiply", matrixState.boxedN);
+  }
+
+  @Benchmark
+  public Object matrix_multiply_jython(MatrixState matrixState, JythonState jythonState) {
+    return jythonState.matrixMultiply.__call__(matrixState.pyN);
+  }
+
+  /* ................................................................................................................ */
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2012-2016 Institut National des Sciences Appliquées de Lyon (INSA-Lyon)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gololang.microbenchmarks.arrays;
+
+// Every kernel builds its own data from the size, so that all the languages get exactly the same work
+public class JavaArrayKernels {
+
+  // Number of primes up to n
+  public static int sieve(int n) {
+    boolean[] composite = new boolean[n + 1];
+    int count = 0;
+    for (int i = 2; i <= n; i++) {
+      if (!composite[i]) {
+        count = count + 1;
+        for (int j = 2 * i; j <= n; j = j + i) {
+          composite[j] = true;
+        }
+      }
+    }
+    return count;
+  }
+
+  // Checksum of fannkuch-redux from the computer language benchmarks game
+  public static int fannkuch(int n) {
+    int[] perm = new int[n];
+    int[] perm1 = new int[n];
+    int[] count = new int[n];
+    for (int i = 0; i < n; i++) {
+      perm1[i] = i;
+    }
+    int checksum = 0;
+    int permutations = 0;
+    int r = n;
+    while (true) {
+      while (r != 1) {
+        count[r - 1] = r;
+        r = r - 1;
+      }
+      for (int i = 0; i < n; i++) {
+        perm[i] = perm1[i];
+      }
+      int flips = 0;
+      int k = perm[0];
+      while (k != 0) {
+        for (int i = 0, j = k; i < j; i++, j--) {
+          int t = perm[i];
+          perm[i] = perm[j];
+          perm[j] = t;
+        }
+        flips = flips + 1;
+        k = perm[0];
+      }
+      checksum = checksum + (permutations % 2 == 0 ? flips : -flips);
+      while (true) {
+        if (r == n) {
+          return checksum;
+        }
+        int perm0 = perm1[0];
+        for (int i = 0; i < r; i++) {
+          perm1[i] = perm1[i + 1];
+        }
+        perm1[r] = perm0;
+        count[r] = count[r] - 1;
+        if (count[r] > 0) {
+          break;
+        }
+        r = r + 1;
+      }
+      permutations = permutations + 1;
+    }
+  }
+
+  // Sum of the elements of the product of two n x n matrices stored row by row
+  public static long matrixMultiply(int n) {
+    long[] a = new long[n * n];
+    long[] b = new long[n * n];
+    long[] c = new long[n * n];
+    for (int i = 0; i < n; i++) {
+      for (int j = 0; j < n; j++) {
+        a[i * n + j] = (i + 2 * j) % 10;
+        b[i * n + j] = (2 * i + j) % 10;
+      }
+    }
+    for (int i = 0; i < n; i++) {
+      for (int k = 0; k < n; k++) {
+        long aik = a[i * n + k];
+        for (int j = 0; j < n; j++) {
+          c[i * n + j] = c[i * n + j] + aik * b[k * n + j];
+        }
+      }
+    }
+    long sum = 0L;
+    for (int i = 0; i < n * n; i++) {
+      sum = sum + c[i];
+    }
+    return sum;
+  }
+}
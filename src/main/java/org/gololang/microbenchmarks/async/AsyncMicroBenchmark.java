@@ -0,0 +1,258 @@
+/*
+ * Copyright 2012-2016 Institut National des Sciences Appliquées de Lyon (INSA-Lyon)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gololang.microbenchmarks.async;
+
+import gololang.concurrent.async.Future;
+import gololang.concurrent.async.Promise;
+import org.gololang.microbenchmarks.support.CodeLoader;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.invoke.MethodHandle;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Run with -prof gc, and divide the normalized allocation rate by the depth (or width) to get the allocations per
+ * chain stage.
+ *
+ * Each operation builds a chain on a fresh promise, resolves the promise and waits for the end of the chain.
+ * Fan-in futures are resolved in order as gololang.Async.all only copes with in-order resolutions.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class AsyncMicroBenchmark {
+
+  /* ................................................................................................................ */
+
+  private static final IllegalStateException FAILURE = new IllegalStateException("failed");
+
+  /* ................................................................................................................ */
+
+  @State(Scope.Thread)
+  static public class ResolutionState {
+
+    // same_thread: the benchmark thread resolves the promises, other_thread: a resolver thread does
+    @Param({"same_thread", "other_thread"})
+    String resolution;
+
+    boolean sameThread;
+    ExecutorService resolver;
+
+    @Setup(Level.Trial)
+    public void prepare() {
+      switch (resolution) {
+        case "same_thread":
+          sameThread = true;
+          break;
+        case "other_thread":
+          sameThread = false;
+          break;
+        default:
+          throw new IllegalArgumentException("Unknown resolution: " + resolution);
+      }
+      resolver = Executors.newSingleThreadExecutor();
+    }
+
+    @TearDown(Level.Trial)
+    public void cleanup() throws InterruptedException {
+      resolver.shutdown();
+      resolver.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    void set(Promise promise, Object value) {
+      if (sameThread) {
+        promise.set(value);
+      } else {
+        resolver.execute(() -> promise.set(value));
+      }
+    }
+
+    void fail(Promise promise, Throwable error) {
+      if (sameThread) {
+        promise.fail(error);
+      } else {
+        resolver.execute(() -> promise.fail(error));
+      }
+    }
+
+    void complete(CompletableFuture<Integer> future, Integer value) {
+      if (sameThread) {
+        future.complete(value);
+      } else {
+        resolver.execute(() -> future.complete(value));
+      }
+    }
+
+    void completeExceptionally(CompletableFuture<Integer> future, Throwable error) {
+      if (sameThread) {
+        future.completeExceptionally(error);
+      } else {
+        resolver.execute(() -> future.completeExceptionally(error));
+      }
+    }
+  }
+
+  @State(Scope.Thread)
+  static public class ChainState {
+
+    @Param({"1", "4", "16", "64"})
+    int depth;
+  }
+
+  @State(Scope.Thread)
+  static public class FanInState {
+
+    @Param({"2", "8", "64"})
+    int width;
+  }
+
+  @State(Scope.Thread)
+  static public class GoloState {
+
+    MethodHandle mapChain;
+    MethodHandle flatMapChain;
+    MethodHandle failingMapChain;
+    MethodHandle observers;
+    MethodHandle fanIn;
+
+    @Setup(Level.Trial)
+    public void prepare() {
+      mapChain = new CodeLoader().golo("async", "map_chain", 2);
+      flatMapChain = new CodeLoader().golo("async", "flat_map_chain", 2);
+      failingMapChain = new CodeLoader().golo("async", "map_chain", 2);
+      observers = new CodeLoader().golo("async", "observers", 3);
+      fanIn = new CodeLoader().golo("async", "fan_in", 1);
+    }
+  }
+
+  /* ................................................................................................................ */
+
+  @Benchmark
+  public Object map_chain_baseline_java(ChainState chainState, ResolutionState resolutionState) {
+    CompletableFuture<Integer> source = new CompletableFuture<>();
+    CompletableFuture<Integer> result = JavaFutures.mapChain(source, chainState.depth);
+    resolutionState.complete(source, 0);
+    return result.join();
+  }
+
+  @Benchmark
+  public Object map_chain_golo(ChainState chainState, ResolutionState resolutionState, GoloState goloState) throws Throwable {
+    Promise source = new Promise();
+    Object result = goloState.mapChain.invokeExact((Object) source.future(), (Object) chainState.depth);
+    resolutionState.set(source, 0);
+    return ((Future) result).blockingGet();
+  }
+
+  /* ................................................................................................................ */
+
+  @Benchmark
+  public Object flat_map_chain_baseline_java(ChainState chainState, ResolutionState resolutionState) {
+    CompletableFuture<Integer> source = new CompletableFuture<>();
+    CompletableFuture<Integer> result = JavaFutures.flatMapChain(source, chainState.depth);
+    resolutionState.complete(source, 0);
+    return result.join();
+  }
+
+  @Benchmark
+  public Object flat_map_chain_golo(ChainState chainState, ResolutionState resolutionState, GoloState goloState) throws Throwable {
+    Promise source = new Promise();
+    Object result = goloState.flatMapChain.invokeExact((Object) source.future(), (Object) chainState.depth);
+    resolutionState.set(source, 0);
+    return ((Future) result).blockingGet();
+  }
+
+  /* ................................................................................................................ */
+
+  @Benchmark
+  public Object failure_chain_baseline_java(ChainState chainState, ResolutionState resolutionState) {
+    CompletableFuture<Integer> source = new CompletableFuture<>();
+    CompletableFuture<Integer> result = JavaFutures.mapChain(source, chainState.depth);
+    resolutionState.completeExceptionally(source, FAILURE);
+    try {
+      return result.join();
+    } catch (CompletionException e) {
+      return e.getCause();
+    }
+  }
+
+  @Benchmark
+  public Object failure_chain_golo(ChainState chainState, ResolutionState resolutionState, GoloState goloState) throws Throwable {
+    Promise source = new Promise();
+    Object result = goloState.failingMapChain.invokeExact((Object) source.future(), (Object) chainState.depth);
+    resolutionState.fail(source, FAILURE);
+    return ((Future) result).blockingGet();
+  }
+
+  /* ................................................................................................................ */
+
+  // The observers run on the resolving thread, so these only resolve from the benchmark thread
+  @Benchmark
+  public Object observers_baseline_java(ChainState chainState) {
+    List<Object> results = new ArrayList<>();
+    CompletableFuture<Integer> source = new CompletableFuture<>();
+    JavaFutures.observers(source, chainState.depth, results);
+    source.complete(0);
+    return results;
+  }
+
+  @Benchmark
+  public Object observers_golo(ChainState chainState, GoloState goloState) throws Throwable {
+    List<Object> results = new ArrayList<>();
+    Promise source = new Promise();
+    Object future = goloState.observers.invokeExact((Object) source.future(), (Object) chainState.depth, (Object) results);
+    source.set(0);
+    return results;
+  }
+
+  /* ................................................................................................................ */
+
+  @Benchmark
+  public Object fan_in_baseline_java(FanInState fanInState, ResolutionState resolutionState) {
+    List<CompletableFuture<Integer>> sources = new ArrayList<>(fanInState.width);
+    for (int i = 0; i < fanInState.width; i++) {
+      sources.add(new CompletableFuture<>());
+    }
+    CompletableFuture<List<Integer>> result = JavaFutures.fanIn(sources);
+    for (int i = 0; i < fanInState.width; i++) {
+      resolutionState.complete(sources.get(i), i);
+    }
+    return result.join();
+  }
+
+  @Benchmark
+  public Object fan_in_golo(FanInState fanInState, ResolutionState resolutionState, GoloState goloState) throws Throwable {
+    List<Promise> sources = new ArrayList<>(fanInState.width);
+    List<Future> futures = new ArrayList<>(fanInState.width);
+    for (int i = 0; i < fanInState.width; i++) {
+      Promise promise = new Promise();
+      sources.add(promise);
+      futures.add(promise.future());
+    }
+    Object result = goloState.fanIn.invokeExact((Object) futures);
+    for (int i = 0; i < fanInState.width; i++) {
+      resolutionState.set(sources.get(i), i);
+    }
+    return ((Future) result).blockingGet();
+  }
+
+  /* ................................................................................................................ */
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2012-2016 Institut National des Sciences Appliquées de Lyon (INSA-Lyon)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gololang.microbenchmarks.async;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+public class JavaFutures {
+
+  public static CompletableFuture<Integer> mapChain(CompletableFuture<Integer> future, int depth) {
+    CompletableFuture<Integer> result = future;
+    for (int i = 0; i < depth; i++) {
+      result = result.thenApply(value -> value + 1);
+    }
+    return result;
+  }
+
+  public static CompletableFuture<Integer> flatMapChain(CompletableFuture<Integer> future, int depth) {
+    CompletableFuture<Integer> result = future;
+    for (int i = 0; i < depth; i++) {
+      result = result.thenCompose(value -> CompletableFuture.completedFuture(value + 1));
+    }
+    return result;
+  }
+
+  public static CompletableFuture<Integer> observers(CompletableFuture<Integer> future, int depth, List<Object> results) {
+    for (int i = 0; i < depth; i++) {
+      future.thenAccept(results::add);
+      future.exceptionally(error -> {
+        results.add(error);
+        return null;
+      });
+    }
+    return future;
+  }
+
+  public static CompletableFuture<List<Integer>> fanIn(List<CompletableFuture<Integer>> futures) {
+    CompletableFuture<?>[] array = futures.toArray(new CompletableFuture<?>[0]);
+    return CompletableFuture.allOf(array).thenApply(ignored -> {
+      List<Integer> values = new ArrayList<>(futures.size());
+      for (CompletableFuture<Integer> future : futures) {
+        values.add(future.join());
+      }
+      return values;
+    });
+  }
+}
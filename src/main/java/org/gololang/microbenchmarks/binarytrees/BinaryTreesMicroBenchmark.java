@@ -0,0 +1,153 @@
+/*
+ * Copyright 2012-2016 Institut National des Sciences Appliquées de Lyon (INSA-Lyon)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gololang.microbenchmarks.binarytrees;
+
+import clojure.lang.Var;
+import org.gololang.microbenchmarks.support.CodeLoader;
+import org.gololang.microbenchmarks.support.JRubyContainerAndReceiver;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.invoke.MethodHandle;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.invoke.MethodType.genericMethodType;
+
+/*
+ * Every operation builds a tree of 2^(depth + 1) - 1 nodes then walks it, so that all the nodes die young.
+ * Run with -prof gc to get the allocation rate and the GC time next to the throughput.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class BinaryTreesMicroBenchmark {
+
+  /* ................................................................................................................ */
+
+  @State(Scope.Thread)
+  static public class DataState {
+
+    @Param({"4", "10", "16"})
+    int depth;
+
+    Object boxedDepth;
+
+    @Setup(Level.Trial)
+    public void prepare() {
+      boxedDepth = depth;
+    }
+  }
+
+  @State(Scope.Thread)
+  static public class GoloState {
+
+    MethodHandle structTree;
+    MethodHandle dynamicTree;
+    MethodHandle javaTree;
+
+    // Each handle comes from its own module so that the tree walks do not share call sites
+    @Setup(Level.Trial)
+    public void prepare() {
+      structTree = new CodeLoader().golo("binary-trees", "struct_tree", 1);
+      dynamicTree = new CodeLoader().golo("binary-trees", "dynamic_tree", 1);
+      javaTree = new CodeLoader().golo("binary-trees", "java_tree", 1);
+    }
+  }
+
+  @State(Scope.Thread)
+  static public class GroovyState {
+    MethodHandle tree;
+
+    @Setup(Level.Trial)
+    public void prepare() {
+      tree = new CodeLoader().groovy("BinaryTrees", "tree", genericMethodType(1));
+    }
+  }
+
+  @State(Scope.Thread)
+  static public class GroovyIndyState {
+    MethodHandle tree;
+
+    @Setup(Level.Trial)
+    public void prepare() {
+      tree = new CodeLoader().groovy_indy("BinaryTrees", "tree", genericMethodType(1));
+    }
+  }
+
+  @State(Scope.Thread)
+  static public class ClojureState {
+    Var tree;
+
+    @Setup(Level.Trial)
+    public void prepare() {
+      tree = new CodeLoader().clojure("binary-trees", "binary-trees", "tree");
+    }
+  }
+
+  @State(Scope.Thread)
+  static public class JRubyState {
+    JRubyContainerAndReceiver containerAndReceiver;
+
+    @Setup(Level.Trial)
+    public void prepare() {
+      containerAndReceiver = new CodeLoader().jruby("binary-trees");
+    }
+  }
+
+  /* ................................................................................................................ */
+
+  @Benchmark
+  public int baseline_java(DataState dataState) {
+    return JavaTreeNode.tree(dataState.depth);
+  }
+
+  @Benchmark
+  public Object golo_struct(DataState dataState, GoloState goloState) throws Throwable {
+    return goloState.structTree.invokeExact(dataState.boxedDepth);
+  }
+
+  @Benchmark
+  public Object golo_dynamic_object(DataState dataState, GoloState goloState) throws Throwable {
+    return goloState.dynamicTree.invokeExact(dataState.boxedDepth);
+  }
+
+  @Benchmark
+  public Object golo_java_class(DataState dataState, GoloState goloState) throws Throwable {
+    return goloState.javaTree.invokeExact(dataState.boxedDepth);
+  }
+
+  @Benchmark
+  public Object groovy(DataState dataState, GroovyState groovyState) throws Throwable {
+    return groovyState.tree.invokeExact(dataState.boxedDepth);
+  }
+
+  @Benchmark
+  public Object groovy_indy(DataState dataState, GroovyIndyState groovyState) throws Throwable {
+    return groovyState.tree.invokeExact(dataState.boxedDepth);
+  }
+
+  @Benchmark
+  public Object clojure(DataState dataState, ClojureState clojureState) {
+    return clojureState.tree.invoke(dataState.boxedDepth);
+  }
+
+  @Benchmark
+  public Object jruby(DataState dataState, JRubyState jRubyState) {
+    return jRubyState.containerAndReceiver.container()
+        .callMethod(jRubyState.containerAndReceiver.receiver(), "tree", dataState.boxedDepth);
+  }
+
+  /* ................................................................................................................ */
+}
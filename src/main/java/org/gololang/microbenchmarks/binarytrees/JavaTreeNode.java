@@ -0,0 +1,54 @@
+/*
+ * Copyright 2012-2016 Institut National des Sciences Appliquées de Lyon (INSA-Lyon)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gololang.microbenchmarks.binarytrees;
+
+public class JavaTreeNode {
+
+  private final JavaTreeNode left;
+  private final JavaTreeNode right;
+
+  public JavaTreeNode(JavaTreeNode left, JavaTreeNode right) {
+    this.left = left;
+    this.right = right;
+  }
+
+  public JavaTreeNode left() {
+    return left;
+  }
+
+  public JavaTreeNode right() {
+    return right;
+  }
+
+  public static JavaTreeNode create(int depth) {
+    if (depth == 0) {
+      return new JavaTreeNode(null, null);
+    }
+    return new JavaTreeNode(create(depth - 1), create(depth - 1));
+  }
+
+  public int check() {
+    if (left == null) {
+      return 1;
+    }
+    return 1 + left.check() + right.check();
+  }
+
+  public static int tree(int depth) {
+    return create(depth).check();
+  }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2012-2016 Institut National des Sciences Appliquées de Lyon (INSA-Lyon)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gololang.microbenchmarks.calls;
+
+import org.gololang.microbenchmarks.support.CodeLoader;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.invoke.MethodType.genericMethodType;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CallsMicroBenchmark {
+
+  /* ................................................................................................................ */
+
+  @State(Scope.Thread)
+  static public class DataState {
+
+    Object a;
+    Object b;
+    Object c;
+    Object d;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+      Random rand = new Random();
+      a = (long) rand.nextInt();
+      b = (long) rand.nextInt();
+      c = (long) rand.nextInt();
+      d = (long) rand.nextInt();
+    }
+  }
+
+  @State(Scope.Thread)
+  static public class JavaState {
+
+    MethodHandle positionalHandle;
+
+    @Setup(Level.Trial)
+    public void setup() {
+      try {
+        positionalHandle = MethodHandles.lookup().findStatic(JavaCalls.class, "positional", genericMethodType(4));
+      } catch (NoSuchMethodException | IllegalAccessException e) {
+        throw new AssertionError(e);
+      }
+    }
+  }
+
+  @State(Scope.Thread)
+  static public class GoloState {
+
+    MethodHandle positionalHandle;
+    MethodHandle namedHandle;
+    MethodHandle namedShuffledHandle;
+
+    @Setup(Level.Trial)
+    public void setup() {
+      positionalHandle = new CodeLoader().golo("calls", "positional", 4);
+      namedHandle = new CodeLoader().golo("calls", "named", 4);
+      namedShuffledHandle = new CodeLoader().golo("calls", "named_shuffled", 4);
+    }
+  }
+
+  @State(Scope.Thread)
+  static public class JavaVarargsState {
+
+    @Param({"0", "1", "2", "4", "8", "16"})
+    int trailing;
+
+    MethodHandle varargsHandle;
+
+    @Setup(Level.Trial)
+    public void setup() {
+      try {
+        varargsHandle = MethodHandles.lookup().findStatic(JavaCalls.class, "varargs_" + trailing, genericMethodType(1));
+      } catch (NoSuchMethodException | IllegalAccessException e) {
+        throw new AssertionError(e);
+      }
+    }
+  }
+
+  @State(Scope.Thread)
+  static public class GoloVarargsState {
+
+    @Param({"0", "1", "2", "4", "8", "16"})
+    int trailing;
+
+    MethodHandle varargsHandle;
+
+    @Setup(Level.Trial)
+    public void setup() {
+      varargsHandle = new CodeLoader().golo("calls", "varargs_" + trailing, 1);
+    }
+  }
+
+  /* ................................................................................................................ */
+
+  @Benchmark
+  public Object baseline_java_positional(DataState dataState, JavaState javaState) throws Throwable {
+    return javaState.positionalHandle.invokeExact(dataState.a, dataState.b, dataState.c, dataState.d);
+  }
+
+  @Benchmark
+  public Object golo_positional(DataState dataState, GoloState goloState) throws Throwable {
+    return goloState.positionalHandle.invokeExact(dataState.a, dataState.b, dataState.c, dataState.d);
+  }
+
+  @Benchmark
+  public Object golo_named(DataState dataState, GoloState goloState) throws Throwable {
+    return goloState.namedHandle.invokeExact(dataState.a, dataState.b, dataState.c, dataState.d);
+  }
+
+  @Benchmark
+  public Object golo_named_shuffled(DataState dataState, GoloState goloState) throws Throwable {
+    return goloState.namedShuffledHandle.invokeExact(dataState.a, dataState.b, dataState.c, dataState.d);
+  }
+
+  /* ................................................................................................................ */
+
+  @Benchmark
+  public Object baseline_java_varargs(DataState dataState, JavaVarargsState javaState) throws Throwable {
+    return javaState.varargsHandle.invokeExact(dataState.a);
+  }
+
+  @Benchmark
+  public Object golo_varargs(DataState dataState, GoloVarargsState goloState) throws Throwable {
+    return goloState.varargsHandle.invokeExact(dataState.a);
+  }
+
+  /* ................................................................................................................ */
+}
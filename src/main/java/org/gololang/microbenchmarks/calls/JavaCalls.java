@@ -0,0 +1,57 @@
+/*
+ * Copyright 2012-2016 Institut National des Sciences Appliquées de Lyon (INSA-Lyon)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gololang.microbenchmarks.calls;
+
+// Java counterparts of the calls.golo snippet functions, each varargs_N method packing N trailing arguments into the returned array
+public class JavaCalls {
+
+  public static Object combine(Object a, Object b, Object c, Object d) {
+    return (((Long) a - (Long) b) * (Long) c) + (Long) d;
+  }
+
+  public static Object pack(Object first, Object... rest) {
+    return rest;
+  }
+
+  public static Object positional(Object a, Object b, Object c, Object d) {
+    return combine(a, b, c, d);
+  }
+
+  public static Object varargs_0(Object x) {
+    return pack(x);
+  }
+
+  public static Object varargs_1(Object x) {
+    return pack(x, x);
+  }
+
+  public static Object varargs_2(Object x) {
+    return pack(x, x, x);
+  }
+
+  public static Object varargs_4(Object x) {
+    return pack(x, x, x, x, x);
+  }
+
+  public static Object varargs_8(Object x) {
+    return pack(x, x, x, x, x, x, x, x, x);
+  }
+
+  public static Object varargs_16(Object x) {
+    return pack(x, x, x, x, x, x, x, x, x, x, x, x, x, x, x, x, x);
+  }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2012-2016 Institut National des Sciences Appliquées de Lyon (INSA-Lyon)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gololang.microbenchmarks.collections;
+
+// Literals hold the integers from 0 to size - 1, maps being keyed and valued by the same integers
+public class CollectionLiterals {
+
+  public static final String MODULE = "gen.CollectionLiterals";
+
+  public static final String[] KINDS = {"list", "vector", "set", "map", "tuple", "array"};
+
+  public static String generate(int size) {
+    StringBuilder source = new StringBuilder("module " + MODULE + "\n");
+    for (String kind : KINDS) {
+      source.append("\nfunction new_").append(kind).append(" = -> ").append(kind).append("[");
+      for (int i = 0; i < size; i++) {
+        if (i > 0) {
+          source.append(", ");
+        }
+        if (kind.equals("map")) {
+          source.append("[").append(i).append(", ").append(i).append("]");
+        } else {
+          source.append(i);
+        }
+      }
+      source.append("]\n");
+    }
+    return source.toString();
+  }
+}
@@ -0,0 +1,478 @@
+/*
+ * Copyright 2012-2016 Institut National des Sciences Appliquées de Lyon (INSA-Lyon)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gololang.microbenchmarks.collections;
+
+import org.gololang.microbenchmarks.support.CodeLoader;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.invoke.MethodHandle;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CollectionsMicroBenchmark {
+
+  /* ................................................................................................................ */
+
+  private static Integer[] values(int size) {
+    Integer[] values = new Integer[size];
+    for (int i = 0; i < size; i++) {
+      values[i] = i;
+    }
+    return values;
+  }
+
+  private static MethodHandle literal(String kind, int size) {
+    return new CodeLoader().goloFromSources("new_" + kind, 0, CollectionLiterals.generate(size));
+  }
+
+  /* ................................................................................................................ */
+
+  @State(Scope.Thread)
+  static public class ConstructionState {
+
+    @Param({"0", "1", "4", "16", "64"})
+    int size;
+
+    Integer[] values;
+
+    MethodHandle newList;
+    MethodHandle newVector;
+    MethodHandle newSet;
+    MethodHandle newMap;
+    MethodHandle newTuple;
+    MethodHandle newArray;
+
+    @Setup(Level.Trial)
+    public void prepare() {
+      values = values(size);
+      newList = literal("list", size);
+      newVector = literal("vector", size);
+      newSet = literal("set", size);
+      newMap = literal("map", size);
+      newTuple = literal("tuple", size);
+      newArray = literal("array", size);
+    }
+  }
+
+  // Every Golo handle comes from a separately loaded module, so each call site only ever sees one collection type
+  @State(Scope.Thread)
+  static public class DataState {
+
+    @Param({"1", "4", "16", "64"})
+    int size;
+
+    Integer[] values;
+
+    LinkedList<Integer> javaLinkedList;
+    ArrayList<Integer> javaArrayList;
+    Set<Integer> javaSet;
+    Map<Integer, Integer> javaMap;
+
+    Object goloList;
+    Object goloVector;
+    Object goloSet;
+    Object goloMap;
+    Object goloTuple;
+    Object goloArray;
+
+    MethodHandle listGet;
+    MethodHandle vectorGet;
+    MethodHandle tupleGet;
+    MethodHandle arrayGet;
+    MethodHandle mapGet;
+    MethodHandle setContains;
+
+    MethodHandle listSum;
+    MethodHandle vectorSum;
+    MethodHandle setSum;
+    MethodHandle tupleSum;
+    MethodHandle arraySum;
+
+    MethodHandle listAppend;
+    MethodHandle vectorAppend;
+    MethodHandle listPrepend;
+    MethodHandle vectorPrepend;
+    MethodHandle listHead;
+    MethodHandle tupleHead;
+    MethodHandle listTail;
+    MethodHandle tupleTail;
+    MethodHandle listFind;
+    MethodHandle tupleFind;
+    MethodHandle listEach;
+    MethodHandle tupleEach;
+    MethodHandle listCount;
+    MethodHandle tupleCount;
+
+    private int pos = 0;
+
+    public Integer next() {
+      Integer value = values[pos];
+      pos = (pos + 1) % size;
+      return value;
+    }
+
+    private static MethodHandle load(String func, int argCount) {
+      return new CodeLoader().golo("collections", func, argCount);
+    }
+
+    @Setup(Level.Trial)
+    public void prepare() throws Throwable {
+      values = values(size);
+
+      javaLinkedList = new LinkedList<>(Arrays.asList(values));
+      javaArrayList = new ArrayList<>(Arrays.asList(values));
+      javaSet = new LinkedHashSet<>(Arrays.asList(values));
+      javaMap = new LinkedHashMap<>();
+      for (Integer value : values) {
+        javaMap.put(value, value);
+      }
+
+      goloList = literal("list", size).invokeExact();
+      goloVector = literal("vector", size).invokeExact();
+      goloSet = literal("set", size).invokeExact();
+      goloMap = literal("map", size).invokeExact();
+      goloTuple = literal("tuple", size).invokeExact();
+      goloArray = literal("array", size).invokeExact();
+
+      listGet = load("get", 2);
+      vectorGet = load("get", 2);
+      tupleGet = load("get", 2);
+      arrayGet = load("get", 2);
+      mapGet = load("get", 2);
+      setContains = load("contains", 2);
+
+      listSum = load("sum", 1);
+      vectorSum = load("sum", 1);
+      setSum = load("sum", 1);
+      tupleSum = load("sum", 1);
+      arraySum = load("sum", 1);
+
+      listAppend = load("append", 2);
+      vectorAppend = load("append", 2);
+      listPrepend = load("prepend", 2);
+      vectorPrepend = load("prepend", 2);
+      listHead = load("head", 1);
+      tupleHead = load("head", 1);
+      listTail = load("tail", 1);
+      tupleTail = load("tail", 1);
+      listFind = load("find", 2);
+      tupleFind = load("find", 2);
+      listEach = load("each", 1);
+      tupleEach = load("each", 1);
+      listCount = load("count", 1);
+      tupleCount = load("count", 1);
+    }
+  }
+
+  /* ................................................................................................................ */
+
+  @Benchmark
+  public Object baseline_java_new_linked_list(ConstructionState state) {
+    return new LinkedList<>(Arrays.asList(state.values));
+  }
+
+  @Benchmark
+  public Object baseline_java_new_array_list(ConstructionState state) {
+    return new ArrayList<>(Arrays.asList(state.values));
+  }
+
+  @Benchmark
+  public Object baseline_java_new_set(ConstructionState state) {
+    return new LinkedHashSet<>(Arrays.asList(state.values));
+  }
+
+  @Benchmark
+  public Object baseline_java_new_map(ConstructionState state) {
+    Map<Integer, Integer> map = new LinkedHashMap<>();
+    for (Integer value : state.values) {
+      map.put(value, value);
+    }
+    return map;
+  }
+
+  @Benchmark
+  public Object baseline_java_new_unmodifiable_list(ConstructionState state) {
+    return Collections.unmodifiableList(Arrays.asList(state.values.clone()));
+  }
+
+  @Benchmark
+  public Object baseline_java_new_array(ConstructionState state) {
+    return state.values.clone();
+  }
+
+  @Benchmark
+  public Object golo_new_list(ConstructionState state) throws Throwable {
+    return state.newList.invokeExact();
+  }
+
+  @Benchmark
+  public Object golo_new_vector(ConstructionState state) throws Throwable {
+    return state.newVector.invokeExact();
+  }
+
+  @Benchmark
+  public Object golo_new_set(ConstructionState state) throws Throwable {
+    return state.newSet.invokeExact();
+  }
+
+  @Benchmark
+  public Object golo_new_map(ConstructionState state) throws Throwable {
+    return state.newMap.invokeExact();
+  }
+
+  @Benchmark
+  public Object golo_new_tuple(ConstructionState state) throws Throwable {
+    return state.newTuple.invokeExact();
+  }
+
+  @Benchmark
+  public Object golo_new_array(ConstructionState state) throws Throwable {
+    return state.newArray.invokeExact();
+  }
+
+  /* ................................................................................................................ */
+
+  @Benchmark
+  public Object baseline_java_linked_list_get(DataState state) {
+    return state.javaLinkedList.get(state.next());
+  }
+
+  @Benchmark
+  public Object baseline_java_array_list_get(DataState state) {
+    return state.javaArrayList.get(state.next());
+  }
+
+  @Benchmark
+  public Object baseline_java_array_get(DataState state) {
+    return state.values[state.next()];
+  }
+
+  @Benchmark
+  public Object baseline_java_map_get(DataState state) {
+    return state.javaMap.get(state.next());
+  }
+
+  @Benchmark
+  public boolean baseline_java_set_contains(DataState state) {
+    return state.javaSet.contains(state.next());
+  }
+
+  @Benchmark
+  public Object golo_list_get(DataState state) throws Throwable {
+    return state.listGet.invokeExact(state.goloList, (Object) state.next());
+  }
+
+  @Benchmark
+  public Object golo_vector_get(DataState state) throws Throwable {
+    return state.vectorGet.invokeExact(state.goloVector, (Object) state.next());
+  }
+
+  @Benchmark
+  public Object golo_tuple_get(DataState state) throws Throwable {
+    return state.tupleGet.invokeExact(state.goloTuple, (Object) state.next());
+  }
+
+  @Benchmark
+  public Object golo_array_get(DataState state) throws Throwable {
+    return state.arrayGet.invokeExact(state.goloArray, (Object) state.next());
+  }
+
+  @Benchmark
+  public Object golo_map_get(DataState state) throws Throwable {
+    return state.mapGet.invokeExact(state.goloMap, (Object) state.next());
+  }
+
+  @Benchmark
+  public Object golo_set_contains(DataState state) throws Throwable {
+    return state.setContains.invokeExact(state.goloSet, (Object) state.next());
+  }
+
+  /* ................................................................................................................ */
+
+  @Benchmark
+  public long baseline_java_linked_list_sum(DataState state) {
+    long acc = 0L;
+    for (Integer value : state.javaLinkedList) {
+      acc = acc + value;
+    }
+    return acc;
+  }
+
+  @Benchmark
+  public long baseline_java_array_sum(DataState state) {
+    long acc = 0L;
+    for (Integer value : state.values) {
+      acc = acc + value;
+    }
+    return acc;
+  }
+
+  @Benchmark
+  public Object golo_list_sum(DataState state) throws Throwable {
+    return state.listSum.invokeExact(state.goloList);
+  }
+
+  @Benchmark
+  public Object golo_vector_sum(DataState state) throws Throwable {
+    return state.vectorSum.invokeExact(state.goloVector);
+  }
+
+  @Benchmark
+  public Object golo_set_sum(DataState state) throws Throwable {
+    return state.setSum.invokeExact(state.goloSet);
+  }
+
+  @Benchmark
+  public Object golo_tuple_sum(DataState state) throws Throwable {
+    return state.tupleSum.invokeExact(state.goloTuple);
+  }
+
+  @Benchmark
+  public Object golo_array_sum(DataState state) throws Throwable {
+    return state.arraySum.invokeExact(state.goloArray);
+  }
+
+  /* ................................................................................................................ */
+
+  @Benchmark
+  public Object baseline_java_linked_list_add_last(DataState state) {
+    state.javaLinkedList.addLast(state.next());
+    return state.javaLinkedList.removeLast();
+  }
+
+  @Benchmark
+  public Object baseline_java_array_list_add_last(DataState state) {
+    state.javaArrayList.add(state.next());
+    return state.javaArrayList.remove(state.javaArrayList.size() - 1);
+  }
+
+  @Benchmark
+  public Object baseline_java_linked_list_add_first(DataState state) {
+    state.javaLinkedList.addFirst(state.next());
+    return state.javaLinkedList.removeFirst();
+  }
+
+  @Benchmark
+  public Object baseline_java_array_list_add_first(DataState state) {
+    state.javaArrayList.add(0, state.next());
+    return state.javaArrayList.remove(0);
+  }
+
+  @Benchmark
+  public Object golo_list_append(DataState state) throws Throwable {
+    return state.listAppend.invokeExact(state.goloList, (Object) state.next());
+  }
+
+  @Benchmark
+  public Object golo_vector_append(DataState state) throws Throwable {
+    return state.vectorAppend.invokeExact(state.goloVector, (Object) state.next());
+  }
+
+  @Benchmark
+  public Object golo_list_prepend(DataState state) throws Throwable {
+    return state.listPrepend.invokeExact(state.goloList, (Object) state.next());
+  }
+
+  @Benchmark
+  public Object golo_vector_prepend(DataState state) throws Throwable {
+    return state.vectorPrepend.invokeExact(state.goloVector, (Object) state.next());
+  }
+
+  /* ................................................................................................................ */
+
+  @Benchmark
+  public Object baseline_java_head(DataState state) {
+    return state.javaLinkedList.getFirst();
+  }
+
+  @Benchmark
+  public Object baseline_java_tail(DataState state) {
+    return Collections.unmodifiableList(state.javaLinkedList.subList(1, state.javaLinkedList.size()));
+  }
+
+  @Benchmark
+  public Object baseline_java_find(DataState state) {
+    Integer target = state.next();
+    return state.javaLinkedList.stream().filter(value -> value.equals(target)).findFirst().orElse(null);
+  }
+
+  @Benchmark
+  public long baseline_java_each(DataState state) {
+    long[] acc = new long[1];
+    state.javaLinkedList.forEach(value -> acc[0] = acc[0] + value);
+    return acc[0];
+  }
+
+  @Benchmark
+  public long baseline_java_count(DataState state) {
+    return state.javaLinkedList.stream().filter(value -> value % 2 == 0).count();
+  }
+
+  @Benchmark
+  public Object golo_list_head(DataState state) throws Throwable {
+    return state.listHead.invokeExact(state.goloList);
+  }
+
+  @Benchmark
+  public Object golo_tuple_head(DataState state) throws Throwable {
+    return state.tupleHead.invokeExact(state.goloTuple);
+  }
+
+  @Benchmark
+  public Object golo_list_tail(DataState state) throws Throwable {
+    return state.listTail.invokeExact(state.goloList);
+  }
+
+  @Benchmark
+  public Object golo_tuple_tail(DataState state) throws Throwable {
+    return state.tupleTail.invokeExact(state.goloTuple);
+  }
+
+  @Benchmark
+  public Object golo_list_find(DataState state) throws Throwable {
+    return state.listFind.invokeExact(state.goloList, (Object) state.next());
+  }
+
+  @Benchmark
+  public Object golo_tuple_find(DataState state) throws Throwable {
+    return state.tupleFind.invokeExact(state.goloTuple, (Object) state.next());
+  }
+
+  @Benchmark
+  public Object golo_list_each(DataState state) throws Throwable {
+    return state.listEach.invokeExact(state.goloList);
+  }
+
+  @Benchmark
+  public Object golo_tuple_each(DataState state) throws Throwable {
+    return state.tupleEach.invokeExact(state.goloTuple);
+  }
+
+  @Benchmark
+  public Object golo_list_count(DataState state) throws Throwable {
+    return state.listCount.invokeExact(state.goloList);
+  }
+
+  @Benchmark
+  public Object golo_tuple_count(DataState state) throws Throwable {
+    return state.tupleCount.invokeExact(state.goloTuple);
+  }
+
+  /* ................................................................................................................ */
+}
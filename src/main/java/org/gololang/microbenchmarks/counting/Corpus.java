@@ -0,0 +1,97 @@
+/*
+ * Copyright 2012-2016 Institut National des Sciences Appliquées de Lyon (INSA-Lyon)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gololang.microbenchmarks.counting;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+// Deterministic generated inputs, the same size always gives the same text
+public class Corpus {
+
+  private static final int VOCABULARY = 100_000;
+  private static final int LINE_LENGTH = 80;
+  private static final byte[] NUCLEOTIDES = {'A', 'C', 'G', 'T'};
+
+  // "64KB", "1MB", "1GB"...
+  public static long parseSize(String size) {
+    String unit = size.substring(size.length() - 2);
+    long value = Long.parseLong(size.substring(0, size.length() - 2));
+    switch (unit) {
+      case "KB":
+        return value << 10;
+      case "MB":
+        return value << 20;
+      case "GB":
+        return value << 30;
+      default:
+        throw new IllegalArgumentException("Unknown size unit: " + size);
+    }
+  }
+
+  // Lines of space-separated words, with Zipf-distributed word frequencies as in natural languages
+  public static List<String> words(long size) {
+    Random random = new Random(123_456L);
+    String[] vocabulary = new String[VOCABULARY];
+    double[] cumulative = new double[VOCABULARY];
+    double total = 0.0;
+    for (int i = 0; i < VOCABULARY; i++) {
+      char[] word = new char[2 + random.nextInt(11)];
+      for (int j = 0; j < word.length; j++) {
+        word[j] = (char) ('a' + random.nextInt(26));
+      }
+      vocabulary[i] = new String(word);
+      total = total + 1.0 / (i + 1);
+      cumulative[i] = total;
+    }
+    List<String> lines = new ArrayList<>((int) (size / LINE_LENGTH) + 1);
+    StringBuilder line = new StringBuilder(LINE_LENGTH + 16);
+    long length = 0L;
+    while (length < size) {
+      int index = Arrays.binarySearch(cumulative, random.nextDouble() * total);
+      String word = vocabulary[index < 0 ? Math.min(-index - 1, VOCABULARY - 1) : index];
+      if (line.length() > 0) {
+        line.append(' ');
+      }
+      line.append(word);
+      if (line.length() >= LINE_LENGTH) {
+        lines.add(line.toString());
+        length = length + line.length() + 1;
+        line.setLength(0);
+      }
+    }
+    if (line.length() > 0) {
+      lines.add(line.toString());
+    }
+    return lines;
+  }
+
+  // A single uniformly random DNA sequence
+  public static String dna(long size) {
+    if (size > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("Sequences are limited to 2GB: " + size);
+    }
+    Random random = new Random(654_321L);
+    byte[] sequence = new byte[(int) size];
+    for (int i = 0; i < sequence.length; i++) {
+      sequence[i] = NUCLEOTIDES[random.nextInt(4)];
+    }
+    return new String(sequence, StandardCharsets.US_ASCII);
+  }
+}
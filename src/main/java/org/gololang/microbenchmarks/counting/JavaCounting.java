@@ -0,0 +1,97 @@
+/*
+ * Copyright 2012-2016 Institut National des Sciences Appliquées de Lyon (INSA-Lyon)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gololang.microbenchmarks.counting;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class JavaCounting {
+
+  public static Map<String, Integer> wordCount(List<String> lines) {
+    Map<String, Integer> counts = new HashMap<>();
+    for (String line : lines) {
+      int start = 0;
+      int end = line.indexOf(' ');
+      while (end >= 0) {
+        counts.merge(line.substring(start, end), 1, Integer::sum);
+        start = end + 1;
+        end = line.indexOf(' ', start);
+      }
+      counts.merge(line.substring(start), 1, Integer::sum);
+    }
+    return counts;
+  }
+
+  public static Map<String, Integer> kNucleotide(String dna, int k) {
+    Map<String, Integer> counts = new HashMap<>();
+    for (int i = 0; i <= dna.length() - k; i++) {
+      counts.merge(dna.substring(i, i + k), 1, Integer::sum);
+    }
+    return counts;
+  }
+
+  // Two bits per nucleotide, so fragments up to 31 nucleotides long fit in a non-negative long
+  static long code(char nucleotide) {
+    switch (nucleotide) {
+      case 'A':
+        return 0L;
+      case 'C':
+        return 1L;
+      case 'G':
+        return 2L;
+      case 'T':
+        return 3L;
+      default:
+        throw new IllegalArgumentException("Not a nucleotide: " + nucleotide);
+    }
+  }
+
+  public static long encode(String fragment) {
+    long key = 0L;
+    for (int i = 0; i < fragment.length(); i++) {
+      key = (key << 2) | code(fragment.charAt(i));
+    }
+    return key;
+  }
+
+  public static Map<Long, Integer> kNucleotideBoxedKeys(String dna, int k) {
+    Map<Long, Integer> counts = new HashMap<>();
+    long mask = (1L << (2 * k)) - 1L;
+    long key = 0L;
+    for (int i = 0; i < dna.length(); i++) {
+      key = ((key << 2) | code(dna.charAt(i))) & mask;
+      if (i >= k - 1) {
+        counts.merge(key, 1, Integer::sum);
+      }
+    }
+    return counts;
+  }
+
+  public static LongIntCounter kNucleotidePrimitiveKeys(String dna, int k) {
+    LongIntCounter counts = new LongIntCounter();
+    long mask = (1L << (2 * k)) - 1L;
+    long key = 0L;
+    for (int i = 0; i < dna.length(); i++) {
+      key = ((key << 2) | code(dna.charAt(i))) & mask;
+      if (i >= k - 1) {
+        counts.increment(key);
+      }
+    }
+    return counts;
+  }
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2012-2016 Institut National des Sciences Appliquées de Lyon (INSA-Lyon)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gololang.microbenchmarks.counting;
+
+import clojure.lang.Var;
+import org.gololang.microbenchmarks.support.CodeLoader;
+import org.gololang.microbenchmarks.support.JRubyContainerAndReceiver;
+import org.openjdk.jmh.annotations.*;
+import org.python.core.Py;
+import org.python.core.PyFunction;
+import org.python.core.PyObject;
+
+import java.lang.invoke.MethodHandle;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.invoke.MethodType.genericMethodType;
+
+/*
+ * The larger sequences need a large heap, e.g. -jvmArgs -Xmx8g for 1GB.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class KNucleotideMicroBenchmark {
+
+  /* ................................................................................................................ */
+
+  @State(Scope.Thread)
+  static public class SequenceState {
+
+    @Param({"1MB", "32MB", "1GB"})
+    String corpus;
+
+    // 16 distinct fragments at most vs. up to 16 millions
+    @Param({"2", "12"})
+    int k;
+
+    String dna;
+    Object boxedK;
+
+    @Setup(Level.Trial)
+    public void prepare() {
+      dna = Corpus.dna(Corpus.parseSize(corpus));
+      boxedK = k;
+    }
+  }
+
+  @State(Scope.Thread)
+  static public class GoloState {
+    MethodHandle kNucleotide;
+
+    @Setup(Level.Trial)
+    public void prepare() {
+      kNucleotide = new CodeLoader().golo("counting", "k_nucleotide", 2);
+    }
+  }
+
+  @State(Scope.Thread)
+  static public class GroovyState {
+    MethodHandle kNucleotide;
+
+    @Setup(Level.Trial)
+    public void prepare() {
+      kNucleotide = new CodeLoader().groovy("Counting", "k_nucleotide", genericMethodType(2));
+    }
+  }
+
+  @State(Scope.Thread)
+  static public class GroovyIndyState {
+    MethodHandle kNucleotide;
+
+    @Setup(Level.Trial)
+    public void prepare() {
+      kNucleotide = new CodeLoader().groovy_indy("Counting", "k_nucleotide", genericMethodType(2));
+    }
+  }
+
+  @State(Scope.Thread)
+  static public class ClojureState {
+    Var kNucleotide;
+
+    @Setup(Level.Trial)
+    public void prepare() {
+      kNucleotide = new CodeLoader().clojure("counting", "counting", "k-nucleotide");
+    }
+  }
+
+  @State(Scope.Thread)
+  static public class JRubyState {
+    JRubyContainerAndReceiver containerAndReceiver;
+
+    @Setup(Level.Trial)
+    public void prepare() {
+      containerAndReceiver = new CodeLoader().jruby("counting");
+    }
+  }
+
+  // Only the Jython benchmark pays for a Python copy of the sequence
+  @State(Scope.Thread)
+  static public class JythonState {
+    PyFunction kNucleotide;
+    PyObject pyDna;
+    PyObject pyK;
+
+    @Setup(Level.Trial)
+    public void prepare(SequenceState sequenceState) {
+      kNucleotide = (PyFunction) new CodeLoader().jython("counting").get("k_nucleotide");
+      pyDna = Py.newString(sequenceState.dna);
+      pyK = Py.newInteger(sequenceState.k);
+    }
+  }
+
+  /* ................................................................................................................ */
+
+  @Benchmark
+  public Object baseline_java_string_keys(SequenceState sequenceState) {
+    return JavaCounting.kNucleotide(sequenceState.dna, sequenceState.k);
+  }
+
+  @Benchmark
+  public Object baseline_java_boxed_keys(SequenceState sequenceState) {
+    return JavaCounting.kNucleotideBoxedKeys(sequenceState.dna, sequenceState.k);
+  }
+
+  @Benchmark
+  public Object baseline_java_primitive_keys(SequenceState sequenceState) {
+    return JavaCounting.kNucleotidePrimitiveKeys(sequenceState.dna, sequenceState.k);
+  }
+
+  @Benchmark
+  public Object golo(SequenceState sequenceState, GoloState goloState) throws Throwable {
+    return goloState.kNucleotide.invokeExact((Object) sequenceState.dna, sequenceState.boxedK);
+  }
+
+  @Benchmark
+  public Object groovy(SequenceState sequenceState, GroovyState groovyState) throws Throwable {
+    return groovyState.kNucleotide.invokeExact((Object) sequenceState.dna, sequenceState.boxedK);
+  }
+
+  @Benchmark
+  public Object groovy_indy(SequenceState sequenceState, GroovyIndyState groovyState) throws Throwable {
+    return groovyState.kNucleotide.invokeExact((Object) sequenceState.dna, sequenceState.boxedK);
+  }
+
+  @Benchmark
+  public Object clojure(SequenceState sequenceState, ClojureState clojureState) {
+    return clojureState.kNucleotide.invoke(sequenceState.dna, sequenceState.boxedK);
+  }
+
+  // The Java string is copied into a Ruby string on every call, as any Java string crossing over
+  @Benchmark
+  public Object jruby(SequenceState sequenceState, JRubyState jRubyState) {
+    return jRubyState.containerAndReceiver.container()
+        .callMethod(jRubyState.containerAndReceiver.receiver(), "k_nucleotide", sequenceState.dna, sequenceState.boxedK);
+  }
+
+  @Benchmark
+  public Object jython(JythonState jythonState) {
+    return jythonState.kNucleotide.__call__(jythonState.pyDna, jythonState.pyK);
+  }
+
+  /* ................................................................................................................ */
+}
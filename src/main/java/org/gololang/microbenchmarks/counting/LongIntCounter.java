@@ -0,0 +1,94 @@
+/*
+ * Copyright 2012-2016 Institut National des Sciences Appliquées de Lyon (INSA-Lyon)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gololang.microbenchmarks.counting;
+
+import java.util.Arrays;
+
+// Counts occurrences of non-negative long keys with open addressing over primitive arrays, no boxing at all
+public class LongIntCounter {
+
+  private static final long FREE = -1L;
+
+  private long[] keys;
+  private int[] counts;
+  private int size;
+  private int shift;
+
+  public LongIntCounter() {
+    this(16);
+  }
+
+  public LongIntCounter(int expectedSize) {
+    int capacity = Integer.highestOneBit(Math.max(expectedSize, 8) * 2 - 1) << 1;
+    allocate(capacity);
+  }
+
+  private void allocate(int capacity) {
+    keys = new long[capacity];
+    counts = new int[capacity];
+    Arrays.fill(keys, FREE);
+    shift = 64 - Integer.numberOfTrailingZeros(capacity);
+  }
+
+  private int slot(long key) {
+    int index = (int) ((key * 0x9E3779B97F4A7C15L) >>> shift);
+    int mask = keys.length - 1;
+    while (keys[index] != FREE && keys[index] != key) {
+      index = (index + 1) & mask;
+    }
+    return index;
+  }
+
+  public void increment(long key) {
+    if (key < 0L) {
+      throw new IllegalArgumentException("Negative keys are not supported: " + key);
+    }
+    int index = slot(key);
+    if (keys[index] == FREE) {
+      keys[index] = key;
+      size = size + 1;
+      counts[index] = 1;
+      if (size * 2 > keys.length) {
+        grow();
+      }
+    } else {
+      counts[index] = counts[index] + 1;
+    }
+  }
+
+  public int get(long key) {
+    int index = slot(key);
+    return keys[index] == FREE ? 0 : counts[index];
+  }
+
+  public int size() {
+    return size;
+  }
+
+  private void grow() {
+    long[] oldKeys = keys;
+    int[] oldCounts = counts;
+    allocate(oldKeys.length * 2);
+    for (int i = 0; i < oldKeys.length; i++) {
+      if (oldKeys[i] != FREE) {
+        int index = slot(oldKeys[i]);
+        keys[index] = oldKeys[i];
+        counts[index] = oldCounts[i];
+      }
+    }
+  }
+}
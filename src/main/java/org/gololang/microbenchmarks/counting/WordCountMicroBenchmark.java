@@ -0,0 +1,157 @@
+/*
+ * Copyright 2012-2016 Institut National des Sciences Appliquées de Lyon (INSA-Lyon)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gololang.microbenchmarks.counting;
+
+import clojure.lang.Var;
+import org.gololang.microbenchmarks.support.CodeLoader;
+import org.gololang.microbenchmarks.support.JRubyContainerAndReceiver;
+import org.openjdk.jmh.annotations.*;
+import org.python.core.Py;
+import org.python.core.PyFunction;
+import org.python.core.PyObject;
+
+import java.lang.invoke.MethodHandle;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.invoke.MethodType.genericMethodType;
+
+/*
+ * The larger corpora need a large heap, e.g. -jvmArgs -Xmx8g for 1GB.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class WordCountMicroBenchmark {
+
+  /* ................................................................................................................ */
+
+  @State(Scope.Thread)
+  static public class CorpusState {
+
+    @Param({"1MB", "32MB", "1GB"})
+    String corpus;
+
+    List<String> lines;
+    PyObject pyLines;
+
+    @Setup(Level.Trial)
+    public void prepare() {
+      lines = Corpus.words(Corpus.parseSize(corpus));
+      pyLines = Py.java2py(lines);
+    }
+  }
+
+  @State(Scope.Thread)
+  static public class GoloState {
+    MethodHandle wordCount;
+
+    @Setup(Level.Trial)
+    public void prepare() {
+      wordCount = new CodeLoader().golo("counting", "word_count", 1);
+    }
+  }
+
+  @State(Scope.Thread)
+  static public class GroovyState {
+    MethodHandle wordCount;
+
+    @Setup(Level.Trial)
+    public void prepare() {
+      wordCount = new CodeLoader().groovy("Counting", "word_count", genericMethodType(1));
+    }
+  }
+
+  @State(Scope.Thread)
+  static public class GroovyIndyState {
+    MethodHandle wordCount;
+
+    @Setup(Level.Trial)
+    public void prepare() {
+      wordCount = new CodeLoader().groovy_indy("Counting", "word_count", genericMethodType(1));
+    }
+  }
+
+  @State(Scope.Thread)
+  static public class ClojureState {
+    Var wordCount;
+
+    @Setup(Level.Trial)
+    public void prepare() {
+      wordCount = new CodeLoader().clojure("counting", "counting", "word-count");
+    }
+  }
+
+  @State(Scope.Thread)
+  static public class JRubyState {
+    JRubyContainerAndReceiver containerAndReceiver;
+
+    @Setup(Level.Trial)
+    public void prepare() {
+      containerAndReceiver = new CodeLoader().jruby("counting");
+    }
+  }
+
+  @State(Scope.Thread)
+  static public class JythonState {
+    PyFunction wordCount;
+
+    @Setup(Level.Trial)
+    public void prepare() {
+      wordCount = (PyFunction) new CodeLoader().jython("counting").get("word_count");
+    }
+  }
+
+  /* ................................................................................................................ */
+
+  @Benchmark
+  public Object baseline_java(CorpusState corpusState) {
+    return JavaCounting.wordCount(corpusState.lines);
+  }
+
+  @Benchmark
+  public Object golo(CorpusState corpusState, GoloState goloState) throws Throwable {
+    return goloState.wordCount.invokeExact((Object) corpusState.lines);
+  }
+
+  @Benchmark
+  public Object groovy(CorpusState corpusState, GroovyState groovyState) throws Throwable {
+    return groovyState.wordCount.invokeExact((Object) corpusState.lines);
+  }
+
+  @Benchmark
+  public Object groovy_indy(CorpusState corpusState, GroovyIndyState groovyState) throws Throwable {
+    return groovyState.wordCount.invokeExact((Object) corpusState.lines);
+  }
+
+  @Benchmark
+  public Object clojure(CorpusState corpusState, ClojureState clojureState) {
+    return clojureState.wordCount.invoke(corpusState.lines);
+  }
+
+  @Benchmark
+  public Object jruby(CorpusState corpusState, JRubyState jRubyState) {
+    return jRubyState.containerAndReceiver.container()
+        .callMethod(jRubyState.containerAndReceiver.receiver(), "word_count", corpusState.lines);
+  }
+
+  @Benchmark
+  public Object jython(CorpusState corpusState, JythonState jythonState) {
+    return jythonState.wordCount.__call__(corpusState.pyLines);
+  }
+
+  /* ................................................................................................................ */
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright 2012-2016 Institut National des Sciences Appliquées de Lyon (INSA-Lyon)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gololang.microbenchmarks.dispatch;
+
+import org.gololang.microbenchmarks.support.CodeLoader;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.invoke.MethodType.methodType;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class AugmentationDispatchMicroBenchmark {
+
+  /* ................................................................................................................ */
+
+  private static final String ROOT_INTERFACE = "org.gololang.microbenchmarks.dispatch.AugmentationHierarchy$Root";
+  private static final String ROOT_CLASS = "org.gololang.microbenchmarks.dispatch.AugmentationHierarchy$Level0";
+  private static final String MAP_INTERFACE = "java.util.Map";
+
+  private static final int N = 1024;
+
+  public static Object dispatchJava(AugmentationHierarchy.Root root) {
+    return root.javaTarget();
+  }
+
+  private static String augmentedType(String target) {
+    switch (target) {
+      case "interface":
+        return ROOT_INTERFACE;
+      case "class":
+        return ROOT_CLASS;
+      default:
+        throw new IllegalArgumentException("Unknown augmentation target: " + target);
+    }
+  }
+
+  /* ................................................................................................................ */
+
+  @State(Scope.Thread)
+  static public class JavaState {
+
+    @Param({"0", "4", "8"})
+    int depth;
+
+    MethodHandle target;
+    AugmentationHierarchy.Root receiver;
+
+    @Setup(Level.Trial)
+    public void prepare() {
+      receiver = AugmentationHierarchy.newInstance(depth);
+      try {
+        target = MethodHandles.lookup().findStatic(AugmentationDispatchMicroBenchmark.class, "dispatchJava", methodType(Object.class, AugmentationHierarchy.Root.class));
+      } catch (NoSuchMethodException | IllegalAccessException e) {
+        throw new AssertionError(e);
+      }
+    }
+  }
+
+  @State(Scope.Thread)
+  static public class HierarchyState {
+
+    @Param({"0", "4", "8"})
+    int depth;
+
+    @Param({"interface", "class"})
+    String target;
+
+    @Param({"0", "8", "32"})
+    int augmentations;
+
+    MethodHandle dispatcher;
+    Object receiver;
+
+    @Setup(Level.Trial)
+    public void prepare() {
+      receiver = AugmentationHierarchy.newInstance(depth);
+      dispatcher = new CodeLoader().goloFromSources(
+          AugmentationModules.DISPATCH_FUNCTION, 1,
+          AugmentationModules.generate(augmentedType(target), augmentations));
+    }
+  }
+
+  @State(Scope.Thread)
+  static public class MapState {
+
+    @Param({"0", "8", "32"})
+    int augmentations;
+
+    MethodHandle dispatcher;
+    Object monomorphicReceiver;
+    Object[] megamorphicReceivers;
+
+    private int pos = 0;
+
+    public Object nextReceiver() {
+      Object receiver = megamorphicReceivers[pos];
+      pos = (pos + 1) % N;
+      return receiver;
+    }
+
+    @Setup(Level.Trial)
+    public void prepare() {
+      dispatcher = new CodeLoader().goloFromSources(
+          AugmentationModules.DISPATCH_FUNCTION, 1,
+          AugmentationModules.generate(MAP_INTERFACE, augmentations));
+      monomorphicReceiver = new HashMap<>();
+      Object[] maps = new Object[]{
+          new HashMap<>(),
+          new TreeMap<>(),
+          new LinkedHashMap<>(),
+          new ConcurrentHashMap<>(),
+          new ConcurrentSkipListMap<>(),
+          new Hashtable<>(),
+          new WeakHashMap<>(),
+          new IdentityHashMap<>()
+      };
+      megamorphicReceivers = new Object[N];
+      for (int i = 0; i < N; i++) {
+        megamorphicReceivers[i] = maps[i % maps.length];
+      }
+    }
+  }
+
+  @State(Scope.Thread)
+  static public class LinkageState {
+
+    @Param({"0", "4", "8"})
+    int depth;
+
+    @Param({"interface", "class"})
+    String target;
+
+    @Param({"0", "8", "32"})
+    int augmentations;
+
+    String[] sources;
+    Object receiver;
+    MethodHandle dispatcher;
+
+    @Setup(Level.Trial)
+    public void prepare() {
+      receiver = AugmentationHierarchy.newInstance(depth);
+      sources = AugmentationModules.generate(augmentedType(target), augmentations);
+    }
+
+    // Fresh modules give a fresh, unlinked call site to every invocation
+    @Setup(Level.Invocation)
+    public void reload() {
+      dispatcher = new CodeLoader().goloFromSources(AugmentationModules.DISPATCH_FUNCTION, 1, sources);
+    }
+  }
+
+  /* ................................................................................................................ */
+
+  @Benchmark
+  public Object baseline_java_default_method(JavaState state) throws Throwable {
+    return state.target.invokeExact(state.receiver);
+  }
+
+  @Benchmark
+  public Object golo_hierarchy(HierarchyState state) throws Throwable {
+    return state.dispatcher.invokeExact(state.receiver);
+  }
+
+  @Benchmark
+  public Object golo_map_monomorphic(MapState state) throws Throwable {
+    return state.dispatcher.invokeExact(state.monomorphicReceiver);
+  }
+
+  @Benchmark
+  public Object golo_map_megamorphic(MapState state) throws Throwable {
+    return state.dispatcher.invokeExact(state.nextReceiver());
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.SingleShotTime)
+  @OutputTimeUnit(TimeUnit.MICROSECONDS)
+  @Warmup(iterations = 20)
+  @Measurement(iterations = 50)
+  public Object golo_first_call_linkage(LinkageState state) throws Throwable {
+    return state.dispatcher.invokeExact(state.receiver);
+  }
+
+  /* ................................................................................................................ */
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2012-2016 Institut National des Sciences Appliquées de Lyon (INSA-Lyon)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gololang.microbenchmarks.dispatch;
+
+public class AugmentationHierarchy {
+
+  public static final int MAX_DEPTH = 8;
+
+  public interface Root {
+
+    default Object javaTarget() {
+      return 42;
+    }
+  }
+
+  public static class Level0 implements Root {
+  }
+
+  public static class Level1 extends Level0 {
+  }
+
+  public static class Level2 extends Level1 {
+  }
+
+  public static class Level3 extends Level2 {
+  }
+
+  public static class Level4 extends Level3 {
+  }
+
+  public static class Level5 extends Level4 {
+  }
+
+  public static class Level6 extends Level5 {
+  }
+
+  public static class Level7 extends Level6 {
+  }
+
+  public static class Level8 extends Level7 {
+  }
+
+  public static Root newInstance(int depth) {
+    switch (depth) {
+      case 0:
+        return new Level0();
+      case 1:
+        return new Level1();
+      case 2:
+        return new Level2();
+      case 3:
+        return new Level3();
+      case 4:
+        return new Level4();
+      case 5:
+        return new Level5();
+      case 6:
+        return new Level6();
+      case 7:
+        return new Level7();
+      case 8:
+        return new Level8();
+      default:
+        throw new IllegalArgumentException("Depth must be between 0 and " + MAX_DEPTH + ": " + depth);
+    }
+  }
+}
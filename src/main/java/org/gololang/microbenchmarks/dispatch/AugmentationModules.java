@@ -0,0 +1,52 @@
+/*
+ * Copyright 2012-2016 Institut National des Sciences Appliquées de Lyon (INSA-Lyon)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gololang.microbenchmarks.dispatch;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Each named augmentation lives in its own module, the one providing `target()` is applied last.
+public class AugmentationModules {
+
+  public static final String DISPATCH_FUNCTION = "dispatch";
+
+  public static String[] generate(String augmentedType, int count) {
+    List<String> sources = new ArrayList<>();
+    StringBuilder imports = new StringBuilder();
+    StringBuilder applied = new StringBuilder();
+    for (int i = 0; i < count; i++) {
+      sources.add(namedAugmentation("Filler" + i, "filler" + i, i));
+      imports.append("import gen.Filler").append(i).append("\n");
+      applied.append("Filler").append(i).append(", ");
+    }
+    sources.add(namedAugmentation("Target", "target", 42));
+    imports.append("import gen.Target\n");
+    applied.append("Target");
+    sources.add("module gen.AugmentationDispatch\n\n"
+        + imports + "\n"
+        + "augment " + augmentedType + " with " + applied + "\n\n"
+        + "function " + DISPATCH_FUNCTION + " = |receiver| -> receiver: target()\n");
+    return sources.toArray(new String[sources.size()]);
+  }
+
+  private static String namedAugmentation(String name, String method, int value) {
+    return "module gen." + name + "\n\n"
+        + "augmentation " + name + " = {\n"
+        + "  function " + method + " = |this| -> " + value + "\n"
+        + "}\n";
+  }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2012-2016 Institut National des Sciences Appliquées de Lyon (INSA-Lyon)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gololang.microbenchmarks.dispatch;
+
+import java.util.Optional;
+
+public class NavigationNode {
+
+  private final NavigationNode child;
+  private final Object value;
+
+  public NavigationNode(NavigationNode child, Object value) {
+    this.child = child;
+    this.value = value;
+  }
+
+  public NavigationNode child() {
+    return child;
+  }
+
+  public Object value() {
+    return value;
+  }
+
+  // A chain where the node at `missingAt` hops from the root is null, or a full one when missingAt > depth
+  public static NavigationNode chain(int depth, int missingAt, Object value) {
+    if (missingAt == 0) {
+      return null;
+    }
+    NavigationNode node = null;
+    for (int i = depth; i >= 0; i--) {
+      if (i < missingAt) {
+        node = new NavigationNode(node, value);
+      }
+    }
+    return node;
+  }
+
+  public static Object withoutNullChecks(NavigationNode root, int depth) {
+    NavigationNode node = root;
+    for (int i = 0; i < depth; i++) {
+      node = node.child();
+    }
+    return node.value();
+  }
+
+  public static Object withNullChecks(NavigationNode root, int depth) {
+    NavigationNode node = root;
+    for (int i = 0; i < depth; i++) {
+      if (node == null) {
+        return null;
+      }
+      node = node.child();
+    }
+    return (node != null) ? node.value() : null;
+  }
+
+  public static Object withOptional(NavigationNode root, int depth) {
+    Optional<NavigationNode> node = Optional.ofNullable(root);
+    for (int i = 0; i < depth; i++) {
+      node = node.map(NavigationNode::child);
+    }
+    return node.map(NavigationNode::value).orElse(null);
+  }
+}
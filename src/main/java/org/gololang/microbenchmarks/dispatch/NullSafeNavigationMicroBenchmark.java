@@ -0,0 +1,167 @@
+/*
+ * Copyright 2012-2016 Institut National des Sciences Appliquées de Lyon (INSA-Lyon)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gololang.microbenchmarks.dispatch;
+
+import org.gololang.microbenchmarks.support.CodeLoader;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.invoke.MethodHandle;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class NullSafeNavigationMicroBenchmark {
+
+  /* ................................................................................................................ */
+
+  private static final int N = 1024;
+
+  private static final Object VALUE = "value";
+  private static final Object FALLBACK = "fallback";
+
+  /* ................................................................................................................ */
+
+  @State(Scope.Thread)
+  static public class DataState {
+
+    @Param({"1", "2", "4", "6", "8", "10"})
+    int depth;
+
+    // never: full chains, sometimes: 1 chain in 10 is cut at a random depth, every_depth: cuts evenly spread over all depths
+    @Param({"never", "sometimes", "every_depth"})
+    String nulls;
+
+    NavigationNode[] roots;
+
+    private int pos = 0;
+
+    public NavigationNode next() {
+      NavigationNode root = roots[pos];
+      pos = (pos + 1) % N;
+      return root;
+    }
+
+    @Setup(Level.Trial)
+    public void prepare() {
+      Random random = new Random(123_456L);
+      roots = new NavigationNode[N];
+      for (int i = 0; i < N; i++) {
+        int missingAt;
+        switch (nulls) {
+          case "never":
+            missingAt = depth + 1;
+            break;
+          case "sometimes":
+            missingAt = (random.nextInt(10) == 0) ? random.nextInt(depth + 1) : depth + 1;
+            break;
+          case "every_depth":
+            missingAt = i % (depth + 2);
+            break;
+          default:
+            throw new IllegalArgumentException("Unknown null density: " + nulls);
+        }
+        roots[i] = NavigationNode.chain(depth, missingAt, VALUE);
+      }
+    }
+  }
+
+  @State(Scope.Thread)
+  static public class FullChainState {
+
+    @Param({"1", "2", "4", "6", "8", "10"})
+    int depth;
+
+    NavigationNode[] roots;
+
+    private int pos = 0;
+
+    public NavigationNode next() {
+      NavigationNode root = roots[pos];
+      pos = (pos + 1) % N;
+      return root;
+    }
+
+    @Setup(Level.Trial)
+    public void prepare() {
+      roots = new NavigationNode[N];
+      for (int i = 0; i < N; i++) {
+        roots[i] = NavigationNode.chain(depth, depth + 1, VALUE);
+      }
+    }
+  }
+
+  @State(Scope.Thread)
+  static public class GoloState {
+
+    @Param({"1", "2", "4", "6", "8", "10"})
+    int depth;
+
+    MethodHandle nullSafe;
+    MethodHandle nullSafeOrDefault;
+    MethodHandle plain;
+
+    @Setup(Level.Trial)
+    public void prepare() {
+      CodeLoader loader = new CodeLoader();
+      nullSafe = loader.golo("null-safe", "null_safe_" + depth, 1);
+      nullSafeOrDefault = loader.golo("null-safe", "null_safe_or_fallback_" + depth, 2);
+      plain = loader.golo("null-safe", "plain_" + depth, 1);
+    }
+  }
+
+  /* ................................................................................................................ */
+
+  @Benchmark
+  public Object baseline_java_null_checks(DataState dataState) {
+    return NavigationNode.withNullChecks(dataState.next(), dataState.depth);
+  }
+
+  @Benchmark
+  public Object baseline_java_optional(DataState dataState) {
+    return NavigationNode.withOptional(dataState.next(), dataState.depth);
+  }
+
+  @Benchmark
+  public Object golo_null_safe(DataState dataState, GoloState goloState) throws Throwable {
+    return goloState.nullSafe.invokeExact((Object) dataState.next());
+  }
+
+  @Benchmark
+  public Object golo_null_safe_or_if_null(DataState dataState, GoloState goloState) throws Throwable {
+    return goloState.nullSafeOrDefault.invokeExact((Object) dataState.next(), FALLBACK);
+  }
+
+  /* ................................................................................................................ */
+
+  @Benchmark
+  public Object full_chain_baseline_java_plain_invocation(FullChainState state) {
+    return NavigationNode.withoutNullChecks(state.next(), state.depth);
+  }
+
+  @Benchmark
+  public Object full_chain_golo_plain_invocation(FullChainState state, GoloState goloState) throws Throwable {
+    return goloState.plain.invokeExact((Object) state.next());
+  }
+
+  @Benchmark
+  public Object full_chain_golo_null_safe(FullChainState state, GoloState goloState) throws Throwable {
+    return goloState.nullSafe.invokeExact((Object) state.next());
+  }
+
+  /* ................................................................................................................ */
+}
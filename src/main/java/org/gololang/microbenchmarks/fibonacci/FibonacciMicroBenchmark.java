@@ -31,26 +31,66 @@ import java.util.concurrent.TimeUnit;
 import static java.lang.invoke.MethodType.genericMethodType;
 
 @BenchmarkMode(Mode.AverageTime)
-@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
 public class FibonacciMicroBenchmark {
 
   @State(Scope.Thread)
-  static public class State40 {
-    long n = 40L;
+  static public class DataState {
+
+    @Param({"10", "20", "30", "40", "45"})
+    long n;
+
+    // fib(n) with the naive recursion makes 2 * fib(n) - 1 calls, the tail recursion makes n + 1 calls
+    long recursiveCalls;
+    long tailRecursiveCalls;
+
+    @Setup(Level.Trial)
+    public void prepare() {
+      recursiveCalls = 2L * JavaRecursiveFibonacci.iterative(n) - 1L;
+      tailRecursiveCalls = n + 1L;
+    }
+  }
+
+  // Jython is too slow for the larger values of n
+  @State(Scope.Thread)
+  static public class JythonDataState {
+
+    @Param({"10", "20", "30"})
+    long jythonN;
+
+    // fibonacci.py stops at n < 2 rather than n <= 2, so it makes 2 * fib(n + 1) - 1 calls
+    long recursiveCalls;
+
+    @Setup(Level.Trial)
+    public void prepare() {
+      recursiveCalls = 2L * JavaRecursiveFibonacci.iterative(jythonN + 1L) - 1L;
+    }
   }
 
+  // Reports the time per fib call (or per loop step for the iterative versions) next to the time per run
   @State(Scope.Thread)
-  static public class State30 {
-    long n = 30L;
+  @AuxCounters(AuxCounters.Type.OPERATIONS)
+  static public class CallCounter {
+
+    public long calls;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+      calls = 0L;
+    }
   }
 
   @State(Scope.Thread)
   static public class GoloState {
     MethodHandle fib;
+    MethodHandle fibTail;
+    MethodHandle fibIterative;
 
     @Setup(Level.Trial)
     public void prepare() {
       fib = new CodeLoader().golo("fibonacci", "fib", 1);
+      fibTail = new CodeLoader().golo("fibonacci", "fib_tail", 1);
+      fibIterative = new CodeLoader().golo("fibonacci", "fib_iterative", 1);
     }
   }
 
@@ -120,97 +160,83 @@ public class FibonacciMicroBenchmark {
   /* ................................................................................................................ */
 
   @Benchmark
-  public long baseline_java_30(State30 state) {
+  public long baseline_java(DataState state, CallCounter counter) {
+    counter.calls += state.recursiveCalls;
     return JavaRecursiveFibonacci.withPrimitives(state.n);
   }
 
   @Benchmark
-  public long baseline_java_boxing_30(State30 state) {
+  public long baseline_java_boxing(DataState state, CallCounter counter) {
+    counter.calls += state.recursiveCalls;
     return JavaRecursiveFibonacci.withBoxing(state.n);
   }
 
   @Benchmark
-  public Object golo_30(State30 state30, GoloState goloState) throws Throwable {
-    return goloState.fib.invokeExact((Object) state30.n);
+  public Object golo(DataState state, GoloState goloState, CallCounter counter) throws Throwable {
+    counter.calls += state.recursiveCalls;
+    return goloState.fib.invokeExact((Object) state.n);
   }
 
   @Benchmark
-  public Object groovy_30(State30 state30, GroovyState groovyState) throws Throwable {
-    return groovyState.fib.invokeExact((Object) state30.n);
+  public Object groovy(DataState state, GroovyState groovyState, CallCounter counter) throws Throwable {
+    counter.calls += state.recursiveCalls;
+    return groovyState.fib.invokeExact((Object) state.n);
   }
 
   @Benchmark
-  public Object groovy_indy_30(State30 state30, GroovyIndyState groovyState) throws Throwable {
-    return groovyState.fib.invokeExact((Object) state30.n);
+  public Object groovy_indy(DataState state, GroovyIndyState groovyState, CallCounter counter) throws Throwable {
+    counter.calls += state.recursiveCalls;
+    return groovyState.fib.invokeExact((Object) state.n);
   }
 
   @Benchmark
-  public Object clojure_30(State30 state30, ClojureState clojureState) {
-    return clojureState.fib.invoke(state30.n);
+  public Object clojure(DataState state, ClojureState clojureState, CallCounter counter) {
+    counter.calls += state.recursiveCalls;
+    return clojureState.fib.invoke(state.n);
   }
 
   @Benchmark
-  public Object jruby_30(State30 state30, JRubyState jRubyState) {
+  public Object jruby(DataState state, JRubyState jRubyState, CallCounter counter) {
+    counter.calls += state.recursiveCalls;
     return jRubyState.containerAndReceiver.container()
-        .callMethod(jRubyState.containerAndReceiver.receiver(), "fib", state30.n, Long.class);
+        .callMethod(jRubyState.containerAndReceiver.receiver(), "fib", state.n, Long.class);
   }
 
   @Benchmark
-  public Object nashorn_30(State30 state30, NashornState nashornState) throws Throwable {
-    return nashornState.invocable.invokeFunction("fib", state30.n);
+  public Object nashorn(DataState state, NashornState nashornState, CallCounter counter) throws Throwable {
+    counter.calls += state.recursiveCalls;
+    return nashornState.invocable.invokeFunction("fib", state.n);
   }
 
   @Benchmark
-  public Object jython_30(State30 state30, JythonState jythonState) throws Throwable {
-    return jythonState.fib.__call__(new PyLong(state30.n));
+  public Object jython(JythonDataState state, JythonState jythonState, CallCounter counter) throws Throwable {
+    counter.calls += state.recursiveCalls;
+    return jythonState.fib.__call__(new PyLong(state.jythonN));
   }
 
   /* ................................................................................................................ */
 
   @Benchmark
-  public long baseline_java_40(State40 state) {
-    return JavaRecursiveFibonacci.withPrimitives(state.n);
-  }
-
-  @Benchmark
-  public long baseline_java_boxing_40(State40 state) {
-    return JavaRecursiveFibonacci.withBoxing(state.n);
+  public long baseline_java_tail_recursive(DataState state, CallCounter counter) {
+    counter.calls += state.tailRecursiveCalls;
+    return JavaRecursiveFibonacci.tailRecursive(state.n);
   }
 
   @Benchmark
-  public Object golo_40(State40 state40, GoloState goloState) throws Throwable {
-    return goloState.fib.invokeExact((Object) state40.n);
+  public Object golo_tail_recursive(DataState state, GoloState goloState, CallCounter counter) throws Throwable {
+    counter.calls += state.tailRecursiveCalls;
+    return goloState.fibTail.invokeExact((Object) state.n);
   }
 
   @Benchmark
-  public Object groovy_40(State40 state40, GroovyState groovyState) throws Throwable {
-    return groovyState.fib.invokeExact((Object) state40.n);
+  public long baseline_java_iterative(DataState state, CallCounter counter) {
+    counter.calls += state.n;
+    return JavaRecursiveFibonacci.iterative(state.n);
   }
 
   @Benchmark
-  public Object groovy_indy_40(State40 state40, GroovyIndyState groovyState) throws Throwable {
-    return groovyState.fib.invokeExact((Object) state40.n);
-  }
-
-  @Benchmark
-  public Object clojure_40(State40 state40, ClojureState clojureState) {
-    return clojureState.fib.invoke(state40.n);
-  }
-
-  @Benchmark
-  public Object jruby_40(State40 state40, JRubyState jRubyState) {
-    return jRubyState.containerAndReceiver.container()
-        .callMethod(jRubyState.containerAndReceiver.receiver(), "fib", state40.n, Long.class);
-  }
-
-  @Benchmark
-  public Object nashorn_40(State40 state40, NashornState nashornState) throws Throwable {
-    return nashornState.invocable.invokeFunction("fib", state40.n);
-  }
-
-  // Disabled, too slow
-  // @Benchmark
-  public Object jython_40(State40 state40, JythonState jythonState) throws Throwable {
-    return jythonState.fib.__call__(new PyLong(state40.n));
+  public Object golo_iterative(DataState state, GoloState goloState, CallCounter counter) throws Throwable {
+    counter.calls += state.n;
+    return goloState.fibIterative.invokeExact((Object) state.n);
   }
 }
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2012-2016 Institut National des Sciences Appliquées de Lyon (INSA-Lyon)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gololang.microbenchmarks.fibonacci;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+// Hand-written counterpart of the concurrent memoizer from memoized-fibonacci.golo
+public class JavaMemoizedFibonacci {
+
+  private final ConcurrentHashMap<Long, Long> fibCache = new ConcurrentHashMap<>();
+  private final ConcurrentHashMap<Long, Long> workCache = new ConcurrentHashMap<>();
+
+  public static long work(long key) {
+    return JavaRecursiveFibonacci.withPrimitives(10L + (key % 10L));
+  }
+
+  public Long memoizedWork(Long key) {
+    Long value = workCache.get(key);
+    if (value == null) {
+      value = work(key);
+      workCache.putIfAbsent(key, value);
+    }
+    return value;
+  }
+
+  public Long memoizedFib(Long n) {
+    Long value = fibCache.get(n);
+    if (value == null) {
+      value = (n <= 2L) ? 1L : memoizedFib(n - 1L) + memoizedFib(n - 2L);
+      fibCache.putIfAbsent(n, value);
+    }
+    return value;
+  }
+}
@@ -34,4 +34,27 @@ public class JavaRecursiveFibonacci {
       return Long.valueOf(withBoxing(Long.valueOf(n.longValue() - Long.valueOf(1L))) + withBoxing(Long.valueOf(n.longValue() - Long.valueOf(2L))));
     }
   }
+
+  public static long tailRecursive(long n) {
+    return tailRecursive(n, 0L, 1L);
+  }
+
+  private static long tailRecursive(long n, long a, long b) {
+    if (n == 0L) {
+      return a;
+    } else {
+      return tailRecursive(n - 1L, b, a + b);
+    }
+  }
+
+  public static long iterative(long n) {
+    long a = 0L;
+    long b = 1L;
+    for (long i = 0L; i < n; i++) {
+      long next = a + b;
+      a = b;
+      b = next;
+    }
+    return a;
+  }
 }
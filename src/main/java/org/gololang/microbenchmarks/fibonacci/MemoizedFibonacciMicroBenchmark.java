@@ -0,0 +1,182 @@
+/*
+ * Copyright 2012-2016 Institut National des Sciences Appliquées de Lyon (INSA-Lyon)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gololang.microbenchmarks.fibonacci;
+
+import org.gololang.microbenchmarks.support.CodeLoader;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.invoke.MethodType.genericMethodType;
+
+// The *_shared benchmarks run on all cores by default, use -t to run them with fewer threads.
+// Caches start empty at each iteration, so an iteration has at most keySpace misses per cache.
+// The fib(40) benchmarks start from an empty cache at each call, so they measure a whole memoized computation.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MemoizedFibonacciMicroBenchmark {
+
+  /* ................................................................................................................ */
+
+  // The reset_caches function of the module that defines a memoized function
+  private static MethodHandle resetCaches(MethodHandle function) {
+    MethodHandles.Lookup lookup = MethodHandles.lookup();
+    try {
+      Class<?> module = lookup.revealDirect(function).getDeclaringClass();
+      return lookup.findStatic(module, "reset_caches", genericMethodType(0));
+    } catch (Exception e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  /* ................................................................................................................ */
+
+  @State(Scope.Thread)
+  static public class FibState {
+
+    Long n = 40L;
+
+    MethodHandle memoizedFib;
+    MethodHandle resetMemoizedFib;
+    MethodHandle concurrentMemoizedFib;
+    MethodHandle resetConcurrentMemoizedFib;
+
+    @Setup(Level.Trial)
+    public void prepare() {
+      memoizedFib = new CodeLoader().golo("memoized-fibonacci", "cached_fib", 1);
+      resetMemoizedFib = resetCaches(memoizedFib);
+      concurrentMemoizedFib = new CodeLoader().golo("memoized-fibonacci", "concurrent_cached_fib", 1);
+      resetConcurrentMemoizedFib = resetCaches(concurrentMemoizedFib);
+    }
+  }
+
+  @State(Scope.Thread)
+  static public class ThreadCacheState {
+
+    @Param({"16", "1024", "65536", "1048576"})
+    long keySpace;
+
+    JavaMemoizedFibonacci javaMemo;
+    MethodHandle work;
+    MethodHandle memoizedWork;
+    MethodHandle resetMemoizedWork;
+
+    public Long nextKey() {
+      return ThreadLocalRandom.current().nextLong(keySpace);
+    }
+
+    @Setup(Level.Trial)
+    public void load() {
+      work = new CodeLoader().golo("memoized-fibonacci", "work", 1);
+      memoizedWork = new CodeLoader().golo("memoized-fibonacci", "cached_work", 1);
+      resetMemoizedWork = resetCaches(memoizedWork);
+    }
+
+    @Setup(Level.Iteration)
+    public void prepare() throws Throwable {
+      javaMemo = new JavaMemoizedFibonacci();
+      Object ignored = resetMemoizedWork.invokeExact();
+    }
+  }
+
+  @State(Scope.Benchmark)
+  static public class SharedCacheState {
+
+    @Param({"16", "1024", "65536", "1048576"})
+    long keySpace;
+
+    JavaMemoizedFibonacci javaMemo;
+    MethodHandle concurrentMemoizedWork;
+    MethodHandle resetConcurrentMemoizedWork;
+
+    public Long nextKey() {
+      return ThreadLocalRandom.current().nextLong(keySpace);
+    }
+
+    @Setup(Level.Trial)
+    public void load() {
+      concurrentMemoizedWork = new CodeLoader().golo("memoized-fibonacci", "concurrent_cached_work", 1);
+      resetConcurrentMemoizedWork = resetCaches(concurrentMemoizedWork);
+    }
+
+    @Setup(Level.Iteration)
+    public void prepare() throws Throwable {
+      javaMemo = new JavaMemoizedFibonacci();
+      Object ignored = resetConcurrentMemoizedWork.invokeExact();
+    }
+  }
+
+  /* ................................................................................................................ */
+
+  @Benchmark
+  public Object baseline_java_memoized_fib_40(FibState state) {
+    return new JavaMemoizedFibonacci().memoizedFib(state.n);
+  }
+
+  @Benchmark
+  public Object golo_memoized_fib_40(FibState state) throws Throwable {
+    Object ignored = state.resetMemoizedFib.invokeExact();
+    return state.memoizedFib.invokeExact((Object) state.n);
+  }
+
+  @Benchmark
+  public Object golo_concurrent_memoized_fib_40(FibState state) throws Throwable {
+    Object ignored = state.resetConcurrentMemoizedFib.invokeExact();
+    return state.concurrentMemoizedFib.invokeExact((Object) state.n);
+  }
+
+  /* ................................................................................................................ */
+
+  @Benchmark
+  public long baseline_java_work(ThreadCacheState state) {
+    return JavaMemoizedFibonacci.work(state.nextKey());
+  }
+
+  @Benchmark
+  public Object golo_work(ThreadCacheState state) throws Throwable {
+    return state.work.invokeExact((Object) state.nextKey());
+  }
+
+  @Benchmark
+  @Threads(Threads.MAX)
+  public Object baseline_java_memo_per_thread(ThreadCacheState state) {
+    return state.javaMemo.memoizedWork(state.nextKey());
+  }
+
+  @Benchmark
+  @Threads(Threads.MAX)
+  public Object golo_memoizer_per_thread(ThreadCacheState state) throws Throwable {
+    return state.memoizedWork.invokeExact((Object) state.nextKey());
+  }
+
+  @Benchmark
+  @Threads(Threads.MAX)
+  public Object baseline_java_memo_shared(SharedCacheState state) {
+    return state.javaMemo.memoizedWork(state.nextKey());
+  }
+
+  @Benchmark
+  @Threads(Threads.MAX)
+  public Object golo_concurrent_memoizer_shared(SharedCacheState state) throws Throwable {
+    return state.concurrentMemoizedWork.invokeExact((Object) state.nextKey());
+  }
+
+  /* ................................................................................................................ */
+}
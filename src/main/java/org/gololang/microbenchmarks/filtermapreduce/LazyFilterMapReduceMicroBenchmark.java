@@ -0,0 +1,169 @@
+/*
+ * Copyright 2012-2016 Institut National des Sciences Appliquées de Lyon (INSA-Lyon)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gololang.microbenchmarks.filtermapreduce;
+
+import org.gololang.microbenchmarks.support.CodeLoader;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.invoke.MethodHandle;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+// Peak heap usage is reported with -prof org.gololang.microbenchmarks.support.PeakHeapProfiler
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class LazyFilterMapReduceMicroBenchmark {
+
+  /* ................................................................................................................ */
+
+  @State(Scope.Thread)
+  static public class DataState {
+
+    @Param({"1000", "100000", "10000000"})
+    int size;
+
+    // The take pipelines stop after this many mapped elements
+    int count;
+
+    Object boxedSize;
+    Object boxedCount;
+    ArrayList<Long> data;
+
+    @Setup(Level.Trial)
+    public void prepare() {
+      count = size / 10;
+      boxedSize = (long) size;
+      boxedCount = count;
+      data = new ArrayList<>(size);
+      for (int i = 0; i < size; i++) {
+        data.add((long) i);
+      }
+    }
+  }
+
+  @State(Scope.Thread)
+  static public class StreamJavaState {
+
+    Predicate<Long> filterPredicate;
+    Function<Long, Long> mapFunction;
+    BinaryOperator<Long> reduceFunction;
+
+    @Setup(Level.Trial)
+    public void prepare() {
+      filterPredicate = n -> n % 2L == 0L;
+      mapFunction = n -> n * 2L;
+      reduceFunction = (acc, next) -> acc + next;
+    }
+  }
+
+  @State(Scope.Thread)
+  static public class GoloState {
+
+    MethodHandle eager;
+    MethodHandle eagerTake;
+    MethodHandle lazyList;
+    MethodHandle lazyRange;
+    MethodHandle generator;
+    MethodHandle lazyTake;
+
+    @Setup(Level.Trial)
+    public void prepare() {
+      CodeLoader loader = new CodeLoader();
+      eager = loader.golo("filter-map-reduce", "run", 1);
+      eagerTake = loader.golo("lazy-filter-map-reduce", "eager_take", 2);
+      lazyList = loader.golo("lazy-filter-map-reduce", "lazy_list", 1);
+      lazyRange = loader.golo("lazy-filter-map-reduce", "lazy_range", 1);
+      generator = loader.golo("lazy-filter-map-reduce", "generator", 1);
+      lazyTake = loader.golo("lazy-filter-map-reduce", "lazy_take", 1);
+    }
+  }
+
+  /* ................................................................................................................ */
+
+  @Benchmark
+  public Object baseline_java_streams(StreamJavaState javaState, DataState dataState) {
+    return dataState.data.stream()
+        .filter(javaState.filterPredicate)
+        .map(javaState.mapFunction)
+        .reduce(0L, javaState.reduceFunction);
+  }
+
+  @Benchmark
+  public long baseline_java_long_stream_range(DataState dataState) {
+    return LongStream.range(0L, dataState.size)
+        .filter(n -> n % 2L == 0L)
+        .map(n -> n * 2L)
+        .sum();
+  }
+
+  @Benchmark
+  public Object golo_eager(GoloState goloState, DataState dataState) throws Throwable {
+    return goloState.eager.invokeExact((Object) dataState.data);
+  }
+
+  @Benchmark
+  public Object golo_lazy_list(GoloState goloState, DataState dataState) throws Throwable {
+    return goloState.lazyList.invokeExact((Object) dataState.data);
+  }
+
+  @Benchmark
+  public Object golo_lazy_range(GoloState goloState, DataState dataState) throws Throwable {
+    return goloState.lazyRange.invokeExact(dataState.boxedSize);
+  }
+
+  @Benchmark
+  public Object golo_generator(GoloState goloState, DataState dataState) throws Throwable {
+    return goloState.generator.invokeExact(dataState.boxedSize);
+  }
+
+  /* ................................................................................................................ */
+
+  @Benchmark
+  public Object baseline_java_streams_take(StreamJavaState javaState, DataState dataState) {
+    return dataState.data.stream()
+        .filter(javaState.filterPredicate)
+        .map(javaState.mapFunction)
+        .limit(dataState.count)
+        .reduce(0L, javaState.reduceFunction);
+  }
+
+  @Benchmark
+  public Object baseline_java_streams_iterate_take(StreamJavaState javaState, DataState dataState) {
+    return Stream.iterate(0L, n -> n + 1L)
+        .filter(javaState.filterPredicate)
+        .map(javaState.mapFunction)
+        .limit(dataState.count)
+        .reduce(0L, javaState.reduceFunction);
+  }
+
+  @Benchmark
+  public Object golo_eager_take(GoloState goloState, DataState dataState) throws Throwable {
+    return goloState.eagerTake.invokeExact((Object) dataState.data, dataState.boxedCount);
+  }
+
+  @Benchmark
+  public Object golo_lazy_take(GoloState goloState, DataState dataState) throws Throwable {
+    return goloState.lazyTake.invokeExact(dataState.boxedCount);
+  }
+
+  /* ................................................................................................................ */
+}
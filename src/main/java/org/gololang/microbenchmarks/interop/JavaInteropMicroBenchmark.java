@@ -0,0 +1,280 @@
+/*
+ * Copyright 2012-2016 Institut National des Sciences Appliquées de Lyon (INSA-Lyon)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gololang.microbenchmarks.interop;
+
+import org.gololang.microbenchmarks.support.CodeLoader;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.invoke.MethodHandle;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JavaInteropMicroBenchmark {
+
+  /* ................................................................................................................ */
+
+  private static final int N = 1024;
+
+  /* ................................................................................................................ */
+
+  @State(Scope.Thread)
+  static public class DataState {
+
+    int primitiveInt;
+    long primitiveLong;
+    Integer boxedInt;
+    Long boxedLong;
+    String string;
+    JavaInteropTarget target;
+
+    @Setup(Level.Iteration)
+    public void prepare() {
+      Random random = new Random();
+      primitiveInt = random.nextInt();
+      primitiveLong = random.nextLong();
+      boxedInt = primitiveInt;
+      boxedLong = primitiveLong;
+      string = String.valueOf(primitiveInt);
+      target = new JavaInteropTarget(primitiveInt);
+    }
+  }
+
+  // Golo keeps the first resolved target for static methods and constructors, so the polymorphic
+  // arguments are only passed to call sites that can take all of them.
+  @State(Scope.Thread)
+  static public class PolymorphicState {
+
+    Object[] data;
+    JavaInteropTarget target;
+
+    private int pos = 0;
+
+    public Object next() {
+      Object value = data[pos];
+      pos = (pos + 1) % N;
+      return value;
+    }
+
+    @Setup(Level.Trial)
+    public void prepare() {
+      Object[] objects = new Object[]{
+          1,
+          2L,
+          3.0D,
+          "4",
+          new Object()
+      };
+      data = new Object[N];
+      for (int i = 0; i < N; i++) {
+        data[i] = objects[i % objects.length];
+      }
+      target = new JavaInteropTarget(0);
+    }
+  }
+
+  @State(Scope.Thread)
+  static public class GoloState {
+
+    MethodHandle staticOverloaded;
+    MethodHandle staticGeneric;
+    MethodHandle instanceOverloaded;
+    MethodHandle varargs0;
+    MethodHandle varargs1;
+    MethodHandle varargs4;
+    MethodHandle prefixedVarargs;
+    MethodHandle staticField;
+    MethodHandle staticConstant;
+    MethodHandle constructor1;
+    MethodHandle constructor2;
+
+    @Setup(Level.Trial)
+    public void prepare() {
+      CodeLoader loader = new CodeLoader();
+      staticOverloaded = loader.golo("interop", "static_overloaded", 1);
+      staticGeneric = loader.golo("interop", "static_generic", 1);
+      instanceOverloaded = loader.golo("interop", "instance_overloaded", 2);
+      varargs0 = loader.golo("interop", "varargs_0", 0);
+      varargs1 = loader.golo("interop", "varargs_1", 1);
+      varargs4 = loader.golo("interop", "varargs_4", 4);
+      prefixedVarargs = loader.golo("interop", "prefixed_varargs", 3);
+      staticField = loader.golo("interop", "static_field", 0);
+      staticConstant = loader.golo("interop", "static_constant", 0);
+      constructor1 = loader.golo("interop", "constructor_1", 1);
+      constructor2 = loader.golo("interop", "constructor_2", 2);
+    }
+  }
+
+  /* ................................................................................................................ */
+
+  // Golo links a boxed Integer to the first applicable overload in reflection order, int or Integer, hence both baselines
+  @Benchmark
+  public Object baseline_java_static_overloaded_primitive(DataState state) {
+    return JavaInteropTarget.overloaded(state.primitiveInt);
+  }
+
+  @Benchmark
+  public Object baseline_java_static_overloaded_boxed(DataState state) {
+    return JavaInteropTarget.overloaded(state.boxedInt);
+  }
+
+  @Benchmark
+  public Object golo_static_overloaded_int(DataState state, GoloState goloState) throws Throwable {
+    return goloState.staticOverloaded.invokeExact((Object) state.boxedInt);
+  }
+
+  @Benchmark
+  public Object baseline_java_static_overloaded_string(DataState state) {
+    return JavaInteropTarget.overloaded(state.string);
+  }
+
+  @Benchmark
+  public Object golo_static_overloaded_string(DataState state, GoloState goloState) throws Throwable {
+    return goloState.staticOverloaded.invokeExact((Object) state.string);
+  }
+
+  @Benchmark
+  public Object baseline_java_instance_overloaded(DataState state) {
+    return state.target.instanceOverloaded(state.primitiveLong);
+  }
+
+  @Benchmark
+  public Object golo_instance_overloaded(DataState state, GoloState goloState) throws Throwable {
+    return goloState.instanceOverloaded.invokeExact((Object) state.target, (Object) state.boxedLong);
+  }
+
+  /* ................................................................................................................ */
+
+  @Benchmark
+  public Object polymorphic_baseline_java_static(PolymorphicState state) {
+    return JavaInteropTarget.generic(state.next());
+  }
+
+  @Benchmark
+  public Object polymorphic_golo_static(PolymorphicState state, GoloState goloState) throws Throwable {
+    return goloState.staticGeneric.invokeExact(state.next());
+  }
+
+  @Benchmark
+  public Object polymorphic_baseline_java_instance_overloaded(PolymorphicState state) {
+    return state.target.dispatchInstanceOverloaded(state.next());
+  }
+
+  @Benchmark
+  public Object polymorphic_golo_instance_overloaded(PolymorphicState state, GoloState goloState) throws Throwable {
+    return goloState.instanceOverloaded.invokeExact((Object) state.target, state.next());
+  }
+
+  @Benchmark
+  public Object polymorphic_baseline_java_constructor(PolymorphicState state) {
+    return new JavaInteropTarget(state.next());
+  }
+
+  @Benchmark
+  public Object polymorphic_golo_constructor(PolymorphicState state, GoloState goloState) throws Throwable {
+    return goloState.constructor1.invokeExact(state.next());
+  }
+
+  /* ................................................................................................................ */
+
+  @Benchmark
+  public Object baseline_java_varargs_0() {
+    return JavaInteropTarget.varargs();
+  }
+
+  @Benchmark
+  public Object golo_varargs_0(GoloState goloState) throws Throwable {
+    return goloState.varargs0.invokeExact();
+  }
+
+  @Benchmark
+  public Object baseline_java_varargs_1(DataState state) {
+    return JavaInteropTarget.varargs(state.boxedInt);
+  }
+
+  @Benchmark
+  public Object golo_varargs_1(DataState state, GoloState goloState) throws Throwable {
+    return goloState.varargs1.invokeExact((Object) state.boxedInt);
+  }
+
+  @Benchmark
+  public Object baseline_java_varargs_4(DataState state) {
+    return JavaInteropTarget.varargs(state.boxedInt, state.boxedLong, state.string, state.target);
+  }
+
+  @Benchmark
+  public Object golo_varargs_4(DataState state, GoloState goloState) throws Throwable {
+    return goloState.varargs4.invokeExact((Object) state.boxedInt, (Object) state.boxedLong, (Object) state.string, (Object) state.target);
+  }
+
+  @Benchmark
+  public Object baseline_java_prefixed_primitive_varargs(DataState state) {
+    return JavaInteropTarget.prefixedVarargs(state.string, state.primitiveLong, state.primitiveLong);
+  }
+
+  @Benchmark
+  public Object golo_prefixed_primitive_varargs(DataState state, GoloState goloState) throws Throwable {
+    return goloState.prefixedVarargs.invokeExact((Object) state.string, (Object) state.boxedLong, (Object) state.boxedLong);
+  }
+
+  /* ................................................................................................................ */
+
+  @Benchmark
+  public Object baseline_java_static_field() {
+    return JavaInteropTarget.field;
+  }
+
+  @Benchmark
+  public Object golo_static_field(GoloState goloState) throws Throwable {
+    return goloState.staticField.invokeExact();
+  }
+
+  @Benchmark
+  public Object baseline_java_static_constant() {
+    return JavaInteropTarget.CONSTANT;
+  }
+
+  @Benchmark
+  public Object golo_static_constant(GoloState goloState) throws Throwable {
+    return goloState.staticConstant.invokeExact();
+  }
+
+  /* ................................................................................................................ */
+
+  @Benchmark
+  public Object baseline_java_constructor_1(DataState state) {
+    return new JavaInteropTarget(state.boxedLong);
+  }
+
+  @Benchmark
+  public Object golo_constructor_1(DataState state, GoloState goloState) throws Throwable {
+    return goloState.constructor1.invokeExact((Object) state.boxedLong);
+  }
+
+  @Benchmark
+  public Object baseline_java_constructor_2(DataState state) {
+    return new JavaInteropTarget((Object) state.boxedInt, (Object) state.boxedInt);
+  }
+
+  @Benchmark
+  public Object golo_constructor_2(DataState state, GoloState goloState) throws Throwable {
+    return goloState.constructor2.invokeExact((Object) state.boxedInt, (Object) state.boxedInt);
+  }
+
+  /* ................................................................................................................ */
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2012-2016 Institut National des Sciences Appliquées de Lyon (INSA-Lyon)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gololang.microbenchmarks.interop;
+
+public class JavaInteropTarget {
+
+  public static Object field = "field";
+
+  public static final Object CONSTANT = "constant";
+
+  private final Object kind;
+
+  public JavaInteropTarget(int value) {
+    kind = "int";
+  }
+
+  public JavaInteropTarget(long value) {
+    kind = "long";
+  }
+
+  public JavaInteropTarget(String value) {
+    kind = "String";
+  }
+
+  public JavaInteropTarget(Object value) {
+    kind = "Object";
+  }
+
+  public JavaInteropTarget(int a, int b) {
+    kind = "int, int";
+  }
+
+  public JavaInteropTarget(Object a, Object b) {
+    kind = "Object, Object";
+  }
+
+  public Object kind() {
+    return kind;
+  }
+
+  /* ................................................................................................................ */
+
+  public static Object overloaded(int value) {
+    return "int";
+  }
+
+  public static Object overloaded(long value) {
+    return "long";
+  }
+
+  public static Object overloaded(double value) {
+    return "double";
+  }
+
+  public static Object overloaded(Integer value) {
+    return "Integer";
+  }
+
+  public static Object overloaded(Long value) {
+    return "Long";
+  }
+
+  public static Object overloaded(String value) {
+    return "String";
+  }
+
+  public static Object overloaded(Object value) {
+    return "Object";
+  }
+
+  public static Object generic(Object value) {
+    return value;
+  }
+
+  /* ................................................................................................................ */
+
+  public Object instanceOverloaded(int value) {
+    return "int";
+  }
+
+  public Object instanceOverloaded(long value) {
+    return "long";
+  }
+
+  public Object instanceOverloaded(double value) {
+    return "double";
+  }
+
+  public Object instanceOverloaded(String value) {
+    return "String";
+  }
+
+  public Object instanceOverloaded(Object value) {
+    return "Object";
+  }
+
+  /* ................................................................................................................ */
+
+  public static Object varargs(Object... values) {
+    return values.length;
+  }
+
+  public static Object prefixedVarargs(String prefix, long... values) {
+    return values.length;
+  }
+
+  /* ................................................................................................................ */
+
+  // What a type-driven call site would do for polymorphic arguments
+  public Object dispatchInstanceOverloaded(Object value) {
+    if (value instanceof Integer) {
+      return instanceOverloaded((int) value);
+    } else if (value instanceof Long) {
+      return instanceOverloaded((long) value);
+    } else if (value instanceof Double) {
+      return instanceOverloaded((double) value);
+    } else if (value instanceof String) {
+      return instanceOverloaded((String) value);
+    } else {
+      return instanceOverloaded(value);
+    }
+  }
+}
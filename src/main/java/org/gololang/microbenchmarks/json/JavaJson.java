@@ -0,0 +1,128 @@
+/*
+ * Copyright 2012-2016 Institut National des Sciences Appliquées de Lyon (INSA-Lyon)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gololang.microbenchmarks.json;
+
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import org.json.simple.JSONValue;
+import org.json.simple.parser.ParseException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * Java counterparts of the gololang.JSON functions, written directly against json-simple which is what
+ * gololang.JSON wraps.
+ */
+public class JavaJson {
+
+  public static Object parse(String text) throws ParseException {
+    return JSONValue.parseWithException(text);
+  }
+
+  public static String stringify(Object value) {
+    return JSONValue.toJSONString(value);
+  }
+
+  public static String roundTrip(String text) throws ParseException {
+    return stringify(parse(text));
+  }
+
+  /* ................................................................................................................ */
+
+  // The Java take on the Golo struct round-trip: maps to plain objects, then objects back to JSON objects
+  public static class Record {
+
+    final long id;
+    final String name;
+    final String email;
+    final double score;
+    final boolean active;
+    final List<String> tags;
+    final List<Record> children;
+
+    Record(long id, String name, String email, double score, boolean active, List<String> tags, List<Record> children) {
+      this.id = id;
+      this.name = name;
+      this.email = email;
+      this.score = score;
+      this.active = active;
+      this.tags = tags;
+      this.children = children;
+    }
+
+    @SuppressWarnings("unchecked")
+    static Record fromMap(Map<String, Object> map) {
+      List<Record> children = new ArrayList<>();
+      for (Object child : (List<Object>) map.get("children")) {
+        children.add(fromMap((Map<String, Object>) child));
+      }
+      return new Record(
+          ((Number) map.get("id")).longValue(),
+          (String) map.get("name"),
+          (String) map.get("email"),
+          ((Number) map.get("score")).doubleValue(),
+          (Boolean) map.get("active"),
+          new ArrayList<>((List<String>) map.get("tags")),
+          children);
+    }
+
+    @SuppressWarnings("unchecked")
+    JSONObject toJSONObject() {
+      JSONObject object = new JSONObject();
+      object.put("id", id);
+      object.put("name", name);
+      object.put("email", email);
+      object.put("score", score);
+      object.put("active", active);
+      JSONArray tagsArray = new JSONArray();
+      tagsArray.addAll(tags);
+      object.put("tags", tagsArray);
+      JSONArray childrenArray = new JSONArray();
+      for (Record child : children) {
+        childrenArray.add(child.toJSONObject());
+      }
+      object.put("children", childrenArray);
+      return object;
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  public static List<Record> toRecords(Object document) {
+    List<Record> records = new ArrayList<>();
+    for (Object record : (List<Object>) ((Map<String, Object>) document).get("records")) {
+      records.add(Record.fromMap((Map<String, Object>) record));
+    }
+    return records;
+  }
+
+  @SuppressWarnings("unchecked")
+  public static String stringifyRecords(List<Record> records) {
+    JSONArray array = new JSONArray();
+    for (Record record : records) {
+      array.add(record.toJSONObject());
+    }
+    JSONObject document = new JSONObject();
+    document.put("records", array);
+    return document.toJSONString();
+  }
+
+  public static String roundTripRecords(String text) throws ParseException {
+    return stringifyRecords(toRecords(parse(text)));
+  }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2012-2016 Institut National des Sciences Appliquées de Lyon (INSA-Lyon)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gololang.microbenchmarks.json;
+
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+/*
+ * Deterministic JSON documents of the form {"records": [record, ...]} where each record is:
+ *
+ *   {"id": 42, "name": "user-42", "email": "user-42@example.org", "score": 0.73, "active": true,
+ *    "tags": ["t1", "t7"], "children": [record]}
+ *
+ * A record of depth d has a single child of depth d - 1, and records of depth 1 have no children.
+ * There are no null values as DynamicObject instances do not cope well with them.
+ */
+public class JsonDocuments {
+
+  private static final String[] TAGS = {"alpha", "beta", "gamma", "delta", "épsilon", "zeta \"z\"", "eta\tη", "theta"};
+
+  @SuppressWarnings("unchecked")
+  public static String generate(int records, int depth) {
+    Random random = new Random(24_680L);
+    JSONArray array = new JSONArray();
+    for (int i = 0; i < records; i++) {
+      array.add(record(random, i * depth, depth));
+    }
+    JSONObject document = new JSONObject();
+    document.put("records", array);
+    return document.toJSONString();
+  }
+
+  @SuppressWarnings("unchecked")
+  private static JSONObject record(Random random, long id, int depth) {
+    JSONObject record = new JSONObject();
+    record.put("id", id);
+    record.put("name", "user-" + id);
+    record.put("email", "user-" + id + "@example.org");
+    record.put("score", random.nextInt(10_000) / 100.0);
+    record.put("active", random.nextBoolean());
+    JSONArray tags = new JSONArray();
+    int tagCount = random.nextInt(4);
+    for (int i = 0; i < tagCount; i++) {
+      tags.add(TAGS[random.nextInt(TAGS.length)]);
+    }
+    record.put("tags", tags);
+    JSONArray children = new JSONArray();
+    if (depth > 1) {
+      children.add(record(random, id + 1, depth - 1));
+    }
+    record.put("children", children);
+    return record;
+  }
+
+  public static int byteSize(String document) {
+    return document.getBytes(StandardCharsets.UTF_8).length;
+  }
+}
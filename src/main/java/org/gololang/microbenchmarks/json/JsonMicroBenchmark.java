@@ -0,0 +1,189 @@
+/*
+ * Copyright 2012-2016 Institut National des Sciences Appliquées de Lyon (INSA-Lyon)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gololang.microbenchmarks.json;
+
+import org.gololang.microbenchmarks.support.CodeLoader;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.invoke.MethodHandle;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Run with -prof gc to get the allocations per operation.
+ *
+ * The megabytes counter gives the throughput in MB/s: it accumulates the size of the parsed document (or of the
+ * emitted one, which has the same size) for each operation. Round-trips count the document once.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JsonMicroBenchmark {
+
+  /* ................................................................................................................ */
+
+  @State(Scope.Thread)
+  static public class DocumentState {
+
+    // The DynamicObject conversion is orders of magnitude slower than plain parsing, hence the modest sizes
+    @Param({"10", "100", "1000"})
+    int records;
+
+    @Param({"1", "4", "16"})
+    int depth;
+
+    String text;
+    double megabytes;
+
+    Object parsed;
+    List<JavaJson.Record> javaRecords;
+    Object structs;
+    Object dynamicObject;
+
+    @Setup(Level.Trial)
+    public void prepare() throws Throwable {
+      text = JsonDocuments.generate(records, depth);
+      megabytes = JsonDocuments.byteSize(text) / 1_000_000.0;
+      parsed = JavaJson.parse(text);
+      javaRecords = JavaJson.toRecords(parsed);
+      structs = new CodeLoader().golo("json", "to_structs", 1).invokeExact(parsed);
+      dynamicObject = new CodeLoader().golo("json", "to_dynamic_object", 1).invokeExact((Object) text);
+    }
+  }
+
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.OPERATIONS)
+  static public class Megabytes {
+
+    public double megabytes;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+      megabytes = 0.0;
+    }
+  }
+
+  @State(Scope.Thread)
+  static public class GoloState {
+
+    MethodHandle parse;
+    MethodHandle toDynamicObject;
+    MethodHandle stringifyMap;
+    MethodHandle stringifyStruct;
+    MethodHandle stringifyDynamicObject;
+    MethodHandle roundTrip;
+    MethodHandle roundTripStruct;
+    MethodHandle roundTripDynamicObject;
+
+    @Setup(Level.Trial)
+    public void prepare() {
+      parse = new CodeLoader().golo("json", "parse", 1);
+      toDynamicObject = new CodeLoader().golo("json", "to_dynamic_object", 1);
+      stringifyMap = new CodeLoader().golo("json", "stringify", 1);
+      stringifyStruct = new CodeLoader().golo("json", "stringify", 1);
+      stringifyDynamicObject = new CodeLoader().golo("json", "stringify", 1);
+      roundTrip = new CodeLoader().golo("json", "round_trip", 1);
+      roundTripStruct = new CodeLoader().golo("json", "round_trip_struct", 1);
+      roundTripDynamicObject = new CodeLoader().golo("json", "round_trip_dynamic_object", 1);
+    }
+  }
+
+  /* ................................................................................................................ */
+
+  @Benchmark
+  public Object parse_baseline_java(DocumentState documentState, Megabytes counter) throws Throwable {
+    counter.megabytes += documentState.megabytes;
+    return JavaJson.parse(documentState.text);
+  }
+
+  @Benchmark
+  public Object parse_golo(DocumentState documentState, GoloState goloState, Megabytes counter) throws Throwable {
+    counter.megabytes += documentState.megabytes;
+    return goloState.parse.invokeExact((Object) documentState.text);
+  }
+
+  @Benchmark
+  public Object parse_golo_dynamic_object(DocumentState documentState, GoloState goloState, Megabytes counter) throws Throwable {
+    counter.megabytes += documentState.megabytes;
+    return goloState.toDynamicObject.invokeExact((Object) documentState.text);
+  }
+
+  /* ................................................................................................................ */
+
+  @Benchmark
+  public Object stringify_baseline_java(DocumentState documentState, Megabytes counter) {
+    counter.megabytes += documentState.megabytes;
+    return JavaJson.stringify(documentState.parsed);
+  }
+
+  @Benchmark
+  public Object stringify_baseline_java_records(DocumentState documentState, Megabytes counter) {
+    counter.megabytes += documentState.megabytes;
+    return JavaJson.stringifyRecords(documentState.javaRecords);
+  }
+
+  @Benchmark
+  public Object stringify_golo_map(DocumentState documentState, GoloState goloState, Megabytes counter) throws Throwable {
+    counter.megabytes += documentState.megabytes;
+    return goloState.stringifyMap.invokeExact(documentState.parsed);
+  }
+
+  @Benchmark
+  public Object stringify_golo_struct(DocumentState documentState, GoloState goloState, Megabytes counter) throws Throwable {
+    counter.megabytes += documentState.megabytes;
+    return goloState.stringifyStruct.invokeExact(documentState.structs);
+  }
+
+  @Benchmark
+  public Object stringify_golo_dynamic_object(DocumentState documentState, GoloState goloState, Megabytes counter) throws Throwable {
+    counter.megabytes += documentState.megabytes;
+    return goloState.stringifyDynamicObject.invokeExact(documentState.dynamicObject);
+  }
+
+  /* ................................................................................................................ */
+
+  @Benchmark
+  public Object round_trip_baseline_java(DocumentState documentState, Megabytes counter) throws Throwable {
+    counter.megabytes += documentState.megabytes;
+    return JavaJson.roundTrip(documentState.text);
+  }
+
+  @Benchmark
+  public Object round_trip_baseline_java_records(DocumentState documentState, Megabytes counter) throws Throwable {
+    counter.megabytes += documentState.megabytes;
+    return JavaJson.roundTripRecords(documentState.text);
+  }
+
+  @Benchmark
+  public Object round_trip_golo(DocumentState documentState, GoloState goloState, Megabytes counter) throws Throwable {
+    counter.megabytes += documentState.megabytes;
+    return goloState.roundTrip.invokeExact((Object) documentState.text);
+  }
+
+  @Benchmark
+  public Object round_trip_golo_struct(DocumentState documentState, GoloState goloState, Megabytes counter) throws Throwable {
+    counter.megabytes += documentState.megabytes;
+    return goloState.roundTripStruct.invokeExact((Object) documentState.text);
+  }
+
+  @Benchmark
+  public Object round_trip_golo_dynamic_object(DocumentState documentState, GoloState goloState, Megabytes counter) throws Throwable {
+    counter.megabytes += documentState.megabytes;
+    return goloState.roundTripDynamicObject.invokeExact((Object) documentState.text);
+  }
+
+  /* ................................................................................................................ */
+}
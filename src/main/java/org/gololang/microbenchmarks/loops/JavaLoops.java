@@ -0,0 +1,93 @@
+/*
+ * Copyright 2012-2016 Institut National des Sciences Appliquées de Lyon (INSA-Lyon)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gololang.microbenchmarks.loops;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+// Java counterparts of the loops.golo snippet functions
+public class JavaLoops {
+
+  public static long sum(int n) {
+    long acc = 0L;
+    for (int i = 0; i < n; i++) {
+      acc = acc + i;
+    }
+    return acc;
+  }
+
+  // Same as sum, but with the boxing that a dynamically-typed loop would have without optimizations
+  public static Object sumBoxed(Object n) {
+    Object acc = 0L;
+    Object i = 0;
+    while ((Integer) i < (Integer) n) {
+      acc = (Long) acc + (Integer) i;
+      i = (Integer) i + 1;
+    }
+    return acc;
+  }
+
+  public static long sumIntStream(int n) {
+    return IntStream.range(0, n).asLongStream().sum();
+  }
+
+  public static long sumNested(int n) {
+    long acc = 0L;
+    for (int i = 0; i < n / 16; i++) {
+      for (int j = 0; j < 16; j++) {
+        acc = acc + i + j;
+      }
+    }
+    return acc;
+  }
+
+  public static long sumList(List<Integer> list) {
+    long acc = 0L;
+    for (Integer i : list) {
+      acc = acc + i;
+    }
+    return acc;
+  }
+
+  public static int countEven(int n) {
+    int count = 0;
+    for (int i = 0; i < n; i++) {
+      if (i % 2 == 0) {
+        count = count + 1;
+      }
+    }
+    return count;
+  }
+
+  public static List<Integer> buildLinkedList(int n) {
+    List<Integer> result = new LinkedList<>();
+    for (int i = 0; i < n; i++) {
+      result.add(i);
+    }
+    return result;
+  }
+
+  public static List<Integer> buildArrayList(int n) {
+    List<Integer> result = new ArrayList<>();
+    for (int i = 0; i < n; i++) {
+      result.add(i);
+    }
+    return result;
+  }
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright 2012-2016 Institut National des Sciences Appliquées de Lyon (INSA-Lyon)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gololang.microbenchmarks.loops;
+
+import org.gololang.microbenchmarks.support.CodeLoader;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.invoke.MethodHandle;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Allocation per loop iteration is the -prof gc normalized allocation rate divided by the size parameter
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class LoopsMicroBenchmark {
+
+  /* ................................................................................................................ */
+
+  @State(Scope.Thread)
+  static public class DataState {
+
+    @Param({"10", "1000", "100000"})
+    int size;
+
+    Object boxedSize;
+    List<Integer> list;
+
+    @Setup(Level.Trial)
+    public void prepare() {
+      boxedSize = size;
+      list = JavaLoops.buildLinkedList(size);
+    }
+  }
+
+  @State(Scope.Thread)
+  static public class GoloState {
+
+    MethodHandle sumWhile;
+    MethodHandle sumFor;
+    MethodHandle sumForeachRange;
+    MethodHandle sumNestedForeachRange;
+    MethodHandle sumForeachList;
+    MethodHandle countEvenFor;
+    MethodHandle countEvenForeachRange;
+    MethodHandle countEvenComprehension;
+    MethodHandle buildListFor;
+    MethodHandle buildListForeachRange;
+    MethodHandle buildListComprehension;
+
+    @Setup(Level.Trial)
+    public void prepare() {
+      CodeLoader loader = new CodeLoader();
+      sumWhile = loader.golo("loops", "sum_while", 1);
+      sumFor = loader.golo("loops", "sum_for", 1);
+      sumForeachRange = loader.golo("loops", "sum_foreach_range", 1);
+      sumNestedForeachRange = loader.golo("loops", "sum_nested_foreach_range", 1);
+      sumForeachList = loader.golo("loops", "sum_foreach_list", 1);
+      countEvenFor = loader.golo("loops", "count_even_for", 1);
+      countEvenForeachRange = loader.golo("loops", "count_even_foreach_range", 1);
+      countEvenComprehension = loader.golo("loops", "count_even_comprehension", 1);
+      buildListFor = loader.golo("loops", "build_list_for", 1);
+      buildListForeachRange = loader.golo("loops", "build_list_foreach_range", 1);
+      buildListComprehension = loader.golo("loops", "build_list_comprehension", 1);
+    }
+  }
+
+  /* ................................................................................................................ */
+
+  @Benchmark
+  public long baseline_java_sum(DataState dataState) {
+    return JavaLoops.sum(dataState.size);
+  }
+
+  @Benchmark
+  public Object baseline_java_sum_boxed(DataState dataState) {
+    return JavaLoops.sumBoxed(dataState.boxedSize);
+  }
+
+  @Benchmark
+  public long baseline_java_sum_int_stream(DataState dataState) {
+    return JavaLoops.sumIntStream(dataState.size);
+  }
+
+  @Benchmark
+  public Object golo_sum_while(DataState dataState, GoloState goloState) throws Throwable {
+    return goloState.sumWhile.invokeExact(dataState.boxedSize);
+  }
+
+  @Benchmark
+  public Object golo_sum_for(DataState dataState, GoloState goloState) throws Throwable {
+    return goloState.sumFor.invokeExact(dataState.boxedSize);
+  }
+
+  @Benchmark
+  public Object golo_sum_foreach_range(DataState dataState, GoloState goloState) throws Throwable {
+    return goloState.sumForeachRange.invokeExact(dataState.boxedSize);
+  }
+
+  /* ................................................................................................................ */
+
+  @Benchmark
+  public long baseline_java_sum_nested(DataState dataState) {
+    return JavaLoops.sumNested(dataState.size);
+  }
+
+  @Benchmark
+  public Object golo_sum_nested_foreach_range(DataState dataState, GoloState goloState) throws Throwable {
+    return goloState.sumNestedForeachRange.invokeExact(dataState.boxedSize);
+  }
+
+  @Benchmark
+  public long baseline_java_sum_list(DataState dataState) {
+    return JavaLoops.sumList(dataState.list);
+  }
+
+  @Benchmark
+  public Object golo_sum_foreach_list(DataState dataState, GoloState goloState) throws Throwable {
+    return goloState.sumForeachList.invokeExact((Object) dataState.list);
+  }
+
+  /* ................................................................................................................ */
+
+  @Benchmark
+  public int baseline_java_count_even(DataState dataState) {
+    return JavaLoops.countEven(dataState.size);
+  }
+
+  @Benchmark
+  public Object golo_count_even_for(DataState dataState, GoloState goloState) throws Throwable {
+    return goloState.countEvenFor.invokeExact(dataState.boxedSize);
+  }
+
+  @Benchmark
+  public Object golo_count_even_foreach_range(DataState dataState, GoloState goloState) throws Throwable {
+    return goloState.countEvenForeachRange.invokeExact(dataState.boxedSize);
+  }
+
+  @Benchmark
+  public Object golo_count_even_comprehension(DataState dataState, GoloState goloState) throws Throwable {
+    return goloState.countEvenComprehension.invokeExact(dataState.boxedSize);
+  }
+
+  /* ................................................................................................................ */
+
+  @Benchmark
+  public Object baseline_java_build_linked_list(DataState dataState) {
+    return JavaLoops.buildLinkedList(dataState.size);
+  }
+
+  @Benchmark
+  public Object baseline_java_build_array_list(DataState dataState) {
+    return JavaLoops.buildArrayList(dataState.size);
+  }
+
+  @Benchmark
+  public Object golo_build_list_for(DataState dataState, GoloState goloState) throws Throwable {
+    return goloState.buildListFor.invokeExact(dataState.boxedSize);
+  }
+
+  @Benchmark
+  public Object golo_build_list_foreach_range(DataState dataState, GoloState goloState) throws Throwable {
+    return goloState.buildListForeachRange.invokeExact(dataState.boxedSize);
+  }
+
+  @Benchmark
+  public Object golo_build_list_comprehension(DataState dataState, GoloState goloState) throws Throwable {
+    return goloState.buildListComprehension.invokeExact(dataState.boxedSize);
+  }
+
+  /* ................................................................................................................ */
+}
@@ -0,0 +1,292 @@
+/*
+ * Copyright 2012-2016 Institut National des Sciences Appliquées de Lyon (INSA-Lyon)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gololang.microbenchmarks.matching;
+
+// Branches beyond the benchmarked count are never taken, so they behave as the fall-through case
+public class JavaBranches {
+
+  public static final int MAX_BRANCHES = 64;
+
+  public static int withSwitch(int x) {
+    switch (x) {
+      case 0:
+        return 0;
+      case 1:
+        return 1;
+      case 2:
+        return 2;
+      case 3:
+        return 3;
+      case 4:
+        return 4;
+      case 5:
+        return 5;
+      case 6:
+        return 6;
+      case 7:
+        return 7;
+      case 8:
+        return 8;
+      case 9:
+        return 9;
+      case 10:
+        return 10;
+      case 11:
+        return 11;
+      case 12:
+        return 12;
+      case 13:
+        return 13;
+      case 14:
+        return 14;
+      case 15:
+        return 15;
+      case 16:
+        return 16;
+      case 17:
+        return 17;
+      case 18:
+        return 18;
+      case 19:
+        return 19;
+      case 20:
+        return 20;
+      case 21:
+        return 21;
+      case 22:
+        return 22;
+      case 23:
+        return 23;
+      case 24:
+        return 24;
+      case 25:
+        return 25;
+      case 26:
+        return 26;
+      case 27:
+        return 27;
+      case 28:
+        return 28;
+      case 29:
+        return 29;
+      case 30:
+        return 30;
+      case 31:
+        return 31;
+      case 32:
+        return 32;
+      case 33:
+        return 33;
+      case 34:
+        return 34;
+      case 35:
+        return 35;
+      case 36:
+        return 36;
+      case 37:
+        return 37;
+      case 38:
+        return 38;
+      case 39:
+        return 39;
+      case 40:
+        return 40;
+      case 41:
+        return 41;
+      case 42:
+        return 42;
+      case 43:
+        return 43;
+      case 44:
+        return 44;
+      case 45:
+        return 45;
+      case 46:
+        return 46;
+      case 47:
+        return 47;
+      case 48:
+        return 48;
+      case 49:
+        return 49;
+      case 50:
+        return 50;
+      case 51:
+        return 51;
+      case 52:
+        return 52;
+      case 53:
+        return 53;
+      case 54:
+        return 54;
+      case 55:
+        return 55;
+      case 56:
+        return 56;
+      case 57:
+        return 57;
+      case 58:
+        return 58;
+      case 59:
+        return 59;
+      case 60:
+        return 60;
+      case 61:
+        return 61;
+      case 62:
+        return 62;
+      case 63:
+        return 63;
+      default:
+        return -1;
+    }
+  }
+
+  public static int withIfChain(int x) {
+    if (x == 0) {
+      return 0;
+    } else if (x == 1) {
+      return 1;
+    } else if (x == 2) {
+      return 2;
+    } else if (x == 3) {
+      return 3;
+    } else if (x == 4) {
+      return 4;
+    } else if (x == 5) {
+      return 5;
+    } else if (x == 6) {
+      return 6;
+    } else if (x == 7) {
+      return 7;
+    } else if (x == 8) {
+      return 8;
+    } else if (x == 9) {
+      return 9;
+    } else if (x == 10) {
+      return 10;
+    } else if (x == 11) {
+      return 11;
+    } else if (x == 12) {
+      return 12;
+    } else if (x == 13) {
+      return 13;
+    } else if (x == 14) {
+      return 14;
+    } else if (x == 15) {
+      return 15;
+    } else if (x == 16) {
+      return 16;
+    } else if (x == 17) {
+      return 17;
+    } else if (x == 18) {
+      return 18;
+    } else if (x == 19) {
+      return 19;
+    } else if (x == 20) {
+      return 20;
+    } else if (x == 21) {
+      return 21;
+    } else if (x == 22) {
+      return 22;
+    } else if (x == 23) {
+      return 23;
+    } else if (x == 24) {
+      return 24;
+    } else if (x == 25) {
+      return 25;
+    } else if (x == 26) {
+      return 26;
+    } else if (x == 27) {
+      return 27;
+    } else if (x == 28) {
+      return 28;
+    } else if (x == 29) {
+      return 29;
+    } else if (x == 30) {
+      return 30;
+    } else if (x == 31) {
+      return 31;
+    } else if (x == 32) {
+      return 32;
+    } else if (x == 33) {
+      return 33;
+    } else if (x == 34) {
+      return 34;
+    } else if (x == 35) {
+      return 35;
+    } else if (x == 36) {
+      return 36;
+    } else if (x == 37) {
+      return 37;
+    } else if (x == 38) {
+      return 38;
+    } else if (x == 39) {
+      return 39;
+    } else if (x == 40) {
+      return 40;
+    } else if (x == 41) {
+      return 41;
+    } else if (x == 42) {
+      return 42;
+    } else if (x == 43) {
+      return 43;
+    } else if (x == 44) {
+      return 44;
+    } else if (x == 45) {
+      return 45;
+    } else if (x == 46) {
+      return 46;
+    } else if (x == 47) {
+      return 47;
+    } else if (x == 48) {
+      return 48;
+    } else if (x == 49) {
+      return 49;
+    } else if (x == 50) {
+      return 50;
+    } else if (x == 51) {
+      return 51;
+    } else if (x == 52) {
+      return 52;
+    } else if (x == 53) {
+      return 53;
+    } else if (x == 54) {
+      return 54;
+    } else if (x == 55) {
+      return 55;
+    } else if (x == 56) {
+      return 56;
+    } else if (x == 57) {
+      return 57;
+    } else if (x == 58) {
+      return 58;
+    } else if (x == 59) {
+      return 59;
+    } else if (x == 60) {
+      return 60;
+    } else if (x == 61) {
+      return 61;
+    } else if (x == 62) {
+      return 62;
+    } else if (x == 63) {
+      return 63;
+    } else {
+      return -1;
+    }
+  }
+}
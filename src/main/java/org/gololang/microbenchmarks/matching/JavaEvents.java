@@ -0,0 +1,802 @@
+/*
+ * Copyright 2012-2016 Institut National des Sciences Appliquées de Lyon (INSA-Lyon)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gololang.microbenchmarks.matching;
+
+// Java counterparts of the generated Eventk structs, for an instanceof chain over classes known at compile time
+public class JavaEvents {
+
+  public static final class Event0 {
+    final Object id;
+
+    Event0(Object id) {
+      this.id = id;
+    }
+  }
+
+  public static final class Event1 {
+    final Object id;
+
+    Event1(Object id) {
+      this.id = id;
+    }
+  }
+
+  public static final class Event2 {
+    final Object id;
+
+    Event2(Object id) {
+      this.id = id;
+    }
+  }
+
+  public static final class Event3 {
+    final Object id;
+
+    Event3(Object id) {
+      this.id = id;
+    }
+  }
+
+  public static final class Event4 {
+    final Object id;
+
+    Event4(Object id) {
+      this.id = id;
+    }
+  }
+
+  public static final class Event5 {
+    final Object id;
+
+    Event5(Object id) {
+      this.id = id;
+    }
+  }
+
+  public static final class Event6 {
+    final Object id;
+
+    Event6(Object id) {
+      this.id = id;
+    }
+  }
+
+  public static final class Event7 {
+    final Object id;
+
+    Event7(Object id) {
+      this.id = id;
+    }
+  }
+
+  public static final class Event8 {
+    final Object id;
+
+    Event8(Object id) {
+      this.id = id;
+    }
+  }
+
+  public static final class Event9 {
+    final Object id;
+
+    Event9(Object id) {
+      this.id = id;
+    }
+  }
+
+  public static final class Event10 {
+    final Object id;
+
+    Event10(Object id) {
+      this.id = id;
+    }
+  }
+
+  public static final class Event11 {
+    final Object id;
+
+    Event11(Object id) {
+      this.id = id;
+    }
+  }
+
+  public static final class Event12 {
+    final Object id;
+
+    Event12(Object id) {
+      this.id = id;
+    }
+  }
+
+  public static final class Event13 {
+    final Object id;
+
+    Event13(Object id) {
+      this.id = id;
+    }
+  }
+
+  public static final class Event14 {
+    final Object id;
+
+    Event14(Object id) {
+      this.id = id;
+    }
+  }
+
+  public static final class Event15 {
+    final Object id;
+
+    Event15(Object id) {
+      this.id = id;
+    }
+  }
+
+  public static final class Event16 {
+    final Object id;
+
+    Event16(Object id) {
+      this.id = id;
+    }
+  }
+
+  public static final class Event17 {
+    final Object id;
+
+    Event17(Object id) {
+      this.id = id;
+    }
+  }
+
+  public static final class Event18 {
+    final Object id;
+
+    Event18(Object id) {
+      this.id = id;
+    }
+  }
+
+  public static final class Event19 {
+    final Object id;
+
+    Event19(Object id) {
+      this.id = id;
+    }
+  }
+
+  public static final class Event20 {
+    final Object id;
+
+    Event20(Object id) {
+      this.id = id;
+    }
+  }
+
+  public static final class Event21 {
+    final Object id;
+
+    Event21(Object id) {
+      this.id = id;
+    }
+  }
+
+  public static final class Event22 {
+    final Object id;
+
+    Event22(Object id) {
+      this.id = id;
+    }
+  }
+
+  public static final class Event23 {
+    final Object id;
+
+    Event23(Object id) {
+      this.id = id;
+    }
+  }
+
+  public static final class Event24 {
+    final Object id;
+
+    Event24(Object id) {
+      this.id = id;
+    }
+  }
+
+  public static final class Event25 {
+    final Object id;
+
+    Event25(Object id) {
+      this.id = id;
+    }
+  }
+
+  public static final class Event26 {
+    final Object id;
+
+    Event26(Object id) {
+      this.id = id;
+    }
+  }
+
+  public static final class Event27 {
+    final Object id;
+
+    Event27(Object id) {
+      this.id = id;
+    }
+  }
+
+  public static final class Event28 {
+    final Object id;
+
+    Event28(Object id) {
+      this.id = id;
+    }
+  }
+
+  public static final class Event29 {
+    final Object id;
+
+    Event29(Object id) {
+      this.id = id;
+    }
+  }
+
+  public static final class Event30 {
+    final Object id;
+
+    Event30(Object id) {
+      this.id = id;
+    }
+  }
+
+  public static final class Event31 {
+    final Object id;
+
+    Event31(Object id) {
+      this.id = id;
+    }
+  }
+
+  public static final class Event32 {
+    final Object id;
+
+    Event32(Object id) {
+      this.id = id;
+    }
+  }
+
+  public static final class Event33 {
+    final Object id;
+
+    Event33(Object id) {
+      this.id = id;
+    }
+  }
+
+  public static final class Event34 {
+    final Object id;
+
+    Event34(Object id) {
+      this.id = id;
+    }
+  }
+
+  public static final class Event35 {
+    final Object id;
+
+    Event35(Object id) {
+      this.id = id;
+    }
+  }
+
+  public static final class Event36 {
+    final Object id;
+
+    Event36(Object id) {
+      this.id = id;
+    }
+  }
+
+  public static final class Event37 {
+    final Object id;
+
+    Event37(Object id) {
+      this.id = id;
+    }
+  }
+
+  public static final class Event38 {
+    final Object id;
+
+    Event38(Object id) {
+      this.id = id;
+    }
+  }
+
+  public static final class Event39 {
+    final Object id;
+
+    Event39(Object id) {
+      this.id = id;
+    }
+  }
+
+  public static final class Event40 {
+    final Object id;
+
+    Event40(Object id) {
+      this.id = id;
+    }
+  }
+
+  public static final class Event41 {
+    final Object id;
+
+    Event41(Object id) {
+      this.id = id;
+    }
+  }
+
+  public static final class Event42 {
+    final Object id;
+
+    Event42(Object id) {
+      this.id = id;
+    }
+  }
+
+  public static final class Event43 {
+    final Object id;
+
+    Event43(Object id) {
+      this.id = id;
+    }
+  }
+
+  public static final class Event44 {
+    final Object id;
+
+    Event44(Object id) {
+      this.id = id;
+    }
+  }
+
+  public static final class Event45 {
+    final Object id;
+
+    Event45(Object id) {
+      this.id = id;
+    }
+  }
+
+  public static final class Event46 {
+    final Object id;
+
+    Event46(Object id) {
+      this.id = id;
+    }
+  }
+
+  public static final class Event47 {
+    final Object id;
+
+    Event47(Object id) {
+      this.id = id;
+    }
+  }
+
+  public static final class Event48 {
+    final Object id;
+
+    Event48(Object id) {
+      this.id = id;
+    }
+  }
+
+  public static final class Event49 {
+    final Object id;
+
+    Event49(Object id) {
+      this.id = id;
+    }
+  }
+
+  public static final class Event50 {
+    final Object id;
+
+    Event50(Object id) {
+      this.id = id;
+    }
+  }
+
+  public static final class Event51 {
+    final Object id;
+
+    Event51(Object id) {
+      this.id = id;
+    }
+  }
+
+  public static final class Event52 {
+    final Object id;
+
+    Event52(Object id) {
+      this.id = id;
+    }
+  }
+
+  public static final class Event53 {
+    final Object id;
+
+    Event53(Object id) {
+      this.id = id;
+    }
+  }
+
+  public static final class Event54 {
+    final Object id;
+
+    Event54(Object id) {
+      this.id = id;
+    }
+  }
+
+  public static final class Event55 {
+    final Object id;
+
+    Event55(Object id) {
+      this.id = id;
+    }
+  }
+
+  public static final class Event56 {
+    final Object id;
+
+    Event56(Object id) {
+      this.id = id;
+    }
+  }
+
+  public static final class Event57 {
+    final Object id;
+
+    Event57(Object id) {
+      this.id = id;
+    }
+  }
+
+  public static final class Event58 {
+    final Object id;
+
+    Event58(Object id) {
+      this.id = id;
+    }
+  }
+
+  public static final class Event59 {
+    final Object id;
+
+    Event59(Object id) {
+      this.id = id;
+    }
+  }
+
+  public static final class Event60 {
+    final Object id;
+
+    Event60(Object id) {
+      this.id = id;
+    }
+  }
+
+  public static final class Event61 {
+    final Object id;
+
+    Event61(Object id) {
+      this.id = id;
+    }
+  }
+
+  public static final class Event62 {
+    final Object id;
+
+    Event62(Object id) {
+      this.id = id;
+    }
+  }
+
+  public static final class Event63 {
+    final Object id;
+
+    Event63(Object id) {
+      this.id = id;
+    }
+  }
+
+  public static Object event(int i) {
+    switch (i) {
+      case 0:
+        return new Event0(i);
+      case 1:
+        return new Event1(i);
+      case 2:
+        return new Event2(i);
+      case 3:
+        return new Event3(i);
+      case 4:
+        return new Event4(i);
+      case 5:
+        return new Event5(i);
+      case 6:
+        return new Event6(i);
+      case 7:
+        return new Event7(i);
+      case 8:
+        return new Event8(i);
+      case 9:
+        return new Event9(i);
+      case 10:
+        return new Event10(i);
+      case 11:
+        return new Event11(i);
+      case 12:
+        return new Event12(i);
+      case 13:
+        return new Event13(i);
+      case 14:
+        return new Event14(i);
+      case 15:
+        return new Event15(i);
+      case 16:
+        return new Event16(i);
+      case 17:
+        return new Event17(i);
+      case 18:
+        return new Event18(i);
+      case 19:
+        return new Event19(i);
+      case 20:
+        return new Event20(i);
+      case 21:
+        return new Event21(i);
+      case 22:
+        return new Event22(i);
+      case 23:
+        return new Event23(i);
+      case 24:
+        return new Event24(i);
+      case 25:
+        return new Event25(i);
+      case 26:
+        return new Event26(i);
+      case 27:
+        return new Event27(i);
+      case 28:
+        return new Event28(i);
+      case 29:
+        return new Event29(i);
+      case 30:
+        return new Event30(i);
+      case 31:
+        return new Event31(i);
+      case 32:
+        return new Event32(i);
+      case 33:
+        return new Event33(i);
+      case 34:
+        return new Event34(i);
+      case 35:
+        return new Event35(i);
+      case 36:
+        return new Event36(i);
+      case 37:
+        return new Event37(i);
+      case 38:
+        return new Event38(i);
+      case 39:
+        return new Event39(i);
+      case 40:
+        return new Event40(i);
+      case 41:
+        return new Event41(i);
+      case 42:
+        return new Event42(i);
+      case 43:
+        return new Event43(i);
+      case 44:
+        return new Event44(i);
+      case 45:
+        return new Event45(i);
+      case 46:
+        return new Event46(i);
+      case 47:
+        return new Event47(i);
+      case 48:
+        return new Event48(i);
+      case 49:
+        return new Event49(i);
+      case 50:
+        return new Event50(i);
+      case 51:
+        return new Event51(i);
+      case 52:
+        return new Event52(i);
+      case 53:
+        return new Event53(i);
+      case 54:
+        return new Event54(i);
+      case 55:
+        return new Event55(i);
+      case 56:
+        return new Event56(i);
+      case 57:
+        return new Event57(i);
+      case 58:
+        return new Event58(i);
+      case 59:
+        return new Event59(i);
+      case 60:
+        return new Event60(i);
+      case 61:
+        return new Event61(i);
+      case 62:
+        return new Event62(i);
+      case 63:
+        return new Event63(i);
+      default:
+        return null;
+    }
+  }
+
+  public static int withInstanceofChain(Object e) {
+    if (e instanceof Event0) {
+      return 0;
+    } else if (e instanceof Event1) {
+      return 1;
+    } else if (e instanceof Event2) {
+      return 2;
+    } else if (e instanceof Event3) {
+      return 3;
+    } else if (e instanceof Event4) {
+      return 4;
+    } else if (e instanceof Event5) {
+      return 5;
+    } else if (e instanceof Event6) {
+      return 6;
+    } else if (e instanceof Event7) {
+      return 7;
+    } else if (e instanceof Event8) {
+      return 8;
+    } else if (e instanceof Event9) {
+      return 9;
+    } else if (e instanceof Event10) {
+      return 10;
+    } else if (e instanceof Event11) {
+      return 11;
+    } else if (e instanceof Event12) {
+      return 12;
+    } else if (e instanceof Event13) {
+      return 13;
+    } else if (e instanceof Event14) {
+      return 14;
+    } else if (e instanceof Event15) {
+      return 15;
+    } else if (e instanceof Event16) {
+      return 16;
+    } else if (e instanceof Event17) {
+      return 17;
+    } else if (e instanceof Event18) {
+      return 18;
+    } else if (e instanceof Event19) {
+      return 19;
+    } else if (e instanceof Event20) {
+      return 20;
+    } else if (e instanceof Event21) {
+      return 21;
+    } else if (e instanceof Event22) {
+      return 22;
+    } else if (e instanceof Event23) {
+      return 23;
+    } else if (e instanceof Event24) {
+      return 24;
+    } else if (e instanceof Event25) {
+      return 25;
+    } else if (e instanceof Event26) {
+      return 26;
+    } else if (e instanceof Event27) {
+      return 27;
+    } else if (e instanceof Event28) {
+      return 28;
+    } else if (e instanceof Event29) {
+      return 29;
+    } else if (e instanceof Event30) {
+      return 30;
+    } else if (e instanceof Event31) {
+      return 31;
+    } else if (e instanceof Event32) {
+      return 32;
+    } else if (e instanceof Event33) {
+      return 33;
+    } else if (e instanceof Event34) {
+      return 34;
+    } else if (e instanceof Event35) {
+      return 35;
+    } else if (e instanceof Event36) {
+      return 36;
+    } else if (e instanceof Event37) {
+      return 37;
+    } else if (e instanceof Event38) {
+      return 38;
+    } else if (e instanceof Event39) {
+      return 39;
+    } else if (e instanceof Event40) {
+      return 40;
+    } else if (e instanceof Event41) {
+      return 41;
+    } else if (e instanceof Event42) {
+      return 42;
+    } else if (e instanceof Event43) {
+      return 43;
+    } else if (e instanceof Event44) {
+      return 44;
+    } else if (e instanceof Event45) {
+      return 45;
+    } else if (e instanceof Event46) {
+      return 46;
+    } else if (e instanceof Event47) {
+      return 47;
+    } else if (e instanceof Event48) {
+      return 48;
+    } else if (e instanceof Event49) {
+      return 49;
+    } else if (e instanceof Event50) {
+      return 50;
+    } else if (e instanceof Event51) {
+      return 51;
+    } else if (e instanceof Event52) {
+      return 52;
+    } else if (e instanceof Event53) {
+      return 53;
+    } else if (e instanceof Event54) {
+      return 54;
+    } else if (e instanceof Event55) {
+      return 55;
+    } else if (e instanceof Event56) {
+      return 56;
+    } else if (e instanceof Event57) {
+      return 57;
+    } else if (e instanceof Event58) {
+      return 58;
+    } else if (e instanceof Event59) {
+      return 59;
+    } else if (e instanceof Event60) {
+      return 60;
+    } else if (e instanceof Event61) {
+      return 61;
+    } else if (e instanceof Event62) {
+      return 62;
+    } else if (e instanceof Event63) {
+      return 63;
+    } else {
+      return -1;
+    }
+  }
+}
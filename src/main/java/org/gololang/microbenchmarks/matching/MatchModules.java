@@ -0,0 +1,68 @@
+/*
+ * Copyright 2012-2016 Institut National des Sciences Appliquées de Lyon (INSA-Lyon)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gololang.microbenchmarks.matching;
+
+// Branch k matches the value k or an instance of the Eventk struct, and evaluates to k
+public class MatchModules {
+
+  public static final String MODULE = "gen.Matching";
+
+  public static String generate(int branches) {
+    StringBuilder source = new StringBuilder("module " + MODULE + "\n\n");
+    for (int i = 0; i < branches; i++) {
+      source.append("struct Event").append(i).append(" = { id }\n");
+    }
+
+    source.append("\nlet VALUE_TABLE = array[");
+    for (int i = 0; i < branches; i++) {
+      source.append(i == 0 ? "" : ", ").append("|x| -> ").append(i);
+    }
+    source.append("]\n\nlet TYPE_TABLE = map[");
+    for (int i = 0; i < branches; i++) {
+      source.append(i == 0 ? "" : ", ").append("[Event").append(i).append(".class, |e| -> ").append(i).append("]");
+    }
+    source.append("]\n");
+
+    source.append("\nfunction match_value = |x| -> match {\n");
+    for (int i = 0; i < branches; i++) {
+      source.append("  when x == ").append(i).append(" then ").append(i).append("\n");
+    }
+    source.append("  otherwise -1\n}\n");
+
+    source.append("\nfunction case_value = |x| {\n  case {\n");
+    for (int i = 0; i < branches; i++) {
+      source.append("    when x == ").append(i).append(" {\n      return ").append(i).append("\n    }\n");
+    }
+    source.append("    otherwise {\n      return -1\n    }\n  }\n}\n");
+
+    source.append("\nfunction match_type = |e| -> match {\n");
+    for (int i = 0; i < branches; i++) {
+      source.append("  when e oftype Event").append(i).append(".class then ").append(i).append("\n");
+    }
+    source.append("  otherwise -1\n}\n");
+
+    source.append("\nfunction table_value = |x| -> VALUE_TABLE: get(x)(x)\n");
+    source.append("\nfunction table_type = |e| -> TYPE_TABLE: get(e: getClass())(e)\n");
+
+    source.append("\nfunction event = |i| -> match {\n");
+    for (int i = 0; i < branches; i++) {
+      source.append("  when i == ").append(i).append(" then Event").append(i).append("(i)\n");
+    }
+    source.append("  otherwise null\n}\n");
+    return source.toString();
+  }
+}
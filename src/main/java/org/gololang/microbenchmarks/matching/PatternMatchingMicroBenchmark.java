@@ -0,0 +1,179 @@
+/*
+ * Copyright 2012-2016 Institut National des Sciences Appliquées de Lyon (INSA-Lyon)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gololang.microbenchmarks.matching;
+
+import org.gololang.microbenchmarks.support.CodeLoader;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static java.lang.invoke.MethodType.genericMethodType;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PatternMatchingMicroBenchmark {
+
+  /* ................................................................................................................ */
+
+  private static final int N = 1024;
+
+  /* ................................................................................................................ */
+
+  @State(Scope.Thread)
+  static public class DataState {
+
+    @Param({"2", "4", "8", "16", "32", "64"})
+    int branches;
+
+    // uniform: every branch equally likely, skewed: Zipf-like with the first branches being hot, constant: always the last branch
+    @Param({"uniform", "skewed", "constant"})
+    String selection;
+
+    int[] values;
+    Object[] boxedValues;
+    Object[] events;
+    Object[] javaEvents;
+
+    Map<Class<?>, Function<Object, Object>> javaHandlers;
+
+    MethodHandle goloMatchValue;
+    MethodHandle goloCaseValue;
+    MethodHandle goloTableValue;
+    MethodHandle goloMatchType;
+    MethodHandle goloTableType;
+
+    private int pos = 0;
+
+    public int nextIndex() {
+      int i = pos;
+      pos = (pos + 1) % N;
+      return i;
+    }
+
+    @Setup(Level.Trial)
+    public void prepare() throws Throwable {
+      Random random = new Random(987_654L);
+      double[] cumulative = new double[branches];
+      double total = 0.0;
+      for (int i = 0; i < branches; i++) {
+        total = total + 1.0 / (i + 1);
+        cumulative[i] = total;
+      }
+      MethodHandle event = new CodeLoader().goloFromSources("event", 1, MatchModules.generate(branches));
+      values = new int[N];
+      boxedValues = new Object[N];
+      events = new Object[N];
+      javaEvents = new Object[N];
+      for (int i = 0; i < N; i++) {
+        switch (selection) {
+          case "uniform":
+            values[i] = random.nextInt(branches);
+            break;
+          case "skewed":
+            double target = random.nextDouble() * total;
+            int branch = 0;
+            while (cumulative[branch] < target) {
+              branch = branch + 1;
+            }
+            values[i] = branch;
+            break;
+          case "constant":
+            values[i] = branches - 1;
+            break;
+          default:
+            throw new IllegalArgumentException("Unknown branch selection: " + selection);
+        }
+        boxedValues[i] = values[i];
+        events[i] = event.invoke(boxedValues[i]);
+        javaEvents[i] = JavaEvents.event(values[i]);
+      }
+
+      javaHandlers = new HashMap<>();
+      for (int i = 0; i < N; i++) {
+        Object branch = boxedValues[i];
+        javaHandlers.putIfAbsent(events[i].getClass(), e -> branch);
+      }
+
+      // The functions come from the module that created the events, so that the struct classes match
+      Class<?> module = events[0].getClass().getClassLoader().loadClass(MatchModules.MODULE);
+      MethodHandles.Lookup lookup = MethodHandles.lookup();
+      goloMatchValue = lookup.findStatic(module, "match_value", genericMethodType(1));
+      goloCaseValue = lookup.findStatic(module, "case_value", genericMethodType(1));
+      goloTableValue = lookup.findStatic(module, "table_value", genericMethodType(1));
+      goloMatchType = lookup.findStatic(module, "match_type", genericMethodType(1));
+      goloTableType = lookup.findStatic(module, "table_type", genericMethodType(1));
+    }
+  }
+
+  /* ................................................................................................................ */
+
+  @Benchmark
+  public int baseline_java_switch(DataState dataState) {
+    return JavaBranches.withSwitch(dataState.values[dataState.nextIndex()]);
+  }
+
+  @Benchmark
+  public int baseline_java_if_chain(DataState dataState) {
+    return JavaBranches.withIfChain(dataState.values[dataState.nextIndex()]);
+  }
+
+  @Benchmark
+  public Object golo_match_value(DataState dataState) throws Throwable {
+    return dataState.goloMatchValue.invokeExact(dataState.boxedValues[dataState.nextIndex()]);
+  }
+
+  @Benchmark
+  public Object golo_case_value(DataState dataState) throws Throwable {
+    return dataState.goloCaseValue.invokeExact(dataState.boxedValues[dataState.nextIndex()]);
+  }
+
+  @Benchmark
+  public Object golo_table_value(DataState dataState) throws Throwable {
+    return dataState.goloTableValue.invokeExact(dataState.boxedValues[dataState.nextIndex()]);
+  }
+
+  /* ................................................................................................................ */
+
+  @Benchmark
+  public int baseline_java_instanceof_chain(DataState dataState) {
+    return JavaEvents.withInstanceofChain(dataState.javaEvents[dataState.nextIndex()]);
+  }
+
+  @Benchmark
+  public Object baseline_java_class_map(DataState dataState) {
+    Object event = dataState.events[dataState.nextIndex()];
+    return dataState.javaHandlers.get(event.getClass()).apply(event);
+  }
+
+  @Benchmark
+  public Object golo_match_type(DataState dataState) throws Throwable {
+    return dataState.goloMatchType.invokeExact(dataState.events[dataState.nextIndex()]);
+  }
+
+  @Benchmark
+  public Object golo_table_type(DataState dataState) throws Throwable {
+    return dataState.goloTableType.invokeExact(dataState.events[dataState.nextIndex()]);
+  }
+
+  /* ................................................................................................................ */
+}
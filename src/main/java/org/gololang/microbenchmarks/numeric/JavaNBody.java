@@ -0,0 +1,130 @@
+/*
+ * Copyright 2012-2016 Institut National des Sciences Appliquées de Lyon (INSA-Lyon)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gololang.microbenchmarks.numeric;
+
+// The n-body simulation of the computer language benchmarks game, returns the energy of the system after the steps
+public class JavaNBody {
+
+  private static final double PI = 3.141592653589793;
+  private static final double SOLAR_MASS = 4.0 * PI * PI;
+  private static final double DAYS_PER_YEAR = 365.24;
+  private static final double DT = 0.01;
+
+  static final class Body {
+
+    double x;
+    double y;
+    double z;
+    double vx;
+    double vy;
+    double vz;
+    final double mass;
+
+    Body(double x, double y, double z, double vx, double vy, double vz, double mass) {
+      this.x = x;
+      this.y = y;
+      this.z = z;
+      this.vx = vx * DAYS_PER_YEAR;
+      this.vy = vy * DAYS_PER_YEAR;
+      this.vz = vz * DAYS_PER_YEAR;
+      this.mass = mass * SOLAR_MASS;
+    }
+  }
+
+  static Body[] system() {
+    Body[] bodies = new Body[]{
+        new Body(0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 1.0),
+        new Body(
+            4.84143144246472090e+00, -1.16032004402742839e+00, -1.03622044471123109e-01,
+            1.66007664274403694e-03, 7.69901118419740425e-03, -6.90460016972063023e-05,
+            9.54791938424326609e-04),
+        new Body(
+            8.34336671824457987e+00, 4.12479856412430479e+00, -4.03523417114321381e-01,
+            -2.76742510726862411e-03, 4.99852801234917238e-03, 2.30417297573763929e-05,
+            2.85885980666130812e-04),
+        new Body(
+            1.28943695621391310e+01, -1.51111514016986312e+01, -2.23307578892655734e-01,
+            2.96460137564761618e-03, 2.37847173959480950e-03, -2.96589568540237556e-05,
+            4.36624404335156298e-05),
+        new Body(
+            1.53796971148509165e+01, -2.59193146099879641e+01, 1.79258772950371181e-01,
+            2.68067772490389322e-03, 1.62824170038242295e-03, -9.51592254519715870e-05,
+            5.15138902046611451e-05)
+    };
+    double px = 0.0;
+    double py = 0.0;
+    double pz = 0.0;
+    for (Body body : bodies) {
+      px = px + body.vx * body.mass;
+      py = py + body.vy * body.mass;
+      pz = pz + body.vz * body.mass;
+    }
+    bodies[0].vx = -px / SOLAR_MASS;
+    bodies[0].vy = -py / SOLAR_MASS;
+    bodies[0].vz = -pz / SOLAR_MASS;
+    return bodies;
+  }
+
+  static void advance(Body[] bodies) {
+    for (int i = 0; i < bodies.length; i++) {
+      Body a = bodies[i];
+      for (int j = i + 1; j < bodies.length; j++) {
+        Body b = bodies[j];
+        double dx = a.x - b.x;
+        double dy = a.y - b.y;
+        double dz = a.z - b.z;
+        double squared = dx * dx + dy * dy + dz * dz;
+        double magnitude = DT / (squared * Math.sqrt(squared));
+        a.vx = a.vx - dx * b.mass * magnitude;
+        a.vy = a.vy - dy * b.mass * magnitude;
+        a.vz = a.vz - dz * b.mass * magnitude;
+        b.vx = b.vx + dx * a.mass * magnitude;
+        b.vy = b.vy + dy * a.mass * magnitude;
+        b.vz = b.vz + dz * a.mass * magnitude;
+      }
+    }
+    for (Body body : bodies) {
+      body.x = body.x + DT * body.vx;
+      body.y = body.y + DT * body.vy;
+      body.z = body.z + DT * body.vz;
+    }
+  }
+
+  static double energy(Body[] bodies) {
+    double energy = 0.0;
+    for (int i = 0; i < bodies.length; i++) {
+      Body a = bodies[i];
+      energy = energy + 0.5 * a.mass * (a.vx * a.vx + a.vy * a.vy + a.vz * a.vz);
+      for (int j = i + 1; j < bodies.length; j++) {
+        Body b = bodies[j];
+        double dx = a.x - b.x;
+        double dy = a.y - b.y;
+        double dz = a.z - b.z;
+        energy = energy - (a.mass * b.mass) / Math.sqrt(dx * dx + dy * dy + dz * dz);
+      }
+    }
+    return energy;
+  }
+
+  public static double run(int steps) {
+    Body[] bodies = system();
+    for (int i = 0; i < steps; i++) {
+      advance(bodies);
+    }
+    return energy(bodies);
+  }
+}
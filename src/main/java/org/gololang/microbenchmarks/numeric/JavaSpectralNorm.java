@@ -0,0 +1,70 @@
+/*
+ * Copyright 2012-2016 Institut National des Sciences Appliquées de Lyon (INSA-Lyon)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gololang.microbenchmarks.numeric;
+
+// The spectral-norm of the computer language benchmarks game, 10 power iterations on an n x n matrix
+public class JavaSpectralNorm {
+
+  private static double a(int i, int j) {
+    return 1.0 / ((i + j) * (i + j + 1) / 2 + i + 1);
+  }
+
+  private static void multiplyAv(double[] v, double[] av) {
+    for (int i = 0; i < v.length; i++) {
+      double sum = 0.0;
+      for (int j = 0; j < v.length; j++) {
+        sum = sum + a(i, j) * v[j];
+      }
+      av[i] = sum;
+    }
+  }
+
+  private static void multiplyAtv(double[] v, double[] atv) {
+    for (int i = 0; i < v.length; i++) {
+      double sum = 0.0;
+      for (int j = 0; j < v.length; j++) {
+        sum = sum + a(j, i) * v[j];
+      }
+      atv[i] = sum;
+    }
+  }
+
+  private static void multiplyAtAv(double[] v, double[] tmp, double[] atav) {
+    multiplyAv(v, tmp);
+    multiplyAtv(tmp, atav);
+  }
+
+  public static double run(int n) {
+    double[] u = new double[n];
+    double[] v = new double[n];
+    double[] tmp = new double[n];
+    for (int i = 0; i < n; i++) {
+      u[i] = 1.0;
+    }
+    for (int i = 0; i < 10; i++) {
+      multiplyAtAv(u, tmp, v);
+      multiplyAtAv(v, tmp, u);
+    }
+    double vBv = 0.0;
+    double vv = 0.0;
+    for (int i = 0; i < n; i++) {
+      vBv = vBv + u[i] * v[i];
+      vv = vv + v[i] * v[i];
+    }
+    return Math.sqrt(vBv / vv);
+  }
+}
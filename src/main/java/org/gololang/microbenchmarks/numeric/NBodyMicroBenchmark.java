@@ -0,0 +1,202 @@
+/*
+ * Copyright 2012-2016 Institut National des Sciences Appliquées de Lyon (INSA-Lyon)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gololang.microbenchmarks.numeric;
+
+import clojure.lang.Var;
+import org.gololang.microbenchmarks.support.CodeLoader;
+import org.gololang.microbenchmarks.support.JRubyContainerAndReceiver;
+import org.openjdk.jmh.annotations.*;
+import org.python.core.Py;
+import org.python.core.PyFunction;
+import org.python.core.PyObject;
+import org.python.util.PythonInterpreter;
+
+import javax.script.Invocable;
+import java.lang.invoke.MethodHandle;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.invoke.MethodType.genericMethodType;
+import static java.lang.invoke.MethodType.methodType;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class NBodyMicroBenchmark {
+
+  /* ................................................................................................................ */
+
+  @State(Scope.Thread)
+  static public class DataState {
+
+    // Steps of the simulation, the system has 5 bodies
+    @Param({"1000", "100000"})
+    int steps;
+
+    Object boxed;
+
+    @Setup(Level.Trial)
+    public void prepare() {
+      boxed = steps;
+    }
+  }
+
+  // Jython is too slow for the longer simulations
+  @State(Scope.Thread)
+  static public class JythonDataState {
+
+    @Param({"1000", "10000"})
+    int jythonSteps;
+
+    PyObject boxed;
+
+    @Setup(Level.Trial)
+    public void prepare() {
+      boxed = Py.newInteger(jythonSteps);
+    }
+  }
+
+  /* ................................................................................................................ */
+
+  @State(Scope.Thread)
+  static public class GoloState {
+    MethodHandle run;
+
+    @Setup(Level.Trial)
+    public void prepare() {
+      run = new CodeLoader().golo("nbody", "run", 1);
+    }
+  }
+
+  @State(Scope.Thread)
+  static public class GroovyState {
+    MethodHandle run;
+    MethodHandle fastestRun;
+
+    @Setup(Level.Trial)
+    public void prepare() {
+      run = new CodeLoader().groovy("NBody", "run", genericMethodType(1));
+      fastestRun = new CodeLoader().groovy("NBody", "fastest_run", methodType(double.class, int.class));
+    }
+  }
+
+  @State(Scope.Thread)
+  static public class GroovyIndyState {
+    MethodHandle run;
+    MethodHandle fastestRun;
+
+    @Setup(Level.Trial)
+    public void prepare() {
+      run = new CodeLoader().groovy_indy("NBody", "run", genericMethodType(1));
+      fastestRun = new CodeLoader().groovy_indy("NBody", "fastest_run", methodType(double.class, int.class));
+    }
+  }
+
+  @State(Scope.Thread)
+  static public class ClojureState {
+    Var run;
+
+    @Setup(Level.Trial)
+    public void prepare() {
+      run = new CodeLoader().clojure("nbody", "nbody", "run");
+    }
+  }
+
+  @State(Scope.Thread)
+  static public class JRubyState {
+    JRubyContainerAndReceiver containerAndReceiver;
+
+    @Setup(Level.Trial)
+    public void prepare() {
+      containerAndReceiver = new CodeLoader().jruby("nbody");
+    }
+  }
+
+  @State(Scope.Thread)
+  static public class NashornState {
+    Invocable invocable;
+
+    @Setup(Level.Trial)
+    public void prepare() {
+      invocable = (Invocable) new CodeLoader().nashorn("nbody");
+    }
+  }
+
+  @State(Scope.Thread)
+  static public class JythonState {
+    PyFunction run;
+
+    @Setup(Level.Trial)
+    public void prepare() {
+      PythonInterpreter interpreter = new CodeLoader().jython("nbody");
+      run = (PyFunction) interpreter.get("run");
+    }
+  }
+
+  /* ................................................................................................................ */
+
+  @Benchmark
+  public double baseline_java(DataState dataState) {
+    return JavaNBody.run(dataState.steps);
+  }
+
+  @Benchmark
+  public Object golo(DataState dataState, GoloState goloState) throws Throwable {
+    return goloState.run.invokeExact(dataState.boxed);
+  }
+
+  @Benchmark
+  public Object groovy(DataState dataState, GroovyState groovyState) throws Throwable {
+    return groovyState.run.invokeExact(dataState.boxed);
+  }
+
+  @Benchmark
+  public Object groovy_indy(DataState dataState, GroovyIndyState groovyState) throws Throwable {
+    return groovyState.run.invokeExact(dataState.boxed);
+  }
+
+  @Benchmark
+  public double groovy_compile_static(DataState dataState, GroovyState groovyState) throws Throwable {
+    return (double) groovyState.fastestRun.invokeExact(dataState.steps);
+  }
+
+  @Benchmark
+  public double groovy_indy_compile_static(DataState dataState, GroovyIndyState groovyState) throws Throwable {
+    return (double) groovyState.fastestRun.invokeExact(dataState.steps);
+  }
+
+  @Benchmark
+  public Object clojure(DataState dataState, ClojureState clojureState) {
+    return clojureState.run.invoke(dataState.boxed);
+  }
+
+  @Benchmark
+  public Object jruby(DataState dataState, JRubyState jRubyState) {
+    return jRubyState.containerAndReceiver.container()
+        .callMethod(jRubyState.containerAndReceiver.receiver(), "run", dataState.boxed);
+  }
+
+  @Benchmark
+  public Object nashorn(DataState dataState, NashornState nashornState) throws Throwable {
+    return nashornState.invocable.invokeFunction("run", dataState.boxed);
+  }
+
+  @Benchmark
+  public Object jython(JythonDataState dataState, JythonState jythonState) {
+    return jythonState.run.__call__(dataState.boxed);
+  }
+
+  /* ................................................................................................................ */
+}
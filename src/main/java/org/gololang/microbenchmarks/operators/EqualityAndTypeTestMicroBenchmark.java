@@ -0,0 +1,297 @@
+/*
+ * Copyright 2012-2016 Institut National des Sciences Appliquées de Lyon (INSA-Lyon)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gololang.microbenchmarks.operators;
+
+import org.gololang.microbenchmarks.support.CodeLoader;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.invoke.MethodHandle;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class EqualityAndTypeTestMicroBenchmark {
+
+  /* ................................................................................................................ */
+
+  private static final int N = 1024;
+
+  /* ................................................................................................................ */
+
+  // Even slots pair an element with itself, odd slots with its neighbour
+  private static Object[] others(Object[] data) {
+    Object[] others = new Object[N];
+    for (int i = 0; i < N; i++) {
+      others[i] = (i % 2 == 0) ? data[i] : data[(i + 1) % N];
+    }
+    return others;
+  }
+
+  @State(Scope.Thread)
+  static public class MonomorphicState {
+
+    Object[] data;
+    Object[] others;
+
+    private int pos = 0;
+
+    public int nextIndex() {
+      int i = pos;
+      pos = (pos + 1) % N;
+      return i;
+    }
+
+    @Setup(Level.Trial)
+    public void prepare() {
+      data = new Object[N];
+      Random random = new Random();
+      for (int i = 0; i < N; i++) {
+        data[i] = String.valueOf(random.nextInt(16));
+      }
+      others = others(data);
+    }
+  }
+
+  @State(Scope.Thread)
+  static public class PolyMorphicState {
+
+    Object[] data;
+    Object[] others;
+
+    private int pos = 0;
+
+    public int nextIndex() {
+      int i = pos;
+      pos = (pos + 1) % N;
+      return i;
+    }
+
+    @Setup(Level.Trial)
+    public void prepare() {
+      Object[] objects = new Object[]{
+          1,
+          "Hey!",
+          new Object(),
+          null,
+          new ArrayList<>(),
+          new HashMap<>(),
+          123.666D,
+          new TreeSet<>(),
+          666L,
+          true
+      };
+      data = new Object[N];
+      for (int i = 0; i < N; i++) {
+        data[i] = objects[i % objects.length];
+      }
+      others = others(data);
+    }
+  }
+
+  @State(Scope.Thread)
+  static public class GoloState {
+
+    MethodHandle equals;
+    MethodHandle notEquals;
+    MethodHandle identical;
+    MethodHandle notIdentical;
+    MethodHandle oftypeString;
+    MethodHandle oftypeNumber;
+    MethodHandle orIfNull;
+
+    @Setup(Level.Trial)
+    public void prepare() {
+      CodeLoader loader = new CodeLoader();
+      equals = loader.golo("operators", "equals", 2);
+      notEquals = loader.golo("operators", "not_equals", 2);
+      identical = loader.golo("operators", "identical", 2);
+      notIdentical = loader.golo("operators", "not_identical", 2);
+      oftypeString = loader.golo("operators", "oftype_string", 1);
+      oftypeNumber = loader.golo("operators", "oftype_number", 1);
+      orIfNull = loader.golo("operators", "or_if_null", 2);
+    }
+  }
+
+  /* ................................................................................................................ */
+
+  @Benchmark
+  public boolean monomorphic_baseline_java_equals(MonomorphicState state) {
+    int index = state.nextIndex();
+    return Objects.equals(state.data[index], state.others[index]);
+  }
+
+  @Benchmark
+  public Object monomorphic_golo_equals(MonomorphicState state, GoloState goloState) throws Throwable {
+    int index = state.nextIndex();
+    return goloState.equals.invokeExact(state.data[index], state.others[index]);
+  }
+
+  @Benchmark
+  public boolean monomorphic_baseline_java_not_equals(MonomorphicState state) {
+    int index = state.nextIndex();
+    return !Objects.equals(state.data[index], state.others[index]);
+  }
+
+  @Benchmark
+  public Object monomorphic_golo_not_equals(MonomorphicState state, GoloState goloState) throws Throwable {
+    int index = state.nextIndex();
+    return goloState.notEquals.invokeExact(state.data[index], state.others[index]);
+  }
+
+  @Benchmark
+  public boolean monomorphic_baseline_java_is(MonomorphicState state) {
+    int index = state.nextIndex();
+    return state.data[index] == state.others[index];
+  }
+
+  @Benchmark
+  public Object monomorphic_golo_is(MonomorphicState state, GoloState goloState) throws Throwable {
+    int index = state.nextIndex();
+    return goloState.identical.invokeExact(state.data[index], state.others[index]);
+  }
+
+  @Benchmark
+  public boolean monomorphic_baseline_java_isnt(MonomorphicState state) {
+    int index = state.nextIndex();
+    return state.data[index] != state.others[index];
+  }
+
+  @Benchmark
+  public Object monomorphic_golo_isnt(MonomorphicState state, GoloState goloState) throws Throwable {
+    int index = state.nextIndex();
+    return goloState.notIdentical.invokeExact(state.data[index], state.others[index]);
+  }
+
+  @Benchmark
+  public boolean monomorphic_baseline_java_instanceof_string(MonomorphicState state) {
+    return state.data[state.nextIndex()] instanceof String;
+  }
+
+  @Benchmark
+  public Object monomorphic_golo_oftype_string(MonomorphicState state, GoloState goloState) throws Throwable {
+    return goloState.oftypeString.invokeExact(state.data[state.nextIndex()]);
+  }
+
+  @Benchmark
+  public boolean monomorphic_baseline_java_instanceof_number(MonomorphicState state) {
+    return state.data[state.nextIndex()] instanceof Number;
+  }
+
+  @Benchmark
+  public Object monomorphic_golo_oftype_number(MonomorphicState state, GoloState goloState) throws Throwable {
+    return goloState.oftypeNumber.invokeExact(state.data[state.nextIndex()]);
+  }
+
+  @Benchmark
+  public Object monomorphic_baseline_java_null_check(MonomorphicState state) {
+    int index = state.nextIndex();
+    Object value = state.data[index];
+    return (value != null) ? value : state.others[index];
+  }
+
+  @Benchmark
+  public Object monomorphic_golo_or_if_null(MonomorphicState state, GoloState goloState) throws Throwable {
+    int index = state.nextIndex();
+    return goloState.orIfNull.invokeExact(state.data[index], state.others[index]);
+  }
+
+  /* ................................................................................................................ */
+
+  @Benchmark
+  public boolean polymorphic_baseline_java_equals(PolyMorphicState state) {
+    int index = state.nextIndex();
+    return Objects.equals(state.data[index], state.others[index]);
+  }
+
+  @Benchmark
+  public Object polymorphic_golo_equals(PolyMorphicState state, GoloState goloState) throws Throwable {
+    int index = state.nextIndex();
+    return goloState.equals.invokeExact(state.data[index], state.others[index]);
+  }
+
+  @Benchmark
+  public boolean polymorphic_baseline_java_not_equals(PolyMorphicState state) {
+    int index = state.nextIndex();
+    return !Objects.equals(state.data[index], state.others[index]);
+  }
+
+  @Benchmark
+  public Object polymorphic_golo_not_equals(PolyMorphicState state, GoloState goloState) throws Throwable {
+    int index = state.nextIndex();
+    return goloState.notEquals.invokeExact(state.data[index], state.others[index]);
+  }
+
+  @Benchmark
+  public boolean polymorphic_baseline_java_is(PolyMorphicState state) {
+    int index = state.nextIndex();
+    return state.data[index] == state.others[index];
+  }
+
+  @Benchmark
+  public Object polymorphic_golo_is(PolyMorphicState state, GoloState goloState) throws Throwable {
+    int index = state.nextIndex();
+    return goloState.identical.invokeExact(state.data[index], state.others[index]);
+  }
+
+  @Benchmark
+  public boolean polymorphic_baseline_java_isnt(PolyMorphicState state) {
+    int index = state.nextIndex();
+    return state.data[index] != state.others[index];
+  }
+
+  @Benchmark
+  public Object polymorphic_golo_isnt(PolyMorphicState state, GoloState goloState) throws Throwable {
+    int index = state.nextIndex();
+    return goloState.notIdentical.invokeExact(state.data[index], state.others[index]);
+  }
+
+  @Benchmark
+  public boolean polymorphic_baseline_java_instanceof_string(PolyMorphicState state) {
+    return state.data[state.nextIndex()] instanceof String;
+  }
+
+  @Benchmark
+  public Object polymorphic_golo_oftype_string(PolyMorphicState state, GoloState goloState) throws Throwable {
+    return goloState.oftypeString.invokeExact(state.data[state.nextIndex()]);
+  }
+
+  @Benchmark
+  public boolean polymorphic_baseline_java_instanceof_number(PolyMorphicState state) {
+    return state.data[state.nextIndex()] instanceof Number;
+  }
+
+  @Benchmark
+  public Object polymorphic_golo_oftype_number(PolyMorphicState state, GoloState goloState) throws Throwable {
+    return goloState.oftypeNumber.invokeExact(state.data[state.nextIndex()]);
+  }
+
+  @Benchmark
+  public Object polymorphic_baseline_java_null_check(PolyMorphicState state) {
+    int index = state.nextIndex();
+    Object value = state.data[index];
+    return (value != null) ? value : state.others[index];
+  }
+
+  @Benchmark
+  public Object polymorphic_golo_or_if_null(PolyMorphicState state, GoloState goloState) throws Throwable {
+    int index = state.nextIndex();
+    return goloState.orIfNull.invokeExact(state.data[index], state.others[index]);
+  }
+
+  /* ................................................................................................................ */
+}
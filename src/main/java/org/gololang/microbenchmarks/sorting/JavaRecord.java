@@ -0,0 +1,36 @@
+/*
+ * Copyright 2012-2016 Institut National des Sciences Appliquées de Lyon (INSA-Lyon)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gololang.microbenchmarks.sorting;
+
+public final class JavaRecord {
+
+  private final int id;
+  private final int score;
+
+  public JavaRecord(int id, int score) {
+    this.id = id;
+    this.score = score;
+  }
+
+  public int id() {
+    return id;
+  }
+
+  public int score() {
+    return score;
+  }
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright 2012-2016 Institut National des Sciences Appliquées de Lyon (INSA-Lyon)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gololang.microbenchmarks.sorting;
+
+import org.gololang.microbenchmarks.support.CodeLoader;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.invoke.MethodHandle;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+// Lists are copied before sorting so that every operation sorts shuffled data, baseline_java_copy gives the copy cost
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SortingMicroBenchmark {
+
+  /* ................................................................................................................ */
+
+  private static final int MAX_SCORE = 1_000_000;
+
+  private static final Comparator<JavaRecord> BY_SCORE = (a, b) -> Integer.compare(a.score(), b.score());
+
+  // Makes the comparator call sites inside TimSort megamorphic before the measured sorts run
+  private static void polluteSortProfile() {
+    Random random = new Random(42L);
+    List<Comparator<Integer>> comparators = Arrays.asList(
+        Integer::compare,
+        (a, b) -> Integer.compare(b, a),
+        Comparator.comparingInt(a -> a % 1000),
+        Comparator.comparing(String::valueOf));
+    for (int i = 0; i < 2000; i++) {
+      List<Integer> list = new ArrayList<>();
+      for (int j = 0; j < 100; j++) {
+        list.add(random.nextInt());
+      }
+      list.sort(comparators.get(i % comparators.size()));
+    }
+  }
+
+  /* ................................................................................................................ */
+
+  @State(Scope.Thread)
+  static public class JavaState {
+
+    @Param({"1000", "100000", "1000000", "10000000"})
+    int size;
+
+    List<JavaRecord> records;
+
+    @Setup(Level.Trial)
+    public void prepare() {
+      Random random = new Random(666L);
+      records = new ArrayList<>(size);
+      for (int i = 0; i < size; i++) {
+        records.add(new JavaRecord(i, random.nextInt(MAX_SCORE)));
+      }
+    }
+  }
+
+  @State(Scope.Thread)
+  static public class GoloState {
+
+    @Param({"1000", "100000", "1000000", "10000000"})
+    int size;
+
+    @Param({"struct", "dynamic", "java"})
+    String kind;
+
+    List<Object> records;
+
+    MethodHandle listSort;
+    MethodHandle collectionsSort;
+    MethodHandle sortComparing;
+    MethodHandle groupBy;
+
+    @Setup(Level.Trial)
+    public void prepare() throws Throwable {
+      CodeLoader loader = new CodeLoader();
+      MethodHandle structRecord = loader.golo("sorting", "struct_record", 2);
+      MethodHandle dynamicRecord = loader.golo("sorting", "dynamic_record", 2);
+      Random random = new Random(666L);
+      records = new ArrayList<>(size);
+      for (int i = 0; i < size; i++) {
+        int score = random.nextInt(MAX_SCORE);
+        switch (kind) {
+          case "struct":
+            records.add(structRecord.invoke(i, score));
+            break;
+          case "dynamic":
+            records.add(dynamicRecord.invoke(i, score));
+            break;
+          case "java":
+            records.add(new JavaRecord(i, score));
+            break;
+          default:
+            throw new IllegalArgumentException("Unknown record kind: " + kind);
+        }
+      }
+      listSort = loader.golo("sorting", "list_sort", 1);
+      collectionsSort = loader.golo("sorting", "collections_sort", 1);
+      sortComparing = loader.golo("sorting", "sort_comparing", 1);
+      groupBy = loader.golo("sorting", "group_by", 1);
+    }
+  }
+
+  @State(Scope.Thread)
+  static public class PollutedProfileState {
+
+    @Setup(Level.Trial)
+    public void prepare() {
+      polluteSortProfile();
+    }
+  }
+
+  /* ................................................................................................................ */
+
+  @Benchmark
+  public Object baseline_java_copy(JavaState state) {
+    return new ArrayList<>(state.records);
+  }
+
+  @Benchmark
+  public Object baseline_java_list_sort_lambda(JavaState state) {
+    List<JavaRecord> list = new ArrayList<>(state.records);
+    list.sort(BY_SCORE);
+    return list;
+  }
+
+  @Benchmark
+  public Object baseline_java_collections_sort_lambda(JavaState state) {
+    List<JavaRecord> list = new ArrayList<>(state.records);
+    Collections.sort(list, BY_SCORE);
+    return list;
+  }
+
+  @Benchmark
+  public Object baseline_java_sort_comparing_int(JavaState state) {
+    List<JavaRecord> list = new ArrayList<>(state.records);
+    list.sort(Comparator.comparingInt(JavaRecord::score));
+    return list;
+  }
+
+  @Benchmark
+  public Object golo_list_sort(GoloState state) throws Throwable {
+    return state.listSort.invokeExact((Object) new ArrayList<>(state.records));
+  }
+
+  @Benchmark
+  public Object golo_collections_sort(GoloState state) throws Throwable {
+    return state.collectionsSort.invokeExact((Object) new ArrayList<>(state.records));
+  }
+
+  @Benchmark
+  public Object golo_sort_comparing(GoloState state) throws Throwable {
+    return state.sortComparing.invokeExact((Object) new ArrayList<>(state.records));
+  }
+
+  /* ................................................................................................................ */
+
+  @Benchmark
+  public Object baseline_java_list_sort_lambda_polluted(JavaState state, PollutedProfileState pollutedState) {
+    List<JavaRecord> list = new ArrayList<>(state.records);
+    list.sort(BY_SCORE);
+    return list;
+  }
+
+  @Benchmark
+  public Object golo_list_sort_polluted(GoloState state, PollutedProfileState pollutedState) throws Throwable {
+    return state.listSort.invokeExact((Object) new ArrayList<>(state.records));
+  }
+
+  /* ................................................................................................................ */
+
+  @Benchmark
+  public Object baseline_java_group_by(JavaState state) {
+    return state.records.stream().collect(Collectors.groupingBy(record -> record.score() % 64));
+  }
+
+  @Benchmark
+  public Object golo_group_by(GoloState state) throws Throwable {
+    return state.groupBy.invokeExact((Object) state.records);
+  }
+
+  /* ................................................................................................................ */
+}
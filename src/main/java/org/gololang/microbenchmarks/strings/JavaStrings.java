@@ -0,0 +1,68 @@
+/*
+ * Copyright 2012-2016 Institut National des Sciences Appliquées de Lyon (INSA-Lyon)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gololang.microbenchmarks.strings;
+
+import java.util.List;
+
+public class JavaStrings {
+
+  static final String TEMPLATE = "<entry>\n  <id>%d</id>\n  <name>%s</name>\n</entry>\n";
+
+  public static String concatPlus(List<String> words) {
+    String result = "";
+    for (String word : words) {
+      result = result + word + ",";
+    }
+    return result;
+  }
+
+  public static String concatBuilder(List<String> words) {
+    StringBuilder builder = new StringBuilder();
+    for (String word : words) {
+      builder.append(word).append(",");
+    }
+    return builder.toString();
+  }
+
+  public static int format(List<String> words) {
+    int length = 0;
+    for (int i = 0; i < words.size(); i++) {
+      length = length + String.format("%05d:%s", i, words.get(i)).length();
+    }
+    return length;
+  }
+
+  public static String formatTemplate(List<String> words) {
+    StringBuilder builder = new StringBuilder();
+    for (int i = 0; i < words.size(); i++) {
+      builder.append(String.format(TEMPLATE, i, words.get(i)));
+    }
+    return builder.toString();
+  }
+
+  public static String splitJoin(String csv) {
+    return String.join(" | ", csv.split(","));
+  }
+
+  public static long parse(String numbers) {
+    long sum = 0L;
+    for (String number : numbers.split(",")) {
+      sum = sum + Integer.parseInt(number);
+    }
+    return sum;
+  }
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright 2012-2016 Institut National des Sciences Appliquées de Lyon (INSA-Lyon)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gololang.microbenchmarks.strings;
+
+import org.gololang.microbenchmarks.support.CodeLoader;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.invoke.MethodHandle;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Run with -prof gc to get the bytes allocated per operation by each idiom.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StringsMicroBenchmark {
+
+  /* ................................................................................................................ */
+
+  @State(Scope.Thread)
+  static public class DataState {
+
+    // Number of words, fields or records
+    @Param({"10", "100", "1000"})
+    int size;
+
+    List<String> words;
+    String csv;
+    String numbers;
+
+    @Setup(Level.Trial)
+    public void prepare() {
+      Random random = new Random(24_680L);
+      words = new ArrayList<>(size);
+      List<String> values = new ArrayList<>(size);
+      for (int i = 0; i < size; i++) {
+        char[] word = new char[3 + random.nextInt(8)];
+        for (int j = 0; j < word.length; j++) {
+          word[j] = (char) ('a' + random.nextInt(26));
+        }
+        words.add(new String(word));
+        values.add(Integer.toString(random.nextInt(1_000_000)));
+      }
+      csv = String.join(",", words);
+      numbers = String.join(",", values);
+    }
+  }
+
+  @State(Scope.Thread)
+  static public class GoloState {
+
+    MethodHandle concatPlus;
+    MethodHandle concatBuilder;
+    MethodHandle formatInterop;
+    MethodHandle formatAugmentation;
+    MethodHandle formatMultiline;
+    MethodHandle splitJoinInterop;
+    MethodHandle splitJoinAugmentations;
+    MethodHandle parseInterop;
+    MethodHandle parseAugmentations;
+
+    @Setup(Level.Trial)
+    public void prepare() {
+      CodeLoader loader = new CodeLoader();
+      concatPlus = loader.golo("strings", "concat_plus", 1);
+      concatBuilder = loader.golo("strings", "concat_builder", 1);
+      formatInterop = loader.golo("strings", "format_interop", 1);
+      formatAugmentation = loader.golo("strings", "format_augmentation", 1);
+      formatMultiline = loader.golo("strings", "format_multiline", 1);
+      splitJoinInterop = loader.golo("strings", "split_join_interop", 1);
+      splitJoinAugmentations = loader.golo("strings", "split_join_augmentations", 1);
+      parseInterop = loader.golo("strings", "parse_interop", 1);
+      parseAugmentations = loader.golo("strings", "parse_augmentations", 1);
+    }
+  }
+
+  /* ................................................................................................................ */
+
+  @Benchmark
+  public String baseline_java_concat_plus(DataState dataState) {
+    return JavaStrings.concatPlus(dataState.words);
+  }
+
+  @Benchmark
+  public String baseline_java_concat_builder(DataState dataState) {
+    return JavaStrings.concatBuilder(dataState.words);
+  }
+
+  @Benchmark
+  public Object golo_concat_plus(DataState dataState, GoloState goloState) throws Throwable {
+    return goloState.concatPlus.invokeExact((Object) dataState.words);
+  }
+
+  @Benchmark
+  public Object golo_concat_builder(DataState dataState, GoloState goloState) throws Throwable {
+    return goloState.concatBuilder.invokeExact((Object) dataState.words);
+  }
+
+  /* ................................................................................................................ */
+
+  @Benchmark
+  public int baseline_java_format(DataState dataState) {
+    return JavaStrings.format(dataState.words);
+  }
+
+  @Benchmark
+  public Object golo_format_interop(DataState dataState, GoloState goloState) throws Throwable {
+    return goloState.formatInterop.invokeExact((Object) dataState.words);
+  }
+
+  @Benchmark
+  public Object golo_format_augmentation(DataState dataState, GoloState goloState) throws Throwable {
+    return goloState.formatAugmentation.invokeExact((Object) dataState.words);
+  }
+
+  @Benchmark
+  public String baseline_java_format_template(DataState dataState) {
+    return JavaStrings.formatTemplate(dataState.words);
+  }
+
+  @Benchmark
+  public Object golo_format_multiline(DataState dataState, GoloState goloState) throws Throwable {
+    return goloState.formatMultiline.invokeExact((Object) dataState.words);
+  }
+
+  /* ................................................................................................................ */
+
+  @Benchmark
+  public String baseline_java_split_join(DataState dataState) {
+    return JavaStrings.splitJoin(dataState.csv);
+  }
+
+  @Benchmark
+  public Object golo_split_join_interop(DataState dataState, GoloState goloState) throws Throwable {
+    return goloState.splitJoinInterop.invokeExact((Object) dataState.csv);
+  }
+
+  @Benchmark
+  public Object golo_split_join_augmentations(DataState dataState, GoloState goloState) throws Throwable {
+    return goloState.splitJoinAugmentations.invokeExact((Object) dataState.csv);
+  }
+
+  /* ................................................................................................................ */
+
+  @Benchmark
+  public long baseline_java_parse(DataState dataState) {
+    return JavaStrings.parse(dataState.numbers);
+  }
+
+  @Benchmark
+  public Object golo_parse_interop(DataState dataState, GoloState goloState) throws Throwable {
+    return goloState.parseInterop.invokeExact((Object) dataState.numbers);
+  }
+
+  @Benchmark
+  public Object golo_parse_augmentations(DataState dataState, GoloState goloState) throws Throwable {
+    return goloState.parseAugmentations.invokeExact((Object) dataState.numbers);
+  }
+
+  /* ................................................................................................................ */
+}
@@ -25,10 +25,12 @@ import org.python.util.PythonInterpreter;
 
 import javax.script.ScriptEngine;
 import javax.script.ScriptEngineManager;
+import java.io.ByteArrayInputStream;
 import java.io.InputStreamReader;
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodType;
+import java.nio.charset.StandardCharsets;
 
 public class CodeLoader {
 
@@ -45,6 +47,20 @@ public class CodeLoader {
     }
   }
 
+  public MethodHandle goloFromSources(String func, int argCount, String... sources) {
+    GoloClassLoader classLoader = new GoloClassLoader();
+    Class<?> module = null;
+    for (int i = 0; i < sources.length; i++) {
+      String filename = "generated-" + i + ".golo";
+      module = classLoader.load(filename, new ByteArrayInputStream(sources[i].getBytes(StandardCharsets.UTF_8)));
+    }
+    try {
+      return LOOKUP.findStatic(module, func, MethodType.genericMethodType(argCount));
+    } catch (Exception e) {
+      throw new RuntimeException(e);
+    }
+  }
+
   public MethodHandle groovy(String file, String method, MethodType type) {
     CompilerConfiguration.DEFAULT.getOptimizationOptions().put("indy", false);
     CompilerConfiguration configuration = new CompilerConfiguration();
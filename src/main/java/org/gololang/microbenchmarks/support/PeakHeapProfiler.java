@@ -0,0 +1,73 @@
+/*
+ * Copyright 2012-2016 Institut National des Sciences Appliquées de Lyon (INSA-Lyon)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gololang.microbenchmarks.support;
+
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.profile.InternalProfiler;
+import org.openjdk.jmh.results.AggregationPolicy;
+import org.openjdk.jmh.results.IterationResult;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.ScalarResult;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+// Use with -prof org.gololang.microbenchmarks.support.PeakHeapProfiler.
+// The total is the sum of the per-pool peaks, which may have been reached at different times, so it is an upper bound.
+public class PeakHeapProfiler implements InternalProfiler {
+
+  private static List<MemoryPoolMXBean> heapPools() {
+    List<MemoryPoolMXBean> pools = new ArrayList<>();
+    for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+      if (pool.getType() == MemoryType.HEAP && pool.isValid()) {
+        pools.add(pool);
+      }
+    }
+    return pools;
+  }
+
+  @Override
+  public String getDescription() {
+    return "Peak heap memory pool usage per iteration";
+  }
+
+  @Override
+  public void beforeIteration(BenchmarkParams benchmarkParams, IterationParams iterationParams) {
+    System.gc();
+    for (MemoryPoolMXBean pool : heapPools()) {
+      pool.resetPeakUsage();
+    }
+  }
+
+  @Override
+  public Collection<? extends Result> afterIteration(BenchmarkParams benchmarkParams, IterationParams iterationParams, IterationResult result) {
+    List<Result> results = new ArrayList<>();
+    long total = 0L;
+    for (MemoryPoolMXBean pool : heapPools()) {
+      long peak = pool.getPeakUsage().getUsed();
+      total = total + peak;
+      results.add(new ScalarResult("·heap.peak." + pool.getName().replace(' ', '_'), peak, "bytes", AggregationPolicy.MAX));
+    }
+    results.add(new ScalarResult("·heap.peak", total, "bytes", AggregationPolicy.MAX));
+    return results;
+  }
+}
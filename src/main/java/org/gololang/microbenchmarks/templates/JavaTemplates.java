@@ -0,0 +1,44 @@
+/*
+ * Copyright 2012-2016 Institut National des Sciences Appliquées de Lyon (INSA-Lyon)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gololang.microbenchmarks.templates;
+
+import java.util.List;
+import java.util.Map;
+
+public class JavaTemplates {
+
+  // Renders the same text as OrderTemplates.ORDER_SUMMARY
+  public static String orderSummary(Map<String, Object> customer, List<Map<String, Object>> items) {
+    StringBuilder result = new StringBuilder();
+    result.append("\nDear ").append(customer.get("name")).append(",\n");
+    result.append("\n");
+    result.append("Here is the summary of order #").append(customer.get("order")).append(":\n");
+    int total = 0;
+    for (Map<String, Object> item : items) {
+      int quantity = (Integer) item.get("quantity");
+      int price = (Integer) item.get("price");
+      result.append("  - ").append(item.get("name")).append(" x ").append(quantity).append(" = ").append(quantity * price).append(" cents");
+      if (quantity > 5) {
+        result.append(" (bulk)");
+      }
+      result.append("\n");
+      total = total + quantity * price;
+    }
+    result.append("Total: ").append(total).append(" cents\n");
+    return result.toString();
+  }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2012-2016 Institut National des Sciences Appliquées de Lyon (INSA-Lyon)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gololang.microbenchmarks.templates;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/*
+ * An order summary email template for gololang.TemplateEngine, along with generated customers and order items.
+ */
+public class OrderTemplates {
+
+  private static final String HEADER = "<%@params customer, items %>";
+
+  private static final String SECTION = ""
+      + "Dear <%= customer: get(\"name\") %>,\n"
+      + "\n"
+      + "Here is the summary of order #<%= customer: get(\"order\") %>:\n"
+      + "<% var total = 0 %><% foreach item in items { %>"
+      + "  - <%= item: get(\"name\") %> x <%= item: get(\"quantity\") %> = <%= item: get(\"quantity\") * item: get(\"price\") %> cents"
+      + "<% if item: get(\"quantity\") > 5 { %> (bulk)<% } %>\n"
+      + "<% total = total + item: get(\"quantity\") * item: get(\"price\") } %>"
+      + "Total: <%= total %> cents\n";
+
+  public static final String ORDER_SUMMARY = HEADER + "\n" + SECTION;
+
+  // A template with the order summary section repeated, to get templates of increasing size
+  public static String repeated(int sections) {
+    StringBuilder template = new StringBuilder(HEADER).append("\n");
+    for (int i = 0; i < sections; i++) {
+      template.append(SECTION.replace("total", "total_" + i));
+    }
+    return template.toString();
+  }
+
+  public static Map<String, Object> customer() {
+    Map<String, Object> customer = new HashMap<>();
+    customer.put("name", "Ada Lovelace");
+    customer.put("order", 1815);
+    return customer;
+  }
+
+  public static List<Map<String, Object>> items(int count) {
+    Random random = new Random(13_579L);
+    List<Map<String, Object>> items = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      Map<String, Object> item = new HashMap<>();
+      item.put("name", "item-" + i);
+      item.put("quantity", 1 + random.nextInt(10));
+      item.put("price", 50 + random.nextInt(5000));
+      items.add(item);
+    }
+    return items;
+  }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2012-2016 Institut National des Sciences Appliquées de Lyon (INSA-Lyon)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gololang.microbenchmarks.templates;
+
+import gololang.TemplateEngine;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.invoke.MethodHandle;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.invoke.MethodType.genericMethodType;
+
+/*
+ * The bytes counter gives the throughput in bytes per second: bytes of template text for compilations, bytes of
+ * rendered text for renderings.
+ *
+ * The *_shared benchmarks render from 4 threads with the same compiled template.
+ *
+ * compile_golo uses a new engine per compilation: an engine defines every module it compiles in its own class loader,
+ * so reusing one would keep all the compiled templates alive until the end of the trial.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class TemplatesMicroBenchmark {
+
+  /* ................................................................................................................ */
+
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.OPERATIONS)
+  static public class Bytes {
+
+    public long bytes;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+      bytes = 0L;
+    }
+  }
+
+  @State(Scope.Thread)
+  static public class CompileState {
+
+    @Param({"1", "10", "100"})
+    int sections;
+
+    String template;
+    long templateBytes;
+    TemplateEngine engine;
+
+    @Setup(Level.Trial)
+    public void prepare() {
+      template = OrderTemplates.repeated(sections);
+      templateBytes = template.getBytes(StandardCharsets.UTF_8).length;
+      engine = new TemplateEngine();
+    }
+  }
+
+  // Everything here is only read by the benchmarks, so all threads share the compiled template
+  @State(Scope.Benchmark)
+  static public class RenderState {
+
+    @Param({"1", "10", "100", "1000"})
+    int iterations;
+
+    Map<String, Object> customer;
+    List<Map<String, Object>> items;
+    long renderedBytes;
+    MethodHandle template;
+
+    @Setup(Level.Trial)
+    public void prepare() {
+      customer = OrderTemplates.customer();
+      items = OrderTemplates.items(iterations);
+      renderedBytes = JavaTemplates.orderSummary(customer, items).getBytes(StandardCharsets.UTF_8).length;
+      template = new TemplateEngine().compile(OrderTemplates.ORDER_SUMMARY).handle().asType(genericMethodType(2));
+    }
+  }
+
+  /* ................................................................................................................ */
+
+  @Benchmark
+  public String compile_template_to_golo(CompileState compileState, Bytes counter) {
+    counter.bytes += compileState.templateBytes;
+    return compileState.engine.templateToGolo(compileState.template);
+  }
+
+  @Benchmark
+  public Object compile_golo(CompileState compileState, Bytes counter) {
+    counter.bytes += compileState.templateBytes;
+    return new TemplateEngine().compile(compileState.template);
+  }
+
+  /* ................................................................................................................ */
+
+  @Benchmark
+  public String render_baseline_java(RenderState renderState, Bytes counter) {
+    counter.bytes += renderState.renderedBytes;
+    return JavaTemplates.orderSummary(renderState.customer, renderState.items);
+  }
+
+  @Benchmark
+  public Object render_golo(RenderState renderState, Bytes counter) throws Throwable {
+    counter.bytes += renderState.renderedBytes;
+    return renderState.template.invokeExact((Object) renderState.customer, (Object) renderState.items);
+  }
+
+  @Benchmark
+  @Threads(4)
+  public String render_baseline_java_shared(RenderState renderState, Bytes counter) {
+    counter.bytes += renderState.renderedBytes;
+    return JavaTemplates.orderSummary(renderState.customer, renderState.items);
+  }
+
+  @Benchmark
+  @Threads(4)
+  public Object render_golo_shared(RenderState renderState, Bytes counter) throws Throwable {
+    counter.bytes += renderState.renderedBytes;
+    return renderState.template.invokeExact((Object) renderState.customer, (Object) renderState.items);
+  }
+
+  /* ................................................................................................................ */
+}
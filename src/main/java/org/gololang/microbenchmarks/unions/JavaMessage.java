@@ -0,0 +1,566 @@
+/*
+ * Copyright 2012-2016 Institut National des Sciences Appliquées de Lyon (INSA-Lyon)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gololang.microbenchmarks.unions;
+
+public abstract class JavaMessage {
+
+  public static final int MAX_VARIANTS = 32;
+
+  private final Object id;
+  private final Object payload;
+
+  protected JavaMessage(Object id, Object payload) {
+    this.id = id;
+    this.payload = payload;
+  }
+
+  public Object id() {
+    return id;
+  }
+
+  public Object payload() {
+    return payload;
+  }
+
+  public abstract Object handle();
+
+  public static JavaMessage create(int variant, Object id, Object payload) {
+    switch (variant) {
+      case 0:
+        return new Variant0(id, payload);
+      case 1:
+        return new Variant1(id, payload);
+      case 2:
+        return new Variant2(id, payload);
+      case 3:
+        return new Variant3(id, payload);
+      case 4:
+        return new Variant4(id, payload);
+      case 5:
+        return new Variant5(id, payload);
+      case 6:
+        return new Variant6(id, payload);
+      case 7:
+        return new Variant7(id, payload);
+      case 8:
+        return new Variant8(id, payload);
+      case 9:
+        return new Variant9(id, payload);
+      case 10:
+        return new Variant10(id, payload);
+      case 11:
+        return new Variant11(id, payload);
+      case 12:
+        return new Variant12(id, payload);
+      case 13:
+        return new Variant13(id, payload);
+      case 14:
+        return new Variant14(id, payload);
+      case 15:
+        return new Variant15(id, payload);
+      case 16:
+        return new Variant16(id, payload);
+      case 17:
+        return new Variant17(id, payload);
+      case 18:
+        return new Variant18(id, payload);
+      case 19:
+        return new Variant19(id, payload);
+      case 20:
+        return new Variant20(id, payload);
+      case 21:
+        return new Variant21(id, payload);
+      case 22:
+        return new Variant22(id, payload);
+      case 23:
+        return new Variant23(id, payload);
+      case 24:
+        return new Variant24(id, payload);
+      case 25:
+        return new Variant25(id, payload);
+      case 26:
+        return new Variant26(id, payload);
+      case 27:
+        return new Variant27(id, payload);
+      case 28:
+        return new Variant28(id, payload);
+      case 29:
+        return new Variant29(id, payload);
+      case 30:
+        return new Variant30(id, payload);
+      case 31:
+        return new Variant31(id, payload);
+      default:
+        throw new IllegalArgumentException("Variant must be between 0 and " + (MAX_VARIANTS - 1) + ": " + variant);
+    }
+  }
+
+  // The counterpart of a Golo match on the isVariantk() tests
+  public static Object handleWithInstanceof(JavaMessage message) {
+    if (message instanceof Variant0) {
+      return 0;
+    } else if (message instanceof Variant1) {
+      return 1;
+    } else if (message instanceof Variant2) {
+      return 2;
+    } else if (message instanceof Variant3) {
+      return 3;
+    } else if (message instanceof Variant4) {
+      return 4;
+    } else if (message instanceof Variant5) {
+      return 5;
+    } else if (message instanceof Variant6) {
+      return 6;
+    } else if (message instanceof Variant7) {
+      return 7;
+    } else if (message instanceof Variant8) {
+      return 8;
+    } else if (message instanceof Variant9) {
+      return 9;
+    } else if (message instanceof Variant10) {
+      return 10;
+    } else if (message instanceof Variant11) {
+      return 11;
+    } else if (message instanceof Variant12) {
+      return 12;
+    } else if (message instanceof Variant13) {
+      return 13;
+    } else if (message instanceof Variant14) {
+      return 14;
+    } else if (message instanceof Variant15) {
+      return 15;
+    } else if (message instanceof Variant16) {
+      return 16;
+    } else if (message instanceof Variant17) {
+      return 17;
+    } else if (message instanceof Variant18) {
+      return 18;
+    } else if (message instanceof Variant19) {
+      return 19;
+    } else if (message instanceof Variant20) {
+      return 20;
+    } else if (message instanceof Variant21) {
+      return 21;
+    } else if (message instanceof Variant22) {
+      return 22;
+    } else if (message instanceof Variant23) {
+      return 23;
+    } else if (message instanceof Variant24) {
+      return 24;
+    } else if (message instanceof Variant25) {
+      return 25;
+    } else if (message instanceof Variant26) {
+      return 26;
+    } else if (message instanceof Variant27) {
+      return 27;
+    } else if (message instanceof Variant28) {
+      return 28;
+    } else if (message instanceof Variant29) {
+      return 29;
+    } else if (message instanceof Variant30) {
+      return 30;
+    } else if (message instanceof Variant31) {
+      return 31;
+    } else {
+      return -1;
+    }
+  }
+
+  public static final class Variant0 extends JavaMessage {
+
+    public Variant0(Object id, Object payload) {
+      super(id, payload);
+    }
+
+    @Override
+    public Object handle() {
+      return 0;
+    }
+  }
+
+  public static final class Variant1 extends JavaMessage {
+
+    public Variant1(Object id, Object payload) {
+      super(id, payload);
+    }
+
+    @Override
+    public Object handle() {
+      return 1;
+    }
+  }
+
+  public static final class Variant2 extends JavaMessage {
+
+    public Variant2(Object id, Object payload) {
+      super(id, payload);
+    }
+
+    @Override
+    public Object handle() {
+      return 2;
+    }
+  }
+
+  public static final class Variant3 extends JavaMessage {
+
+    public Variant3(Object id, Object payload) {
+      super(id, payload);
+    }
+
+    @Override
+    public Object handle() {
+      return 3;
+    }
+  }
+
+  public static final class Variant4 extends JavaMessage {
+
+    public Variant4(Object id, Object payload) {
+      super(id, payload);
+    }
+
+    @Override
+    public Object handle() {
+      return 4;
+    }
+  }
+
+  public static final class Variant5 extends JavaMessage {
+
+    public Variant5(Object id, Object payload) {
+      super(id, payload);
+    }
+
+    @Override
+    public Object handle() {
+      return 5;
+    }
+  }
+
+  public static final class Variant6 extends JavaMessage {
+
+    public Variant6(Object id, Object payload) {
+      super(id, payload);
+    }
+
+    @Override
+    public Object handle() {
+      return 6;
+    }
+  }
+
+  public static final class Variant7 extends JavaMessage {
+
+    public Variant7(Object id, Object payload) {
+      super(id, payload);
+    }
+
+    @Override
+    public Object handle() {
+      return 7;
+    }
+  }
+
+  public static final class Variant8 extends JavaMessage {
+
+    public Variant8(Object id, Object payload) {
+      super(id, payload);
+    }
+
+    @Override
+    public Object handle() {
+      return 8;
+    }
+  }
+
+  public static final class Variant9 extends JavaMessage {
+
+    public Variant9(Object id, Object payload) {
+      super(id, payload);
+    }
+
+    @Override
+    public Object handle() {
+      return 9;
+    }
+  }
+
+  public static final class Variant10 extends JavaMessage {
+
+    public Variant10(Object id, Object payload) {
+      super(id, payload);
+    }
+
+    @Override
+    public Object handle() {
+      return 10;
+    }
+  }
+
+  public static final class Variant11 extends JavaMessage {
+
+    public Variant11(Object id, Object payload) {
+      super(id, payload);
+    }
+
+    @Override
+    public Object handle() {
+      return 11;
+    }
+  }
+
+  public static final class Variant12 extends JavaMessage {
+
+    public Variant12(Object id, Object payload) {
+      super(id, payload);
+    }
+
+    @Override
+    public Object handle() {
+      return 12;
+    }
+  }
+
+  public static final class Variant13 extends JavaMessage {
+
+    public Variant13(Object id, Object payload) {
+      super(id, payload);
+    }
+
+    @Override
+    public Object handle() {
+      return 13;
+    }
+  }
+
+  public static final class Variant14 extends JavaMessage {
+
+    public Variant14(Object id, Object payload) {
+      super(id, payload);
+    }
+
+    @Override
+    public Object handle() {
+      return 14;
+    }
+  }
+
+  public static final class Variant15 extends JavaMessage {
+
+    public Variant15(Object id, Object payload) {
+      super(id, payload);
+    }
+
+    @Override
+    public Object handle() {
+      return 15;
+    }
+  }
+
+  public static final class Variant16 extends JavaMessage {
+
+    public Variant16(Object id, Object payload) {
+      super(id, payload);
+    }
+
+    @Override
+    public Object handle() {
+      return 16;
+    }
+  }
+
+  public static final class Variant17 extends JavaMessage {
+
+    public Variant17(Object id, Object payload) {
+      super(id, payload);
+    }
+
+    @Override
+    public Object handle() {
+      return 17;
+    }
+  }
+
+  public static final class Variant18 extends JavaMessage {
+
+    public Variant18(Object id, Object payload) {
+      super(id, payload);
+    }
+
+    @Override
+    public Object handle() {
+      return 18;
+    }
+  }
+
+  public static final class Variant19 extends JavaMessage {
+
+    public Variant19(Object id, Object payload) {
+      super(id, payload);
+    }
+
+    @Override
+    public Object handle() {
+      return 19;
+    }
+  }
+
+  public static final class Variant20 extends JavaMessage {
+
+    public Variant20(Object id, Object payload) {
+      super(id, payload);
+    }
+
+    @Override
+    public Object handle() {
+      return 20;
+    }
+  }
+
+  public static final class Variant21 extends JavaMessage {
+
+    public Variant21(Object id, Object payload) {
+      super(id, payload);
+    }
+
+    @Override
+    public Object handle() {
+      return 21;
+    }
+  }
+
+  public static final class Variant22 extends JavaMessage {
+
+    public Variant22(Object id, Object payload) {
+      super(id, payload);
+    }
+
+    @Override
+    public Object handle() {
+      return 22;
+    }
+  }
+
+  public static final class Variant23 extends JavaMessage {
+
+    public Variant23(Object id, Object payload) {
+      super(id, payload);
+    }
+
+    @Override
+    public Object handle() {
+      return 23;
+    }
+  }
+
+  public static final class Variant24 extends JavaMessage {
+
+    public Variant24(Object id, Object payload) {
+      super(id, payload);
+    }
+
+    @Override
+    public Object handle() {
+      return 24;
+    }
+  }
+
+  public static final class Variant25 extends JavaMessage {
+
+    public Variant25(Object id, Object payload) {
+      super(id, payload);
+    }
+
+    @Override
+    public Object handle() {
+      return 25;
+    }
+  }
+
+  public static final class Variant26 extends JavaMessage {
+
+    public Variant26(Object id, Object payload) {
+      super(id, payload);
+    }
+
+    @Override
+    public Object handle() {
+      return 26;
+    }
+  }
+
+  public static final class Variant27 extends JavaMessage {
+
+    public Variant27(Object id, Object payload) {
+      super(id, payload);
+    }
+
+    @Override
+    public Object handle() {
+      return 27;
+    }
+  }
+
+  public static final class Variant28 extends JavaMessage {
+
+    public Variant28(Object id, Object payload) {
+      super(id, payload);
+    }
+
+    @Override
+    public Object handle() {
+      return 28;
+    }
+  }
+
+  public static final class Variant29 extends JavaMessage {
+
+    public Variant29(Object id, Object payload) {
+      super(id, payload);
+    }
+
+    @Override
+    public Object handle() {
+      return 29;
+    }
+  }
+
+  public static final class Variant30 extends JavaMessage {
+
+    public Variant30(Object id, Object payload) {
+      super(id, payload);
+    }
+
+    @Override
+    public Object handle() {
+      return 30;
+    }
+  }
+
+  public static final class Variant31 extends JavaMessage {
+
+    public Variant31(Object id, Object payload) {
+      super(id, payload);
+    }
+
+    @Override
+    public Object handle() {
+      return 31;
+    }
+  }
+}
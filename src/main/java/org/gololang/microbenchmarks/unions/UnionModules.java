@@ -0,0 +1,61 @@
+/*
+ * Copyright 2012-2016 Institut National des Sciences Appliquées de Lyon (INSA-Lyon)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gololang.microbenchmarks.unions;
+
+// Variant k of the Message union carries an id and a payload, and its handle() augmentation evaluates to k
+public class UnionModules {
+
+  public static final String MODULE = "gen.Unions";
+
+  public static String generate(int variants) {
+    StringBuilder source = new StringBuilder("module " + MODULE + "\n\n");
+
+    source.append("union Message = {\n");
+    for (int i = 0; i < variants; i++) {
+      source.append("  Variant").append(i).append(" = { id, payload }\n");
+    }
+    source.append("}\n");
+
+    for (int i = 0; i < variants; i++) {
+      source.append("\naugment Message$Variant").append(i).append(" {\n")
+          .append("  function handle = |this| -> ").append(i).append("\n")
+          .append("}\n");
+    }
+
+    source.append("\nfunction create = |variant, id, payload| -> match {\n");
+    for (int i = 0; i < variants; i++) {
+      source.append("  when variant == ").append(i).append(" then Message.Variant").append(i).append("(id, payload)\n");
+    }
+    source.append("  otherwise null\n}\n");
+
+    source.append("\nfunction construct = |id, payload| -> Message.Variant0(id, payload)\n");
+    source.append("\nfunction handle = |message| -> message: handle()\n");
+    source.append("\nfunction is_first = |message| -> message: isVariant0()\n");
+
+    source.append("\nfunction handle_with_tests = |message| -> match {\n");
+    for (int i = 0; i < variants; i++) {
+      source.append("  when message: isVariant").append(i).append("() then ").append(i).append("\n");
+    }
+    source.append("  otherwise -1\n}\n");
+
+    source.append("\nfunction destructure = |message| {\n")
+        .append("  let id, payload = message\n")
+        .append("  return payload\n")
+        .append("}\n");
+    return source.toString();
+  }
+}
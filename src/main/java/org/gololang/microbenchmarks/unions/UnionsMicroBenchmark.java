@@ -0,0 +1,160 @@
+/*
+ * Copyright 2012-2016 Institut National des Sciences Appliquées de Lyon (INSA-Lyon)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gololang.microbenchmarks.unions;
+
+import org.gololang.microbenchmarks.support.CodeLoader;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.invoke.MethodType.genericMethodType;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class UnionsMicroBenchmark {
+
+  /* ................................................................................................................ */
+
+  private static final int N = 1024;
+
+  /* ................................................................................................................ */
+
+  @State(Scope.Thread)
+  static public class JavaState {
+
+    @Param({"2", "4", "8", "16", "32"})
+    int variants;
+
+    JavaMessage[] messages;
+    Object id = 666;
+    Object payload = "payload";
+
+    private int pos = 0;
+
+    public JavaMessage next() {
+      JavaMessage message = messages[pos];
+      pos = (pos + 1) % N;
+      return message;
+    }
+
+    @Setup(Level.Trial)
+    public void prepare() {
+      messages = new JavaMessage[N];
+      for (int i = 0; i < N; i++) {
+        messages[i] = JavaMessage.create(i % variants, i, "payload-" + i);
+      }
+    }
+  }
+
+  // The functions come from the module that created the messages, so that the union classes match
+  @State(Scope.Thread)
+  static public class GoloState {
+
+    @Param({"2", "4", "8", "16", "32"})
+    int variants;
+
+    Object[] messages;
+    Object id = 666;
+    Object payload = "payload";
+
+    MethodHandle construct;
+    MethodHandle handle;
+    MethodHandle isFirst;
+    MethodHandle handleWithTests;
+    MethodHandle destructure;
+
+    private int pos = 0;
+
+    public Object next() {
+      Object message = messages[pos];
+      pos = (pos + 1) % N;
+      return message;
+    }
+
+    @Setup(Level.Trial)
+    public void prepare() throws Throwable {
+      MethodHandle create = new CodeLoader().goloFromSources("create", 3, UnionModules.generate(variants));
+      messages = new Object[N];
+      for (int i = 0; i < N; i++) {
+        messages[i] = create.invoke(i % variants, i, "payload-" + i);
+      }
+      Class<?> module = messages[0].getClass().getClassLoader().loadClass(UnionModules.MODULE);
+      MethodHandles.Lookup lookup = MethodHandles.lookup();
+      construct = lookup.findStatic(module, "construct", genericMethodType(2));
+      handle = lookup.findStatic(module, "handle", genericMethodType(1));
+      isFirst = lookup.findStatic(module, "is_first", genericMethodType(1));
+      handleWithTests = lookup.findStatic(module, "handle_with_tests", genericMethodType(1));
+      destructure = lookup.findStatic(module, "destructure", genericMethodType(1));
+    }
+  }
+
+  /* ................................................................................................................ */
+
+  @Benchmark
+  public Object baseline_java_construct(JavaState state) {
+    return new JavaMessage.Variant0(state.id, state.payload);
+  }
+
+  @Benchmark
+  public Object golo_construct(GoloState state) throws Throwable {
+    return state.construct.invokeExact(state.id, state.payload);
+  }
+
+  @Benchmark
+  public Object baseline_java_virtual_dispatch(JavaState state) {
+    return state.next().handle();
+  }
+
+  @Benchmark
+  public Object golo_augmentation_dispatch(GoloState state) throws Throwable {
+    return state.handle.invokeExact(state.next());
+  }
+
+  @Benchmark
+  public boolean baseline_java_instanceof(JavaState state) {
+    return state.next() instanceof JavaMessage.Variant0;
+  }
+
+  @Benchmark
+  public Object golo_is_variant(GoloState state) throws Throwable {
+    return state.isFirst.invokeExact(state.next());
+  }
+
+  @Benchmark
+  public Object baseline_java_instanceof_dispatch(JavaState state) {
+    return JavaMessage.handleWithInstanceof(state.next());
+  }
+
+  @Benchmark
+  public Object golo_is_variant_dispatch(GoloState state) throws Throwable {
+    return state.handleWithTests.invokeExact(state.next());
+  }
+
+  @Benchmark
+  public Object baseline_java_accessors(JavaState state) {
+    return state.next().payload();
+  }
+
+  @Benchmark
+  public Object golo_destructure(GoloState state) throws Throwable {
+    return state.destructure.invokeExact(state.next());
+  }
+
+  /* ................................................................................................................ */
+}
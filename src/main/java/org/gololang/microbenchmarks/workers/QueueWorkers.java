@@ -0,0 +1,72 @@
+/*
+ * Copyright 2012-2016 Institut National des Sciences Appliquées de Lyon (INSA-Lyon)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gololang.microbenchmarks.workers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Consumer;
+
+/*
+ * The hand-written counterpart of a worker environment: one thread per worker taking messages from its own
+ * unbounded queue.
+ */
+public class QueueWorkers {
+
+  private static final Object STOP = new Object();
+
+  private final List<BlockingQueue<Object>> queues = new ArrayList<>();
+  private final List<Thread> threads = new ArrayList<>();
+  private int next = 0;
+
+  public QueueWorkers(int count, Consumer<Object> handler) {
+    for (int i = 0; i < count; i++) {
+      BlockingQueue<Object> queue = new LinkedBlockingQueue<>();
+      Thread thread = new Thread(() -> {
+        try {
+          Object message = queue.take();
+          while (message != STOP) {
+            handler.accept(message);
+            message = queue.take();
+          }
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      }, "queue-worker-" + i);
+      thread.setDaemon(true);
+      thread.start();
+      queues.add(queue);
+      threads.add(thread);
+    }
+  }
+
+  // Round-robin over the workers, from a single producer thread
+  public void send(Object message) {
+    queues.get(next).add(message);
+    next = (next + 1) % queues.size();
+  }
+
+  public void stop() throws InterruptedException {
+    for (BlockingQueue<Object> queue : queues) {
+      queue.add(STOP);
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+  }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2012-2016 Institut National des Sciences Appliquées de Lyon (INSA-Lyon)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gololang.microbenchmarks.workers;
+
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+ * A message handler that burns some CPU for each message, so that a producer can outpace it. Draining skips the
+ * CPU work to quickly empty the backlog between bursts.
+ */
+public class SlowConsumer {
+
+  private final long tokens;
+  private final AtomicLong processed = new AtomicLong();
+  private volatile boolean draining = false;
+
+  public SlowConsumer(long tokens) {
+    this.tokens = tokens;
+  }
+
+  public void handle(Object message) {
+    if (!draining) {
+      Blackhole.consumeCPU(tokens);
+    }
+    processed.incrementAndGet();
+  }
+
+  public long processed() {
+    return processed.get();
+  }
+
+  public void drain(long sent) throws InterruptedException {
+    draining = true;
+    while (processed.get() < sent) {
+      Thread.sleep(1L);
+    }
+    draining = false;
+  }
+}
@@ -0,0 +1,366 @@
+/*
+ * Copyright 2012-2016 Institut National des Sciences Appliquées de Lyon (INSA-Lyon)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gololang.microbenchmarks.workers;
+
+import gololang.concurrent.workers.WorkerEnvironment;
+import org.gololang.microbenchmarks.support.CodeLoader;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.invoke.MethodHandle;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * throughput_*: messages per second with a batch spread over the workers, each message counting down a latch.
+ * Note that a Golo worker processes its messages one at a time while an executor runs them on any of its threads.
+ *
+ * ping_pong_*: round-trip latency percentiles from the benchmark thread to a worker and back.
+ *
+ * backlog_*: a producer sending bursts of messages as fast as it can to a single slow consumer. The score is the send
+ * rate, and the backlog counter sums the messages still queued at the end of each burst, so backlog / score is the
+ * share of a burst left unprocessed. The backlog is drained between bursts, so it never exceeds one burst.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class WorkersMicroBenchmark {
+
+  /* ................................................................................................................ */
+
+  private static final int BATCH = 1000;
+
+  private static final int BURST = 10_000;
+
+  private static void shutdown(WorkerEnvironment env) throws InterruptedException {
+    env.shutdown();
+    env.awaitTermination(10, TimeUnit.SECONDS);
+  }
+
+  private static void shutdown(ExecutorService executor) throws InterruptedException {
+    executor.shutdown();
+    executor.awaitTermination(10, TimeUnit.SECONDS);
+  }
+
+  /* ................................................................................................................ */
+
+  @State(Scope.Thread)
+  static public class GoloThroughputState {
+
+    @Param({"1", "2", "4", "8"})
+    int workers;
+
+    WorkerEnvironment env;
+    Object ports;
+    MethodHandle sendBatch;
+
+    @Setup(Level.Trial)
+    public void prepare() throws Throwable {
+      env = (WorkerEnvironment) new CodeLoader().golo("workers", "environment", 1).invoke(workers);
+      ports = new CodeLoader().golo("workers", "counting_workers", 2).invoke(env, workers);
+      sendBatch = new CodeLoader().golo("workers", "send_batch", 3);
+    }
+
+    @TearDown(Level.Trial)
+    public void cleanup() throws InterruptedException {
+      shutdown(env);
+    }
+  }
+
+  @State(Scope.Thread)
+  static public class ExecutorThroughputState {
+
+    @Param({"1", "2", "4", "8"})
+    int workers;
+
+    ExecutorService executor;
+
+    @Setup(Level.Trial)
+    public void prepare() {
+      executor = Executors.newFixedThreadPool(workers);
+    }
+
+    @TearDown(Level.Trial)
+    public void cleanup() throws InterruptedException {
+      shutdown(executor);
+    }
+  }
+
+  @State(Scope.Thread)
+  static public class QueueThroughputState {
+
+    @Param({"1", "2", "4", "8"})
+    int workers;
+
+    QueueWorkers queueWorkers;
+
+    @Setup(Level.Trial)
+    public void prepare() {
+      queueWorkers = new QueueWorkers(workers, message -> ((CountDownLatch) message).countDown());
+    }
+
+    @TearDown(Level.Trial)
+    public void cleanup() throws InterruptedException {
+      queueWorkers.stop();
+    }
+  }
+
+  /* ................................................................................................................ */
+
+  @State(Scope.Thread)
+  static public class GoloEchoState {
+
+    WorkerEnvironment env;
+    BlockingQueue<Object> replies;
+    Object port;
+    MethodHandle send;
+
+    @Setup(Level.Trial)
+    public void prepare() throws Throwable {
+      env = (WorkerEnvironment) new CodeLoader().golo("workers", "environment", 1).invoke(1);
+      replies = new LinkedBlockingQueue<>();
+      port = new CodeLoader().golo("workers", "echo_worker", 2).invoke(env, replies);
+      send = new CodeLoader().golo("workers", "send", 2);
+    }
+
+    @TearDown(Level.Trial)
+    public void cleanup() throws InterruptedException {
+      shutdown(env);
+    }
+  }
+
+  @State(Scope.Thread)
+  static public class ExecutorEchoState {
+
+    ExecutorService executor;
+    BlockingQueue<Object> replies;
+
+    @Setup(Level.Trial)
+    public void prepare() {
+      executor = Executors.newSingleThreadExecutor();
+      replies = new LinkedBlockingQueue<>();
+    }
+
+    @TearDown(Level.Trial)
+    public void cleanup() throws InterruptedException {
+      shutdown(executor);
+    }
+  }
+
+  @State(Scope.Thread)
+  static public class QueueEchoState {
+
+    BlockingQueue<Object> replies;
+    QueueWorkers queueWorkers;
+
+    @Setup(Level.Trial)
+    public void prepare() {
+      replies = new LinkedBlockingQueue<>();
+      queueWorkers = new QueueWorkers(1, replies::add);
+    }
+
+    @TearDown(Level.Trial)
+    public void cleanup() throws InterruptedException {
+      queueWorkers.stop();
+    }
+  }
+
+  /* ................................................................................................................ */
+
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.OPERATIONS)
+  static public class Backlog {
+
+    public long backlog;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+      backlog = 0L;
+    }
+  }
+
+  @State(Scope.Thread)
+  static abstract public class BacklogState {
+
+    // Blackhole.consumeCPU tokens per message for the consumer
+    @Param({"50", "500"})
+    long tokens;
+
+    SlowConsumer consumer;
+    long sent;
+
+    long backlog() {
+      return sent - consumer.processed();
+    }
+
+    // Each invocation sends a whole burst, so the per-invocation teardown stays small next to it
+    @TearDown(Level.Invocation)
+    public void drain() throws InterruptedException {
+      consumer.drain(sent);
+    }
+  }
+
+  @State(Scope.Thread)
+  static public class GoloBacklogState extends BacklogState {
+
+    WorkerEnvironment env;
+    Object port;
+    MethodHandle send;
+
+    @Setup(Level.Trial)
+    public void prepare() throws Throwable {
+      consumer = new SlowConsumer(tokens);
+      env = (WorkerEnvironment) new CodeLoader().golo("workers", "environment", 1).invoke(1);
+      port = new CodeLoader().golo("workers", "consumer_worker", 2).invoke(env, consumer);
+      send = new CodeLoader().golo("workers", "send", 2);
+    }
+
+    @TearDown(Level.Trial)
+    public void cleanup() throws InterruptedException {
+      shutdown(env);
+    }
+  }
+
+  @State(Scope.Thread)
+  static public class ExecutorBacklogState extends BacklogState {
+
+    ExecutorService executor;
+    Runnable task;
+
+    @Setup(Level.Trial)
+    public void prepare() {
+      consumer = new SlowConsumer(tokens);
+      executor = Executors.newSingleThreadExecutor();
+      task = () -> consumer.handle(this);
+    }
+
+    @TearDown(Level.Trial)
+    public void cleanup() throws InterruptedException {
+      shutdown(executor);
+    }
+  }
+
+  @State(Scope.Thread)
+  static public class QueueBacklogState extends BacklogState {
+
+    QueueWorkers queueWorkers;
+
+    @Setup(Level.Trial)
+    public void prepare() {
+      consumer = new SlowConsumer(tokens);
+      queueWorkers = new QueueWorkers(1, consumer::handle);
+    }
+
+    @TearDown(Level.Trial)
+    public void cleanup() throws InterruptedException {
+      queueWorkers.stop();
+    }
+  }
+
+  /* ................................................................................................................ */
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH)
+  public void throughput_golo(GoloThroughputState state) throws Throwable {
+    CountDownLatch latch = new CountDownLatch(BATCH);
+    Object ignored = state.sendBatch.invokeExact(state.ports, (Object) latch, (Object) BATCH);
+    latch.await();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH)
+  public void throughput_baseline_java_executor(ExecutorThroughputState state) throws InterruptedException {
+    CountDownLatch latch = new CountDownLatch(BATCH);
+    Runnable task = latch::countDown;
+    for (int i = 0; i < BATCH; i++) {
+      state.executor.execute(task);
+    }
+    latch.await();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH)
+  public void throughput_baseline_java_queues(QueueThroughputState state) throws InterruptedException {
+    CountDownLatch latch = new CountDownLatch(BATCH);
+    for (int i = 0; i < BATCH; i++) {
+      state.queueWorkers.send(latch);
+    }
+    latch.await();
+  }
+
+  /* ................................................................................................................ */
+
+  @Benchmark
+  @BenchmarkMode(Mode.SampleTime)
+  @OutputTimeUnit(TimeUnit.MICROSECONDS)
+  public Object ping_pong_golo(GoloEchoState state) throws Throwable {
+    Object ignored = state.send.invokeExact(state.port, (Object) state);
+    return state.replies.take();
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.SampleTime)
+  @OutputTimeUnit(TimeUnit.MICROSECONDS)
+  public Object ping_pong_baseline_java_executor(ExecutorEchoState state) throws InterruptedException {
+    state.executor.execute(() -> state.replies.add(state));
+    return state.replies.take();
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.SampleTime)
+  @OutputTimeUnit(TimeUnit.MICROSECONDS)
+  public Object ping_pong_baseline_java_queues(QueueEchoState state) throws InterruptedException {
+    state.queueWorkers.send(state);
+    return state.replies.take();
+  }
+
+  /* ................................................................................................................ */
+
+  @Benchmark
+  @OperationsPerInvocation(BURST)
+  public void backlog_golo(GoloBacklogState state, Backlog counter) throws Throwable {
+    for (int i = 0; i < BURST; i++) {
+      Object ignored = state.send.invokeExact(state.port, (Object) state);
+    }
+    state.sent = state.sent + BURST;
+    counter.backlog = counter.backlog + state.backlog();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BURST)
+  public void backlog_baseline_java_executor(ExecutorBacklogState state, Backlog counter) {
+    for (int i = 0; i < BURST; i++) {
+      state.executor.execute(state.task);
+    }
+    state.sent = state.sent + BURST;
+    counter.backlog = counter.backlog + state.backlog();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BURST)
+  public void backlog_baseline_java_queues(QueueBacklogState state, Backlog counter) {
+    for (int i = 0; i < BURST; i++) {
+      state.queueWorkers.send(state);
+    }
+    state.sent = state.sent + BURST;
+    counter.backlog = counter.backlog + state.backlog();
+  }
+
+  /* ................................................................................................................ */
+}
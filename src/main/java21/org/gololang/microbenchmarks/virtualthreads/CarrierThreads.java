@@ -0,0 +1,51 @@
+/*
+ * Copyright 2012-2016 Institut National des Sciences Appliquées de Lyon (INSA-Lyon)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gololang.microbenchmarks.virtualthreads;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.util.regex.Pattern;
+
+/*
+ * Sums the CPU time of the platform threads that run the tasks: the carrier threads of the virtual thread scheduler,
+ * or the threads of a platform pool. Threads that terminated since the previous call are not accounted for.
+ */
+public class CarrierThreads {
+
+  public static final Pattern VIRTUAL_THREAD_CARRIERS = Pattern.compile("ForkJoinPool-\\d+-worker-\\d+");
+
+  private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+  private final Pattern names;
+
+  public CarrierThreads(Pattern names) {
+    this.names = names;
+  }
+
+  public long cpuNanos() {
+    long total = 0L;
+    for (ThreadInfo info : threads.getThreadInfo(threads.getAllThreadIds())) {
+      if (info != null && names.matcher(info.getThreadName()).matches()) {
+        long cpu = threads.getThreadCpuTime(info.getThreadId());
+        if (cpu > 0L) {
+          total = total + cpu;
+        }
+      }
+    }
+    return total;
+  }
+}
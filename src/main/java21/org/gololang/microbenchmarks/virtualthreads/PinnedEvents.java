@@ -0,0 +1,49 @@
+/*
+ * Copyright 2012-2016 Institut National des Sciences Appliquées de Lyon (INSA-Lyon)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gololang.microbenchmarks.virtualthreads;
+
+import jdk.jfr.consumer.RecordingStream;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+ * Counts the jdk.VirtualThreadPinned flight recorder events, that is virtual threads blocking while pinned to their
+ * carrier thread. Events are streamed about once per second, so counts lag behind the operations that caused them.
+ */
+public class PinnedEvents implements AutoCloseable {
+
+  private static final String EVENT = "jdk.VirtualThreadPinned";
+
+  private final RecordingStream stream = new RecordingStream();
+  private final AtomicLong count = new AtomicLong();
+
+  public PinnedEvents() {
+    stream.enable(EVENT).withThreshold(Duration.ZERO);
+    stream.onEvent(EVENT, event -> count.incrementAndGet());
+    stream.startAsync();
+  }
+
+  public long drain() {
+    return count.getAndSet(0L);
+  }
+
+  @Override
+  public void close() {
+    stream.close();
+  }
+}
@@ -0,0 +1,210 @@
+/*
+ * Copyright 2012-2016 Institut National des Sciences Appliquées de Lyon (INSA-Lyon)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gololang.microbenchmarks.virtualthreads;
+
+import org.gololang.microbenchmarks.support.CodeLoader;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.invoke.MethodHandle;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.regex.Pattern;
+
+/*
+ * Only built by the jdk21 profile.
+ *
+ * Each operation makes one Golo call per task, on virtual threads or on a fixed pool of platform threads, and waits
+ * for all of them:
+ *   - compute: the fibonacci snippet, CPU only
+ *   - blocking: a Thread.sleep interop call in the middle of a Golo call
+ *   - pinning: the same while holding a Java monitor, which pins the virtual threads to their carriers
+ *
+ * The calls counter is in Golo calls per second, carrierCpu is the CPU time of the carrier (or pool) threads as a
+ * percentage of the available processors, and pinned counts the virtual threads blocking while pinned (virtual threads
+ * only).
+ *
+ * A million blocked virtual threads need a large heap, as in -jvmArgsAppend -Xmx8g.
+ *
+ * Pinned virtual threads sleep one at a time per carrier, so a pinning operation takes about tasks / processors
+ * milliseconds: the pinning workload has its own, smaller task counts.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class VirtualThreadsMicroBenchmark {
+
+  /* ................................................................................................................ */
+
+  private static final long FIB_N = 15L;
+  private static final int BLOCKING_FIB_N = 10;
+  private static final long SLEEP_MILLIS = 1L;
+
+  private static final int PLATFORM_POOL_SIZE = 200;
+  private static final int PROCESSORS = Runtime.getRuntime().availableProcessors();
+
+  /* ................................................................................................................ */
+
+  @State(Scope.Benchmark)
+  static abstract public class ExecutorState {
+
+    @Param({"virtual", "platform"})
+    String threads;
+
+    ExecutorService executor;
+    CarrierThreads carriers;
+    PinnedEvents pinnedEvents;
+
+    @Setup(Level.Trial)
+    public void prepare() {
+      switch (threads) {
+        case "virtual":
+          executor = Executors.newVirtualThreadPerTaskExecutor();
+          carriers = new CarrierThreads(CarrierThreads.VIRTUAL_THREAD_CARRIERS);
+          pinnedEvents = new PinnedEvents();
+          break;
+        case "platform":
+          AtomicInteger ids = new AtomicInteger();
+          executor = Executors.newFixedThreadPool(PLATFORM_POOL_SIZE, task -> new Thread(task, "golo-platform-" + ids.incrementAndGet()));
+          carriers = new CarrierThreads(Pattern.compile("golo-platform-\\d+"));
+          break;
+        default:
+          throw new IllegalArgumentException("Unknown threads: " + threads);
+      }
+    }
+
+    @TearDown(Level.Trial)
+    public void cleanup() throws InterruptedException {
+      executor.shutdown();
+      executor.awaitTermination(1, TimeUnit.MINUTES);
+      if (pinnedEvents != null) {
+        pinnedEvents.close();
+      }
+    }
+
+    abstract int tasks();
+  }
+
+  @State(Scope.Benchmark)
+  static public class TasksState extends ExecutorState {
+
+    @Param({"10000", "100000", "1000000"})
+    int tasks;
+
+    @Override
+    int tasks() {
+      return tasks;
+    }
+  }
+
+  @State(Scope.Benchmark)
+  static public class PinnedTasksState extends ExecutorState {
+
+    @Param({"1000", "10000"})
+    int tasks;
+
+    @Override
+    int tasks() {
+      return tasks;
+    }
+  }
+
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.OPERATIONS)
+  static public class Counters {
+
+    public long calls;
+    public double carrierCpu;
+    public long pinned;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+      calls = 0L;
+      carrierCpu = 0.0;
+      pinned = 0L;
+    }
+  }
+
+  @State(Scope.Benchmark)
+  static public class GoloState {
+
+    MethodHandle fib;
+    MethodHandle blocking;
+    MethodHandle pinning;
+
+    @Setup(Level.Trial)
+    public void prepare() {
+      fib = new CodeLoader().golo("fibonacci", "fib", 1);
+      blocking = new CodeLoader().golo("virtual-threads", "blocking", 2);
+      pinning = new CodeLoader().golo("virtual-threads", "pinning", 3);
+    }
+  }
+
+  /* ................................................................................................................ */
+
+  interface GoloCall {
+    Object call() throws Throwable;
+  }
+
+  private static void runAll(ExecutorState state, Counters counters, GoloCall call) throws Throwable {
+    int tasks = state.tasks();
+    CountDownLatch done = new CountDownLatch(tasks);
+    AtomicReference<Throwable> failure = new AtomicReference<>();
+    long cpuBefore = state.carriers.cpuNanos();
+    for (int i = 0; i < tasks; i++) {
+      state.executor.execute(() -> {
+        try {
+          call.call();
+        } catch (Throwable t) {
+          failure.compareAndSet(null, t);
+        } finally {
+          done.countDown();
+        }
+      });
+    }
+    done.await();
+    if (failure.get() != null) {
+      throw failure.get();
+    }
+    counters.calls += tasks;
+    counters.carrierCpu += (state.carriers.cpuNanos() - cpuBefore) / (PROCESSORS * 1e7);
+    if (state.pinnedEvents != null) {
+      counters.pinned += state.pinnedEvents.drain();
+    }
+  }
+
+  /* ................................................................................................................ */
+
+  @Benchmark
+  public void compute(TasksState executorState, GoloState goloState, Counters counters) throws Throwable {
+    runAll(executorState, counters, () -> goloState.fib.invokeExact((Object) FIB_N));
+  }
+
+  @Benchmark
+  public void blocking(TasksState executorState, GoloState goloState, Counters counters) throws Throwable {
+    runAll(executorState, counters, () -> goloState.blocking.invokeExact((Object) BLOCKING_FIB_N, (Object) SLEEP_MILLIS));
+  }
+
+  @Benchmark
+  public void pinning(PinnedTasksState executorState, GoloState goloState, Counters counters) throws Throwable {
+    runAll(executorState, counters, () -> goloState.pinning.invokeExact((Object) BLOCKING_FIB_N, (Object) SLEEP_MILLIS, (Object) new Monitor()));
+  }
+
+  /* ................................................................................................................ */
+}
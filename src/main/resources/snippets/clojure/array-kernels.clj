@@ -0,0 +1,77 @@
+(ns array-kernels)
+
+(defn sieve [n]
+  (let [n (long n)
+        composite (boolean-array (inc n))]
+    (loop [i 2 count 0]
+      (if (> i n)
+        count
+        (if (aget composite i)
+          (recur (inc i) count)
+          (do
+            (loop [j (* 2 i)]
+              (when (<= j n)
+                (aset composite j true)
+                (recur (+ j i))))
+            (recur (inc i) (inc count))))))))
+
+(defn- flips ^long [^ints perm]
+  (loop [flips 0]
+    (let [k (aget perm 0)]
+      (if (zero? k)
+        flips
+        (do
+          (loop [i 0 j k]
+            (when (< i j)
+              (let [t (aget perm i)]
+                (aset perm i (aget perm j))
+                (aset perm j t)
+                (recur (inc i) (dec j)))))
+          (recur (inc flips)))))))
+
+(defn fannkuch [n]
+  (let [n (int n)
+        perm (int-array n)
+        perm1 (int-array (range n))
+        count (int-array n)]
+    (loop [r n checksum 0 permutations 0]
+      (loop [r r]
+        (when (not= r 1)
+          (aset count (dec r) (int r))
+          (recur (dec r))))
+      (System/arraycopy perm1 0 perm 0 n)
+      (let [flips (flips perm)
+            checksum (if (even? permutations) (+ checksum flips) (- checksum flips))
+            r (long (loop [r 1]
+                      (if (= r n)
+                        r
+                        (let [perm0 (aget perm1 0)]
+                          (loop [i 0]
+                            (when (< i r)
+                              (aset perm1 i (aget perm1 (inc i)))
+                              (recur (inc i))))
+                          (aset perm1 r perm0)
+                          (aset count r (dec (aget count r)))
+                          (if (pos? (aget count r))
+                            r
+                            (recur (inc r)))))))]
+        (if (= r n)
+          checksum
+          (recur r checksum (inc permutations)))))))
+
+(defn matrix-multiply [n]
+  (let [n (long n)
+        a (long-array (* n n))
+        b (long-array (* n n))
+        c (long-array (* n n))]
+    (dotimes [i n]
+      (dotimes [j n]
+        (aset a (+ (* i n) j) (rem (+ i (* 2 j)) 10))
+        (aset b (+ (* i n) j) (rem (+ (* 2 i) j) 10))))
+    (dotimes [i n]
+      (dotimes [k n]
+        (let [aik (aget a (+ (* i n) k))]
+          (dotimes [j n]
+            (let [index (+ (* i n) j)]
+              (aset c index (+ (aget c index) (* aik (aget b (+ (* k n) j))))))))))
+    (areduce c i sum 0 (+ sum (aget c i)))))
@@ -0,0 +1,31 @@
+(ns big-numbers)
+
+(defn pi-digits [count]
+  (loop [digits (StringBuilder.) q 1N r 0N t 1N k 1N n 3N l 3N]
+    (if (>= (.length digits) count)
+      (.toString digits)
+      (if (< (- (+ (* 4 q) r) t) (* n t))
+        (recur (.append digits (str n))
+               (* q 10) (* 10 (- r (* n t))) t k
+               (- (quot (* 10 (+ (* 3 q) r)) t) (* 10 n)) l)
+        (recur digits
+               (* q k) (* (+ (* 2 q) r) l) (* t l) (inc k)
+               (quot (+ (* q 7 k) 2 (* r l)) (* t l)) (+ l 2))))))
+
+(defn factorial [n]
+  (loop [result 1N i 2]
+    (if (> i n)
+      (biginteger result)
+      (recur (* result i) (inc i)))))
+
+(defn fibonacci [n]
+  (loop [a 0N b 1N i 0]
+    (if (>= i n)
+      (biginteger a)
+      (recur b (+ a b) (inc i)))))
+
+(defn compound-interest [principal rate periods]
+  (loop [balance principal i 0]
+    (if (>= i periods)
+      balance
+      (recur (+ balance (.setScale ^java.math.BigDecimal (* balance rate) 2 java.math.RoundingMode/HALF_EVEN)) (inc i)))))
@@ -0,0 +1,14 @@
+(ns binary-trees)
+
+(defn- create [depth]
+  (if (zero? depth)
+    {:left nil :right nil}
+    {:left (create (dec depth)) :right (create (dec depth))}))
+
+(defn- check [node]
+  (if (nil? (:left node))
+    1
+    (+ 1 (check (:left node)) (check (:right node)))))
+
+(defn tree [depth]
+  (check (create depth)))
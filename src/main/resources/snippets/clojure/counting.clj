@@ -0,0 +1,20 @@
+(ns counting)
+
+(defn word-count [lines]
+  (persistent!
+    (reduce (fn [counts ^String line]
+              (reduce (fn [counts word]
+                        (assoc! counts word (inc (get counts word 0))))
+                      counts
+                      (.split line " ")))
+            (transient {})
+            lines)))
+
+(defn k-nucleotide [^String dna k]
+  (let [k (long k)
+        last (- (.length dna) k)]
+    (loop [i 0 counts (transient {})]
+      (if (> i last)
+        (persistent! counts)
+        (let [fragment (.substring dna i (+ i k))]
+          (recur (inc i) (assoc! counts fragment (inc (get counts fragment 0)))))))))
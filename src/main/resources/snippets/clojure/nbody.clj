@@ -0,0 +1,87 @@
+(ns nbody)
+
+(def ^:const solar-mass (* 4.0 Math/PI Math/PI))
+(def ^:const days-per-year 365.24)
+(def ^:const dt 0.01)
+
+; a body is a double array of x, y, z, vx, vy, vz, mass
+(defn- body [x y z vx vy vz mass]
+  (double-array [x y z
+                 (* vx days-per-year) (* vy days-per-year) (* vz days-per-year)
+                 (* mass solar-mass)]))
+
+(defn- offset-momentum [bodies]
+  (let [^doubles sun (first bodies)
+        momentum (fn [k] (reduce + (map (fn [^doubles b] (* (aget b k) (aget b 6))) bodies)))]
+    (aset sun 3 (/ (- (momentum 3)) solar-mass))
+    (aset sun 4 (/ (- (momentum 4)) solar-mass))
+    (aset sun 5 (/ (- (momentum 5)) solar-mass))
+    bodies))
+
+(defn- system []
+  (offset-momentum
+    (object-array
+      [(body 0.0 0.0 0.0 0.0 0.0 0.0 1.0)
+       (body 4.84143144246472090e+00 -1.16032004402742839e+00 -1.03622044471123109e-01
+             1.66007664274403694e-03 7.69901118419740425e-03 -6.90460016972063023e-05
+             9.54791938424326609e-04)
+       (body 8.34336671824457987e+00 4.12479856412430479e+00 -4.03523417114321381e-01
+             -2.76742510726862411e-03 4.99852801234917238e-03 2.30417297573763929e-05
+             2.85885980666130812e-04)
+       (body 1.28943695621391310e+01 -1.51111514016986312e+01 -2.23307578892655734e-01
+             2.96460137564761618e-03 2.37847173959480950e-03 -2.96589568540237556e-05
+             4.36624404335156298e-05)
+       (body 1.53796971148509165e+01 -2.59193146099879641e+01 1.79258772950371181e-01
+             2.68067772490389322e-03 1.62824170038242295e-03 -9.51592254519715870e-05
+             5.15138902046611451e-05)])))
+
+(defn- advance [^objects bodies]
+  (let [count (alength bodies)]
+    (dotimes [i count]
+      (let [^doubles a (aget bodies i)]
+        (loop [j (inc i)]
+          (when (< j count)
+            (let [^doubles b (aget bodies j)
+                  dx (- (aget a 0) (aget b 0))
+                  dy (- (aget a 1) (aget b 1))
+                  dz (- (aget a 2) (aget b 2))
+                  squared (+ (* dx dx) (* dy dy) (* dz dz))
+                  magnitude (/ dt (* squared (Math/sqrt squared)))
+                  a-mass (* (aget a 6) magnitude)
+                  b-mass (* (aget b 6) magnitude)]
+              (aset a 3 (- (aget a 3) (* dx b-mass)))
+              (aset a 4 (- (aget a 4) (* dy b-mass)))
+              (aset a 5 (- (aget a 5) (* dz b-mass)))
+              (aset b 3 (+ (aget b 3) (* dx a-mass)))
+              (aset b 4 (+ (aget b 4) (* dy a-mass)))
+              (aset b 5 (+ (aget b 5) (* dz a-mass)))
+              (recur (inc j)))))))
+    (dotimes [i count]
+      (let [^doubles b (aget bodies i)]
+        (aset b 0 (+ (aget b 0) (* dt (aget b 3))))
+        (aset b 1 (+ (aget b 1) (* dt (aget b 4))))
+        (aset b 2 (+ (aget b 2) (* dt (aget b 5))))))))
+
+(defn- energy ^double [^objects bodies]
+  (let [count (alength bodies)]
+    (loop [i 0 energy 0.0]
+      (if (>= i count)
+        energy
+        (let [^doubles a (aget bodies i)
+              kinetic (* 0.5 (aget a 6) (+ (* (aget a 3) (aget a 3)) (* (aget a 4) (aget a 4)) (* (aget a 5) (aget a 5))))]
+          (recur (inc i)
+                 (double (loop [j (inc i) energy (+ energy kinetic)]
+                           (if (>= j count)
+                             energy
+                             (let [^doubles b (aget bodies j)
+                                   dx (- (aget a 0) (aget b 0))
+                                   dy (- (aget a 1) (aget b 1))
+                                   dz (- (aget a 2) (aget b 2))]
+                               (recur (inc j)
+                                      (- energy (/ (* (aget a 6) (aget b 6)) (Math/sqrt (+ (* dx dx) (* dy dy) (* dz dz))))))))))))))))
+
+(defn run [steps]
+  (let [bodies (system)]
+    (dotimes [i steps]
+      (advance bodies))
+    (energy bodies)))
@@ -0,0 +1,34 @@
+(ns spectral-norm)
+
+(defn- a ^double [^long i ^long j]
+  (/ 1.0 (+ (quot (* (+ i j) (+ i j 1)) 2) i 1)))
+
+(defn- multiply-av [^doubles v ^doubles av]
+  (let [n (alength v)]
+    (dotimes [i n]
+      (aset av i (double (loop [j 0 sum 0.0]
+                           (if (< j n)
+                             (recur (inc j) (+ sum (* (a i j) (aget v j))))
+                             sum)))))))
+
+(defn- multiply-atv [^doubles v ^doubles atv]
+  (let [n (alength v)]
+    (dotimes [i n]
+      (aset atv i (double (loop [j 0 sum 0.0]
+                            (if (< j n)
+                              (recur (inc j) (+ sum (* (a j i) (aget v j))))
+                              sum)))))))
+
+(defn run [n]
+  (let [u (double-array n 1.0)
+        v (double-array n)
+        tmp (double-array n)]
+    (dotimes [i 10]
+      (multiply-av u tmp)
+      (multiply-atv tmp v)
+      (multiply-av v tmp)
+      (multiply-atv tmp u))
+    (loop [i 0 vBv 0.0 vv 0.0]
+      (if (< i n)
+        (recur (inc i) (+ vBv (* (aget u i) (aget v i))) (+ vv (* (aget v i) (aget v i))))
+        (Math/sqrt (/ vBv vv))))))
@@ -0,0 +1,94 @@
+class ArrayKernels {
+
+  static def sieve(n) {
+    def composite = new boolean[n + 1]
+    def count = 0
+    for (def i = 2; i <= n; i++) {
+      if (!composite[i]) {
+        count = count + 1
+        for (def j = 2 * i; j <= n; j = j + i) {
+          composite[j] = true
+        }
+      }
+    }
+    return count
+  }
+
+  static def fannkuch(n) {
+    def perm = new int[n]
+    def perm1 = new int[n]
+    def count = new int[n]
+    for (def i = 0; i < n; i++) {
+      perm1[i] = i
+    }
+    def checksum = 0
+    def permutations = 0
+    def r = n
+    while (true) {
+      while (r != 1) {
+        count[r - 1] = r
+        r = r - 1
+      }
+      for (def i = 0; i < n; i++) {
+        perm[i] = perm1[i]
+      }
+      def flips = 0
+      def k = perm[0]
+      while (k != 0) {
+        def i = 0
+        def j = k
+        while (i < j) {
+          def t = perm[i]
+          perm[i] = perm[j]
+          perm[j] = t
+          i = i + 1
+          j = j - 1
+        }
+        flips = flips + 1
+        k = perm[0]
+      }
+      checksum = checksum + (permutations % 2 == 0 ? flips : -flips)
+      while (true) {
+        if (r == n) {
+          return checksum
+        }
+        def perm0 = perm1[0]
+        for (def i = 0; i < r; i++) {
+          perm1[i] = perm1[i + 1]
+        }
+        perm1[r] = perm0
+        count[r] = count[r] - 1
+        if (count[r] > 0) {
+          break
+        }
+        r = r + 1
+      }
+      permutations = permutations + 1
+    }
+  }
+
+  static def matrix_multiply(n) {
+    def a = new long[n * n]
+    def b = new long[n * n]
+    def c = new long[n * n]
+    for (def i = 0; i < n; i++) {
+      for (def j = 0; j < n; j++) {
+        a[i * n + j] = (i + 2 * j) % 10
+        b[i * n + j] = (2 * i + j) % 10
+      }
+    }
+    for (def i = 0; i < n; i++) {
+      for (def k = 0; k < n; k++) {
+        def aik = a[i * n + k]
+        for (def j = 0; j < n; j++) {
+          c[i * n + j] = c[i * n + j] + aik * b[k * n + j]
+        }
+      }
+    }
+    def sum = 0L
+    for (def i = 0; i < n * n; i++) {
+      sum = sum + c[i]
+    }
+    return sum
+  }
+}
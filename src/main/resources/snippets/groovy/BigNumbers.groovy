@@ -0,0 +1,59 @@
+class BigNumbers {
+
+  static def pi_digits(count) {
+    def digits = new StringBuilder()
+    def q = 1G
+    def r = 0G
+    def t = 1G
+    def k = 1G
+    def n = 3G
+    def l = 3G
+    while (digits.length() < count) {
+      if (4G * q + r - t < n * t) {
+        digits.append(n)
+        def nr = 10G * (r - n * t)
+        n = (10G * (3G * q + r)).intdiv(t) - 10G * n
+        q = q * 10G
+        r = nr
+      } else {
+        def nr = (2G * q + r) * l
+        def nn = (q * (7G * k) + 2G + r * l).intdiv(t * l)
+        q = q * k
+        t = t * l
+        l = l + 2G
+        k = k + 1G
+        n = nn
+        r = nr
+      }
+    }
+    return digits.toString()
+  }
+
+  static def factorial(n) {
+    def result = 1G
+    for (def i = 2; i <= n; i++) {
+      result = result * i
+    }
+    return result
+  }
+
+  static def fibonacci(n) {
+    def a = 0G
+    def b = 1G
+    for (def i = 0; i < n; i++) {
+      def next = a + b
+      a = b
+      b = next
+    }
+    return a
+  }
+
+  static def compound_interest(principal, rate, periods) {
+    def balance = principal
+    for (def i = 0; i < periods; i++) {
+      def interest = (balance * rate).setScale(2, java.math.RoundingMode.HALF_EVEN)
+      balance = balance + interest
+    }
+    return balance
+  }
+}
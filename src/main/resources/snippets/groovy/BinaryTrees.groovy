@@ -0,0 +1,25 @@
+class BinaryTrees {
+
+  static class Node {
+    def left
+    def right
+  }
+
+  static def create(depth) {
+    if (depth == 0) {
+      return new Node()
+    }
+    return new Node(left: create(depth - 1), right: create(depth - 1))
+  }
+
+  static def check(node) {
+    if (node.left == null) {
+      return 1
+    }
+    return 1 + check(node.left) + check(node.right)
+  }
+
+  static def tree(depth) {
+    return check(create(depth))
+  }
+}
@@ -0,0 +1,22 @@
+class Counting {
+
+  static def word_count(lines) {
+    def counts = [:]
+    for (line in lines) {
+      for (word in line.split(' ')) {
+        counts[word] = (counts[word] ?: 0) + 1
+      }
+    }
+    return counts
+  }
+
+  static def k_nucleotide(dna, k) {
+    def counts = [:]
+    def last = dna.length() - k
+    for (def i = 0; i <= last; i++) {
+      def fragment = dna.substring(i, i + k)
+      counts[fragment] = (counts[fragment] ?: 0) + 1
+    }
+    return counts
+  }
+}
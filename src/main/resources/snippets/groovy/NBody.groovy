@@ -0,0 +1,156 @@
+class NBody {
+
+  static final double PI = 3.141592653589793d
+  static final double SOLAR_MASS = 4.0d * PI * PI
+  static final double DAYS_PER_YEAR = 365.24d
+  static final double DT = 0.01d
+
+  static class Body {
+    double x, y, z, vx, vy, vz, mass
+  }
+
+  static Body body(double x, double y, double z, double vx, double vy, double vz, double mass) {
+    return new Body(x: x, y: y, z: z,
+        vx: vx * DAYS_PER_YEAR, vy: vy * DAYS_PER_YEAR, vz: vz * DAYS_PER_YEAR,
+        mass: mass * SOLAR_MASS)
+  }
+
+  static Body[] system() {
+    Body[] bodies = [
+        body(0.0d, 0.0d, 0.0d, 0.0d, 0.0d, 0.0d, 1.0d),
+        body(
+            4.84143144246472090e+00d, -1.16032004402742839e+00d, -1.03622044471123109e-01d,
+            1.66007664274403694e-03d, 7.69901118419740425e-03d, -6.90460016972063023e-05d,
+            9.54791938424326609e-04d),
+        body(
+            8.34336671824457987e+00d, 4.12479856412430479e+00d, -4.03523417114321381e-01d,
+            -2.76742510726862411e-03d, 4.99852801234917238e-03d, 2.30417297573763929e-05d,
+            2.85885980666130812e-04d),
+        body(
+            1.28943695621391310e+01d, -1.51111514016986312e+01d, -2.23307578892655734e-01d,
+            2.96460137564761618e-03d, 2.37847173959480950e-03d, -2.96589568540237556e-05d,
+            4.36624404335156298e-05d),
+        body(
+            1.53796971148509165e+01d, -2.59193146099879641e+01d, 1.79258772950371181e-01d,
+            2.68067772490389322e-03d, 1.62824170038242295e-03d, -9.51592254519715870e-05d,
+            5.15138902046611451e-05d)
+    ] as Body[]
+    double px = 0.0d
+    double py = 0.0d
+    double pz = 0.0d
+    for (Body b : bodies) {
+      px = px + b.vx * b.mass
+      py = py + b.vy * b.mass
+      pz = pz + b.vz * b.mass
+    }
+    bodies[0].vx = -px / SOLAR_MASS
+    bodies[0].vy = -py / SOLAR_MASS
+    bodies[0].vz = -pz / SOLAR_MASS
+    return bodies
+  }
+
+  static def advance(bodies) {
+    def count = bodies.length
+    for (def i = 0; i < count; i++) {
+      def a = bodies[i]
+      for (def j = i + 1; j < count; j++) {
+        def b = bodies[j]
+        def dx = a.x - b.x
+        def dy = a.y - b.y
+        def dz = a.z - b.z
+        def squared = dx * dx + dy * dy + dz * dz
+        def magnitude = DT / (squared * Math.sqrt(squared))
+        a.vx = a.vx - dx * b.mass * magnitude
+        a.vy = a.vy - dy * b.mass * magnitude
+        a.vz = a.vz - dz * b.mass * magnitude
+        b.vx = b.vx + dx * a.mass * magnitude
+        b.vy = b.vy + dy * a.mass * magnitude
+        b.vz = b.vz + dz * a.mass * magnitude
+      }
+    }
+    for (def b : bodies) {
+      b.x = b.x + DT * b.vx
+      b.y = b.y + DT * b.vy
+      b.z = b.z + DT * b.vz
+    }
+  }
+
+  static def energy(bodies) {
+    def count = bodies.length
+    def energy = 0.0d
+    for (def i = 0; i < count; i++) {
+      def a = bodies[i]
+      energy = energy + 0.5d * a.mass * (a.vx * a.vx + a.vy * a.vy + a.vz * a.vz)
+      for (def j = i + 1; j < count; j++) {
+        def b = bodies[j]
+        def dx = a.x - b.x
+        def dy = a.y - b.y
+        def dz = a.z - b.z
+        energy = energy - (a.mass * b.mass) / Math.sqrt(dx * dx + dy * dy + dz * dz)
+      }
+    }
+    return energy
+  }
+
+  static def run(steps) {
+    def bodies = system()
+    for (def i = 0; i < steps; i++) {
+      advance(bodies)
+    }
+    return energy(bodies)
+  }
+
+  @groovy.transform.CompileStatic
+  static void fastest_advance(Body[] bodies) {
+    int count = bodies.length
+    for (int i = 0; i < count; i++) {
+      Body a = bodies[i]
+      for (int j = i + 1; j < count; j++) {
+        Body b = bodies[j]
+        double dx = a.x - b.x
+        double dy = a.y - b.y
+        double dz = a.z - b.z
+        double squared = dx * dx + dy * dy + dz * dz
+        double magnitude = DT / (squared * Math.sqrt(squared))
+        a.vx = a.vx - dx * b.mass * magnitude
+        a.vy = a.vy - dy * b.mass * magnitude
+        a.vz = a.vz - dz * b.mass * magnitude
+        b.vx = b.vx + dx * a.mass * magnitude
+        b.vy = b.vy + dy * a.mass * magnitude
+        b.vz = b.vz + dz * a.mass * magnitude
+      }
+    }
+    for (Body b : bodies) {
+      b.x = b.x + DT * b.vx
+      b.y = b.y + DT * b.vy
+      b.z = b.z + DT * b.vz
+    }
+  }
+
+  @groovy.transform.CompileStatic
+  static double fastest_energy(Body[] bodies) {
+    int count = bodies.length
+    double energy = 0.0d
+    for (int i = 0; i < count; i++) {
+      Body a = bodies[i]
+      energy = energy + 0.5d * a.mass * (a.vx * a.vx + a.vy * a.vy + a.vz * a.vz)
+      for (int j = i + 1; j < count; j++) {
+        Body b = bodies[j]
+        double dx = a.x - b.x
+        double dy = a.y - b.y
+        double dz = a.z - b.z
+        energy = energy - (a.mass * b.mass) / Math.sqrt(dx * dx + dy * dy + dz * dz)
+      }
+    }
+    return energy
+  }
+
+  @groovy.transform.CompileStatic
+  static double fastest_run(int steps) {
+    Body[] bodies = system()
+    for (int i = 0; i < steps; i++) {
+      fastest_advance(bodies)
+    }
+    return fastest_energy(bodies)
+  }
+}
@@ -0,0 +1,102 @@
+class SpectralNorm {
+
+  static def a(i, j) {
+    return 1.0d / (((i + j) * (i + j + 1) >> 1) + i + 1)
+  }
+
+  static def multiply_av(v, av) {
+    def n = v.length
+    for (def i = 0; i < n; i++) {
+      def sum = 0.0d
+      for (def j = 0; j < n; j++) {
+        sum = sum + a(i, j) * v[j]
+      }
+      av[i] = sum
+    }
+  }
+
+  static def multiply_atv(v, atv) {
+    def n = v.length
+    for (def i = 0; i < n; i++) {
+      def sum = 0.0d
+      for (def j = 0; j < n; j++) {
+        sum = sum + a(j, i) * v[j]
+      }
+      atv[i] = sum
+    }
+  }
+
+  static def run(n) {
+    def u = new double[n]
+    def v = new double[n]
+    def tmp = new double[n]
+    for (def i = 0; i < n; i++) {
+      u[i] = 1.0d
+    }
+    for (def i = 0; i < 10; i++) {
+      multiply_av(u, tmp)
+      multiply_atv(tmp, v)
+      multiply_av(v, tmp)
+      multiply_atv(tmp, u)
+    }
+    def vBv = 0.0d
+    def vv = 0.0d
+    for (def i = 0; i < n; i++) {
+      vBv = vBv + u[i] * v[i]
+      vv = vv + v[i] * v[i]
+    }
+    return Math.sqrt(vBv / vv)
+  }
+
+  @groovy.transform.CompileStatic
+  static double fastest_a(int i, int j) {
+    return 1.0d / (((i + j) * (i + j + 1) >> 1) + i + 1)
+  }
+
+  @groovy.transform.CompileStatic
+  static void fastest_multiply_av(double[] v, double[] av) {
+    int n = v.length
+    for (int i = 0; i < n; i++) {
+      double sum = 0.0d
+      for (int j = 0; j < n; j++) {
+        sum = sum + fastest_a(i, j) * v[j]
+      }
+      av[i] = sum
+    }
+  }
+
+  @groovy.transform.CompileStatic
+  static void fastest_multiply_atv(double[] v, double[] atv) {
+    int n = v.length
+    for (int i = 0; i < n; i++) {
+      double sum = 0.0d
+      for (int j = 0; j < n; j++) {
+        sum = sum + fastest_a(j, i) * v[j]
+      }
+      atv[i] = sum
+    }
+  }
+
+  @groovy.transform.CompileStatic
+  static double fastest_run(int n) {
+    double[] u = new double[n]
+    double[] v = new double[n]
+    double[] tmp = new double[n]
+    for (int i = 0; i < n; i++) {
+      u[i] = 1.0d
+    }
+    for (int i = 0; i < 10; i++) {
+      fastest_multiply_av(u, tmp)
+      fastest_multiply_atv(tmp, v)
+      fastest_multiply_av(v, tmp)
+      fastest_multiply_atv(tmp, u)
+    }
+    double vBv = 0.0d
+    double vv = 0.0d
+    for (int i = 0; i < n; i++) {
+      vBv = vBv + u[i] * v[i]
+      vv = vv + v[i] * v[i]
+    }
+    return Math.sqrt(vBv / vv)
+  }
+}
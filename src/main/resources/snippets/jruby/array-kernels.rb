@@ -0,0 +1,88 @@
+def sieve(n)
+  composite = Array.new(n + 1, false)
+  count = 0
+  i = 2
+  while i <= n
+    unless composite[i]
+      count += 1
+      j = 2 * i
+      while j <= n
+        composite[j] = true
+        j += i
+      end
+    end
+    i += 1
+  end
+  count
+end
+
+def fannkuch(n)
+  perm = Array.new(n, 0)
+  perm1 = (0...n).to_a
+  count = Array.new(n, 0)
+  checksum = 0
+  permutations = 0
+  r = n
+  while true
+    while r != 1
+      count[r - 1] = r
+      r -= 1
+    end
+    perm.replace(perm1)
+    flips = 0
+    k = perm[0]
+    while k != 0
+      i = 0
+      j = k
+      while i < j
+        perm[i], perm[j] = perm[j], perm[i]
+        i += 1
+        j -= 1
+      end
+      flips += 1
+      k = perm[0]
+    end
+    checksum += permutations.even? ? flips : -flips
+    while true
+      return checksum if r == n
+      perm0 = perm1[0]
+      i = 0
+      while i < r
+        perm1[i] = perm1[i + 1]
+        i += 1
+      end
+      perm1[r] = perm0
+      count[r] -= 1
+      break if count[r] > 0
+      r += 1
+    end
+    permutations += 1
+  end
+end
+
+def matrix_multiply(n)
+  a = Array.new(n * n, 0)
+  b = Array.new(n * n, 0)
+  c = Array.new(n * n, 0)
+  n.times do |i|
+    n.times do |j|
+      a[i * n + j] = (i + 2 * j) % 10
+      b[i * n + j] = (2 * i + j) % 10
+    end
+  end
+  i = 0
+  while i < n
+    k = 0
+    while k < n
+      aik = a[i * n + k]
+      j = 0
+      while j < n
+        c[i * n + j] += aik * b[k * n + j]
+        j += 1
+      end
+      k += 1
+    end
+    i += 1
+  end
+  c.sum
+end
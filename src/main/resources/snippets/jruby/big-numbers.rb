@@ -0,0 +1,49 @@
+require 'bigdecimal'
+
+def pi_digits(count)
+  digits = ''
+  q, r, t, k, n, l = 1, 0, 1, 1, 3, 3
+  while digits.length < count
+    if 4 * q + r - t < n * t
+      digits << n.to_s
+      nr = 10 * (r - n * t)
+      n = (10 * (3 * q + r)) / t - 10 * n
+      q = q * 10
+      r = nr
+    else
+      nr = (2 * q + r) * l
+      nn = (q * (7 * k) + 2 + r * l) / (t * l)
+      q = q * k
+      t = t * l
+      l = l + 2
+      k = k + 1
+      n = nn
+      r = nr
+    end
+  end
+  digits
+end
+
+def factorial(n)
+  result = 1
+  (2..n).each { |i| result = result * i }
+  result
+end
+
+def fibonacci(n)
+  a, b = 0, 1
+  n.times { a, b = b, a + b }
+  a
+end
+
+def decimal(text)
+  BigDecimal(text)
+end
+
+def compound_interest(principal, rate, periods)
+  balance = principal
+  periods.times do
+    balance = balance + (balance * rate).round(2, BigDecimal::ROUND_HALF_EVEN)
+  end
+  balance
+end
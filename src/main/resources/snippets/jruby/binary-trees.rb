@@ -0,0 +1,28 @@
+class Node
+  attr_reader :left, :right
+
+  def initialize(left, right)
+    @left = left
+    @right = right
+  end
+end
+
+def create(depth)
+  if depth == 0
+    Node.new(nil, nil)
+  else
+    Node.new(create(depth - 1), create(depth - 1))
+  end
+end
+
+def check(node)
+  if node.left.nil?
+    1
+  else
+    1 + check(node.left) + check(node.right)
+  end
+end
+
+def tree(depth)
+  check(create(depth))
+end
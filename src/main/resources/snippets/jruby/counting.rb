@@ -0,0 +1,18 @@
+def word_count(lines)
+  counts = Hash.new(0)
+  lines.each do |line|
+    line.split(' ').each { |word| counts[word] += 1 }
+  end
+  counts
+end
+
+def k_nucleotide(dna, k)
+  counts = Hash.new(0)
+  last = dna.size - k
+  i = 0
+  while i <= last
+    counts[dna[i, k]] += 1
+    i += 1
+  end
+  counts
+end
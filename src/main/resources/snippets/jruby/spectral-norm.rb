@@ -0,0 +1,52 @@
+def a(i, j)
+  1.0 / ((i + j) * (i + j + 1) / 2 + i + 1)
+end
+
+def multiply_av(v, av)
+  n = v.size
+  i = 0
+  while i < n
+    sum = 0.0
+    j = 0
+    while j < n
+      sum += a(i, j) * v[j]
+      j += 1
+    end
+    av[i] = sum
+    i += 1
+  end
+end
+
+def multiply_atv(v, atv)
+  n = v.size
+  i = 0
+  while i < n
+    sum = 0.0
+    j = 0
+    while j < n
+      sum += a(j, i) * v[j]
+      j += 1
+    end
+    atv[i] = sum
+    i += 1
+  end
+end
+
+def run(n)
+  u = Array.new(n, 1.0)
+  v = Array.new(n, 0.0)
+  tmp = Array.new(n, 0.0)
+  10.times do
+    multiply_av(u, tmp)
+    multiply_atv(tmp, v)
+    multiply_av(v, tmp)
+    multiply_atv(tmp, u)
+  end
+  vBv = 0.0
+  vv = 0.0
+  n.times do |i|
+    vBv += u[i] * v[i]
+    vv += v[i] * v[i]
+  end
+  Math.sqrt(vBv / vv)
+end
@@ -0,0 +1,93 @@
+function sieve(n) {
+  var composite = [];
+  for (var i = 0; i <= n; i++) {
+    composite[i] = false;
+  }
+  var count = 0;
+  for (var i = 2; i <= n; i++) {
+    if (!composite[i]) {
+      count = count + 1;
+      for (var j = 2 * i; j <= n; j = j + i) {
+        composite[j] = true;
+      }
+    }
+  }
+  return count;
+}
+
+function fannkuch(n) {
+  var perm = [];
+  var perm1 = [];
+  var count = [];
+  for (var i = 0; i < n; i++) {
+    perm[i] = 0;
+    perm1[i] = i;
+    count[i] = 0;
+  }
+  var checksum = 0;
+  var permutations = 0;
+  var r = n;
+  while (true) {
+    while (r != 1) {
+      count[r - 1] = r;
+      r = r - 1;
+    }
+    for (var i = 0; i < n; i++) {
+      perm[i] = perm1[i];
+    }
+    var flips = 0;
+    var k = perm[0];
+    while (k != 0) {
+      for (var i = 0, j = k; i < j; i++, j--) {
+        var t = perm[i];
+        perm[i] = perm[j];
+        perm[j] = t;
+      }
+      flips = flips + 1;
+      k = perm[0];
+    }
+    checksum = checksum + (permutations % 2 == 0 ? flips : -flips);
+    while (true) {
+      if (r == n) {
+        return checksum;
+      }
+      var perm0 = perm1[0];
+      for (var i = 0; i < r; i++) {
+        perm1[i] = perm1[i + 1];
+      }
+      perm1[r] = perm0;
+      count[r] = count[r] - 1;
+      if (count[r] > 0) {
+        break;
+      }
+      r = r + 1;
+    }
+    permutations = permutations + 1;
+  }
+}
+
+function matrix_multiply(n) {
+  var a = [];
+  var b = [];
+  var c = [];
+  for (var i = 0; i < n; i++) {
+    for (var j = 0; j < n; j++) {
+      a[i * n + j] = (i + 2 * j) % 10;
+      b[i * n + j] = (2 * i + j) % 10;
+      c[i * n + j] = 0;
+    }
+  }
+  for (var i = 0; i < n; i++) {
+    for (var k = 0; k < n; k++) {
+      var aik = a[i * n + k];
+      for (var j = 0; j < n; j++) {
+        c[i * n + j] = c[i * n + j] + aik * b[k * n + j];
+      }
+    }
+  }
+  var sum = 0;
+  for (var i = 0; i < n * n; i++) {
+    sum = sum + c[i];
+  }
+  return sum;
+}
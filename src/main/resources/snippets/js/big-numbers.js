@@ -0,0 +1,63 @@
+var BigInteger = Java.type("java.math.BigInteger");
+var RoundingMode = Java.type("java.math.RoundingMode");
+
+var TWO = BigInteger.valueOf(2);
+var THREE = BigInteger.valueOf(3);
+var FOUR = BigInteger.valueOf(4);
+var SEVEN = BigInteger.valueOf(7);
+
+function pi_digits(count) {
+  var digits = "";
+  var q = BigInteger.ONE;
+  var r = BigInteger.ZERO;
+  var t = BigInteger.ONE;
+  var k = BigInteger.ONE;
+  var n = THREE;
+  var l = THREE;
+  while (digits.length < count) {
+    if (FOUR.multiply(q).add(r).subtract(t).compareTo(n.multiply(t)) < 0) {
+      digits = digits + n.toString();
+      var nr = BigInteger.TEN.multiply(r.subtract(n.multiply(t)));
+      n = BigInteger.TEN.multiply(THREE.multiply(q).add(r)).divide(t).subtract(BigInteger.TEN.multiply(n));
+      q = q.multiply(BigInteger.TEN);
+      r = nr;
+    } else {
+      var nr = TWO.multiply(q).add(r).multiply(l);
+      var nn = q.multiply(SEVEN.multiply(k)).add(TWO).add(r.multiply(l)).divide(t.multiply(l));
+      q = q.multiply(k);
+      t = t.multiply(l);
+      l = l.add(TWO);
+      k = k.add(BigInteger.ONE);
+      n = nn;
+      r = nr;
+    }
+  }
+  return digits;
+}
+
+function factorial(n) {
+  var result = BigInteger.ONE;
+  for (var i = 2; i <= n; i++) {
+    result = result.multiply(BigInteger.valueOf(i));
+  }
+  return result;
+}
+
+function fibonacci(n) {
+  var a = BigInteger.ZERO;
+  var b = BigInteger.ONE;
+  for (var i = 0; i < n; i++) {
+    var next = a.add(b);
+    a = b;
+    b = next;
+  }
+  return a;
+}
+
+function compound_interest(principal, rate, periods) {
+  var balance = principal;
+  for (var i = 0; i < periods; i++) {
+    balance = balance.add(balance.multiply(rate).setScale(2, RoundingMode.HALF_EVEN));
+  }
+  return balance;
+}
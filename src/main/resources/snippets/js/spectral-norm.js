@@ -0,0 +1,49 @@
+function a(i, j) {
+  return 1.0 / (((i + j) * (i + j + 1) >>> 1) + i + 1);
+}
+
+function multiply_av(v, av) {
+  var n = v.length;
+  for (var i = 0; i < n; i++) {
+    var sum = 0.0;
+    for (var j = 0; j < n; j++) {
+      sum = sum + a(i, j) * v[j];
+    }
+    av[i] = sum;
+  }
+}
+
+function multiply_atv(v, atv) {
+  var n = v.length;
+  for (var i = 0; i < n; i++) {
+    var sum = 0.0;
+    for (var j = 0; j < n; j++) {
+      sum = sum + a(j, i) * v[j];
+    }
+    atv[i] = sum;
+  }
+}
+
+function run(n) {
+  var u = new Array(n);
+  var v = new Array(n);
+  var tmp = new Array(n);
+  for (var i = 0; i < n; i++) {
+    u[i] = 1.0;
+    v[i] = 0.0;
+    tmp[i] = 0.0;
+  }
+  for (var i = 0; i < 10; i++) {
+    multiply_av(u, tmp);
+    multiply_atv(tmp, v);
+    multiply_av(v, tmp);
+    multiply_atv(tmp, u);
+  }
+  var vBv = 0.0;
+  var vv = 0.0;
+  for (var i = 0; i < n; i++) {
+    vBv = vBv + u[i] * v[i];
+    vv = vv + v[i] * v[i];
+  }
+  return Math.sqrt(vBv / vv);
+}
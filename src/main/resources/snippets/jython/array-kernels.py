@@ -0,0 +1,64 @@
+def sieve(n):
+    composite = [False] * (n + 1)
+    count = 0
+    for i in xrange(2, n + 1):
+        if not composite[i]:
+            count = count + 1
+            for j in xrange(2 * i, n + 1, i):
+                composite[j] = True
+    return count
+
+def fannkuch(n):
+    perm = [0] * n
+    perm1 = range(n)
+    count = [0] * n
+    checksum = 0
+    permutations = 0
+    r = n
+    while True:
+        while r != 1:
+            count[r - 1] = r
+            r = r - 1
+        perm[:] = perm1
+        flips = 0
+        k = perm[0]
+        while k != 0:
+            i = 0
+            j = k
+            while i < j:
+                perm[i], perm[j] = perm[j], perm[i]
+                i = i + 1
+                j = j - 1
+            flips = flips + 1
+            k = perm[0]
+        if permutations % 2 == 0:
+            checksum = checksum + flips
+        else:
+            checksum = checksum - flips
+        while True:
+            if r == n:
+                return checksum
+            perm0 = perm1[0]
+            for i in xrange(r):
+                perm1[i] = perm1[i + 1]
+            perm1[r] = perm0
+            count[r] = count[r] - 1
+            if count[r] > 0:
+                break
+            r = r + 1
+        permutations = permutations + 1
+
+def matrix_multiply(n):
+    a = [0] * (n * n)
+    b = [0] * (n * n)
+    c = [0] * (n * n)
+    for i in xrange(n):
+        for j in xrange(n):
+            a[i * n + j] = (i + 2 * j) % 10
+            b[i * n + j] = (2 * i + j) % 10
+    for i in xrange(n):
+        for k in xrange(n):
+            aik = a[i * n + k]
+            for j in xrange(n):
+                c[i * n + j] = c[i * n + j] + aik * b[k * n + j]
+    return sum(c)
@@ -0,0 +1,45 @@
+from decimal import Decimal, ROUND_HALF_EVEN
+
+CENT = Decimal('0.01')
+
+def pi_digits(count):
+    digits = []
+    q, r, t, k, n, l = 1L, 0L, 1L, 1L, 3L, 3L
+    while len(digits) < count:
+        if 4 * q + r - t < n * t:
+            digits.append(str(n))
+            nr = 10 * (r - n * t)
+            n = (10 * (3 * q + r)) // t - 10 * n
+            q = q * 10
+            r = nr
+        else:
+            nr = (2 * q + r) * l
+            nn = (q * (7 * k) + 2 + r * l) // (t * l)
+            q = q * k
+            t = t * l
+            l = l + 2
+            k = k + 1
+            n = nn
+            r = nr
+    return ''.join(digits)
+
+def factorial(n):
+    result = 1L
+    for i in xrange(2, n + 1):
+        result = result * i
+    return result
+
+def fibonacci(n):
+    a, b = 0L, 1L
+    for i in xrange(n):
+        a, b = b, a + b
+    return a
+
+def decimal(text):
+    return Decimal(text)
+
+def compound_interest(principal, rate, periods):
+    balance = principal
+    for i in xrange(periods):
+        balance = balance + (balance * rate).quantize(CENT, rounding=ROUND_HALF_EVEN)
+    return balance
@@ -0,0 +1,13 @@
+def word_count(lines):
+    counts = {}
+    for line in lines:
+        for word in line.split(' '):
+            counts[word] = counts.get(word, 0) + 1
+    return counts
+
+def k_nucleotide(dna, k):
+    counts = {}
+    for i in xrange(len(dna) - k + 1):
+        fragment = dna[i:i + k]
+        counts[fragment] = counts.get(fragment, 0) + 1
+    return counts
@@ -0,0 +1,88 @@
+import math
+
+SOLAR_MASS = 4.0 * math.pi * math.pi
+DAYS_PER_YEAR = 365.24
+DT = 0.01
+
+class Body(object):
+
+    def __init__(self, x, y, z, vx, vy, vz, mass):
+        self.x = x
+        self.y = y
+        self.z = z
+        self.vx = vx * DAYS_PER_YEAR
+        self.vy = vy * DAYS_PER_YEAR
+        self.vz = vz * DAYS_PER_YEAR
+        self.mass = mass * SOLAR_MASS
+
+def system():
+    bodies = [
+        Body(0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 1.0),
+        Body(
+            4.84143144246472090e+00, -1.16032004402742839e+00, -1.03622044471123109e-01,
+            1.66007664274403694e-03, 7.69901118419740425e-03, -6.90460016972063023e-05,
+            9.54791938424326609e-04),
+        Body(
+            8.34336671824457987e+00, 4.12479856412430479e+00, -4.03523417114321381e-01,
+            -2.76742510726862411e-03, 4.99852801234917238e-03, 2.30417297573763929e-05,
+            2.85885980666130812e-04),
+        Body(
+            1.28943695621391310e+01, -1.51111514016986312e+01, -2.23307578892655734e-01,
+            2.96460137564761618e-03, 2.37847173959480950e-03, -2.96589568540237556e-05,
+            4.36624404335156298e-05),
+        Body(
+            1.53796971148509165e+01, -2.59193146099879641e+01, 1.79258772950371181e-01,
+            2.68067772490389322e-03, 1.62824170038242295e-03, -9.51592254519715870e-05,
+            5.15138902046611451e-05)]
+    px = py = pz = 0.0
+    for b in bodies:
+        px = px + b.vx * b.mass
+        py = py + b.vy * b.mass
+        pz = pz + b.vz * b.mass
+    sun = bodies[0]
+    sun.vx = -px / SOLAR_MASS
+    sun.vy = -py / SOLAR_MASS
+    sun.vz = -pz / SOLAR_MASS
+    return bodies
+
+def advance(bodies):
+    count = len(bodies)
+    for i in xrange(count):
+        a = bodies[i]
+        for j in xrange(i + 1, count):
+            b = bodies[j]
+            dx = a.x - b.x
+            dy = a.y - b.y
+            dz = a.z - b.z
+            squared = dx * dx + dy * dy + dz * dz
+            magnitude = DT / (squared * math.sqrt(squared))
+            a.vx = a.vx - dx * b.mass * magnitude
+            a.vy = a.vy - dy * b.mass * magnitude
+            a.vz = a.vz - dz * b.mass * magnitude
+            b.vx = b.vx + dx * a.mass * magnitude
+            b.vy = b.vy + dy * a.mass * magnitude
+            b.vz = b.vz + dz * a.mass * magnitude
+    for b in bodies:
+        b.x = b.x + DT * b.vx
+        b.y = b.y + DT * b.vy
+        b.z = b.z + DT * b.vz
+
+def energy(bodies):
+    count = len(bodies)
+    e = 0.0
+    for i in xrange(count):
+        a = bodies[i]
+        e = e + 0.5 * a.mass * (a.vx * a.vx + a.vy * a.vy + a.vz * a.vz)
+        for j in xrange(i + 1, count):
+            b = bodies[j]
+            dx = a.x - b.x
+            dy = a.y - b.y
+            dz = a.z - b.z
+            e = e - (a.mass * b.mass) / math.sqrt(dx * dx + dy * dy + dz * dz)
+    return e
+
+def run(steps):
+    bodies = system()
+    for i in xrange(steps):
+        advance(bodies)
+    return energy(bodies)
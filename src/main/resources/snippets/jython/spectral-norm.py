@@ -0,0 +1,36 @@
+import math
+
+def a(i, j):
+    return 1.0 / ((i + j) * (i + j + 1) / 2 + i + 1)
+
+def multiply_av(v, av):
+    n = len(v)
+    for i in xrange(n):
+        s = 0.0
+        for j in xrange(n):
+            s = s + a(i, j) * v[j]
+        av[i] = s
+
+def multiply_atv(v, atv):
+    n = len(v)
+    for i in xrange(n):
+        s = 0.0
+        for j in xrange(n):
+            s = s + a(j, i) * v[j]
+        atv[i] = s
+
+def run(n):
+    u = [1.0] * n
+    v = [0.0] * n
+    tmp = [0.0] * n
+    for i in xrange(10):
+        multiply_av(u, tmp)
+        multiply_atv(tmp, v)
+        multiply_av(v, tmp)
+        multiply_atv(tmp, u)
+    vBv = 0.0
+    vv = 0.0
+    for i in xrange(n):
+        vBv = vBv + u[i] * v[i]
+        vv = vv + v[i] * v[i]
+    return math.sqrt(vBv / vv)
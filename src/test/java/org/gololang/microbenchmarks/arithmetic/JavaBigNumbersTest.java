@@ -0,0 +1,116 @@
+/*
+ * Copyright 2012-2016 Institut National des Sciences Appliquées de Lyon (INSA-Lyon)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gololang.microbenchmarks.arithmetic;
+
+import org.gololang.microbenchmarks.support.CodeLoader;
+import org.gololang.microbenchmarks.support.JRubyContainerAndReceiver;
+import org.jruby.runtime.builtin.IRubyObject;
+import org.junit.Test;
+import org.python.core.Py;
+import org.python.core.PyObject;
+import org.python.util.PythonInterpreter;
+
+import javax.script.Invocable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import static java.lang.invoke.MethodType.genericMethodType;
+import static org.junit.Assert.assertEquals;
+
+public class JavaBigNumbersTest {
+
+  private static final BigDecimal PRINCIPAL = new BigDecimal("250000.00");
+  private static final BigDecimal RATE = new BigDecimal("0.0035");
+
+  @Test
+  public void test_java() {
+    assertEquals("31415926535897932384", JavaBigNumbers.piDigits(20));
+    assertEquals(new BigInteger("2432902008176640000"), JavaBigNumbers.factorial(20));
+    assertEquals(new BigInteger("354224848179261915075"), JavaBigNumbers.fibonacci(100));
+    assertEquals(new BigDecimal("250875.00"), JavaBigNumbers.compoundInterest(PRINCIPAL, RATE, 1));
+    assertEquals(new BigDecimal("251753.06"), JavaBigNumbers.compoundInterest(PRINCIPAL, RATE, 2));
+  }
+
+  @Test
+  public void test_golo_clojure() throws Throwable {
+    CodeLoader loader = new CodeLoader();
+    String pi = JavaBigNumbers.piDigits(300);
+    BigInteger factorial = JavaBigNumbers.factorial(200);
+    BigInteger fibonacci = JavaBigNumbers.fibonacci(500);
+    BigDecimal interest = JavaBigNumbers.compoundInterest(PRINCIPAL, RATE, 360);
+
+    assertEquals(pi, loader.golo("big-numbers", "pi_digits", 1).invoke(300));
+    assertEquals(factorial, loader.golo("big-numbers", "factorial", 1).invoke(200));
+    assertEquals(fibonacci, loader.golo("big-numbers", "fibonacci", 1).invoke(500));
+    assertEquals(interest, loader.golo("big-numbers", "compound_interest", 3).invoke(PRINCIPAL, RATE, 360));
+
+    assertEquals(pi, loader.clojure("big-numbers", "big-numbers", "pi-digits").invoke(300));
+    assertEquals(factorial, loader.clojure("big-numbers", "big-numbers", "factorial").invoke(200));
+    assertEquals(fibonacci, loader.clojure("big-numbers", "big-numbers", "fibonacci").invoke(500));
+    assertEquals(interest, loader.clojure("big-numbers", "big-numbers", "compound-interest").invoke(PRINCIPAL, RATE, 360));
+  }
+
+  @Test
+  public void test_groovy_nashorn() throws Throwable {
+    CodeLoader loader = new CodeLoader();
+    String pi = JavaBigNumbers.piDigits(300);
+    BigInteger factorial = JavaBigNumbers.factorial(200);
+    BigInteger fibonacci = JavaBigNumbers.fibonacci(500);
+    BigDecimal interest = JavaBigNumbers.compoundInterest(PRINCIPAL, RATE, 360);
+
+    assertEquals(pi, loader.groovy("BigNumbers", "pi_digits", genericMethodType(1)).invoke(300));
+    assertEquals(factorial, loader.groovy("BigNumbers", "factorial", genericMethodType(1)).invoke(200));
+    assertEquals(fibonacci, loader.groovy("BigNumbers", "fibonacci", genericMethodType(1)).invoke(500));
+    assertEquals(interest, loader.groovy("BigNumbers", "compound_interest", genericMethodType(3)).invoke(PRINCIPAL, RATE, 360));
+
+    assertEquals(pi, loader.groovy_indy("BigNumbers", "pi_digits", genericMethodType(1)).invoke(300));
+    assertEquals(factorial, loader.groovy_indy("BigNumbers", "factorial", genericMethodType(1)).invoke(200));
+    assertEquals(fibonacci, loader.groovy_indy("BigNumbers", "fibonacci", genericMethodType(1)).invoke(500));
+    assertEquals(interest, loader.groovy_indy("BigNumbers", "compound_interest", genericMethodType(3)).invoke(PRINCIPAL, RATE, 360));
+
+    Invocable nashorn = (Invocable) loader.nashorn("big-numbers");
+    assertEquals(pi, nashorn.invokeFunction("pi_digits", 300));
+    assertEquals(factorial, nashorn.invokeFunction("factorial", 200));
+    assertEquals(fibonacci, nashorn.invokeFunction("fibonacci", 500));
+    assertEquals(interest, nashorn.invokeFunction("compound_interest", PRINCIPAL, RATE, 360));
+  }
+
+  @Test
+  public void test_jruby_jython() {
+    CodeLoader loader = new CodeLoader();
+    String pi = JavaBigNumbers.piDigits(300);
+    String factorial = JavaBigNumbers.factorial(200).toString();
+    String fibonacci = JavaBigNumbers.fibonacci(500).toString();
+    String interest = JavaBigNumbers.compoundInterest(PRINCIPAL, RATE, 360).toPlainString();
+
+    JRubyContainerAndReceiver jruby = loader.jruby("big-numbers");
+    assertEquals(pi, jruby.container().callMethod(jruby.receiver(), "pi_digits", 300).toString());
+    assertEquals(factorial, jruby.container().callMethod(jruby.receiver(), "factorial", 200).toString());
+    assertEquals(fibonacci, jruby.container().callMethod(jruby.receiver(), "fibonacci", 500).toString());
+    Object rubyPrincipal = jruby.container().callMethod(jruby.receiver(), "decimal", new Object[]{"250000.00"}, IRubyObject.class);
+    Object rubyRate = jruby.container().callMethod(jruby.receiver(), "decimal", new Object[]{"0.0035"}, IRubyObject.class);
+    assertEquals(interest, jruby.container().callMethod(jruby.receiver(), "compound_interest", rubyPrincipal, rubyRate, 360).toString());
+
+    PythonInterpreter jython = loader.jython("big-numbers");
+    assertEquals(pi, jython.get("pi_digits").__call__(Py.newInteger(300)).__str__().toString());
+    assertEquals(factorial, jython.get("factorial").__call__(Py.newInteger(200)).__str__().toString());
+    assertEquals(fibonacci, jython.get("fibonacci").__call__(Py.newInteger(500)).__str__().toString());
+    PyObject pyPrincipal = jython.get("decimal").__call__(Py.newString("250000.00"));
+    PyObject pyRate = jython.get("decimal").__call__(Py.newString("0.0035"));
+    assertEquals(interest, jython.get("compound_interest").__call__(pyPrincipal, pyRate, Py.newInteger(360)).__str__().toString());
+  }
+}
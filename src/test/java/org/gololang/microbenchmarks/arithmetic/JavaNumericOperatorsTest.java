@@ -0,0 +1,66 @@
+/*
+ * Copyright 2012-2016 Institut National des Sciences Appliquées de Lyon (INSA-Lyon)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gololang.microbenchmarks.arithmetic;
+
+import org.gololang.microbenchmarks.support.CodeLoader;
+import org.junit.Test;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import static java.lang.invoke.MethodType.genericMethodType;
+import static org.gololang.microbenchmarks.arithmetic.JavaNumericOperators.*;
+import static org.gololang.microbenchmarks.arithmetic.NumericOperatorsMicroBenchmark.number;
+import static org.junit.Assert.assertEquals;
+
+public class JavaNumericOperatorsTest {
+
+  private static final String[] TYPES = {"Integer", "Long", "Double", "BigInteger", "BigDecimal"};
+  private static final String[] OPERATORS = {"plus", "minus", "times", "divide", "modulo", "less", "equals"};
+
+  @Test
+  public void test_promotions() throws Exception {
+    assertEquals(5, plus(3, 2));
+    assertEquals(5L, plus(3, 2L));
+    assertEquals(5.0D, plus(3L, 2.0D));
+    assertEquals(BigInteger.valueOf(5), plus(3L, BigInteger.valueOf(2)));
+    assertEquals(new BigDecimal("5"), plus(3.0D, BigInteger.valueOf(2)));
+    assertEquals(new BigDecimal("1.5"), divide(BigDecimal.valueOf(3), 2));
+    assertEquals(BigInteger.valueOf(-1), modulo(BigInteger.valueOf(-7), 2));
+    assertEquals(true, JavaNumericOperators.equals(2, 2.0D));
+    assertEquals(true, less(1, new BigDecimal("1.5")));
+  }
+
+  @Test
+  public void test_same_results_as_golo() throws Throwable {
+    CodeLoader loader = new CodeLoader();
+    for (String operator : OPERATORS) {
+      MethodHandle golo = loader.golo("numeric-operators", operator, 2);
+      MethodHandle java = MethodHandles.lookup().findStatic(JavaNumericOperators.class, operator, genericMethodType(2));
+      for (String left : TYPES) {
+        for (String right : TYPES) {
+          Object a = number(left, 1234);
+          Object b = number(right, 16);
+          assertEquals(operator + " " + left + " " + right,
+              (Object) golo.invokeExact(a, b), (Object) java.invokeExact(a, b));
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2012-2016 Institut National des Sciences Appliquées de Lyon (INSA-Lyon)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gololang.microbenchmarks.arrays;
+
+import org.gololang.microbenchmarks.support.CodeLoader;
+import org.gololang.microbenchmarks.support.JRubyContainerAndReceiver;
+import org.junit.Test;
+import org.python.core.Py;
+import org.python.util.PythonInterpreter;
+
+import javax.script.Invocable;
+
+import static java.lang.invoke.MethodType.genericMethodType;
+import static org.junit.Assert.assertEquals;
+
+public class ArrayKernelsTest {
+
+  @Test
+  public void test_java() {
+    assertEquals(1229, JavaArrayKernels.sieve(10_000));
+    assertEquals(78498, JavaArrayKernels.sieve(1_000_000));
+    // Expected checksums from the benchmarks game
+    assertEquals(228, JavaArrayKernels.fannkuch(7));
+    assertEquals(8629, JavaArrayKernels.fannkuch(9));
+    assertEquals(82320L, JavaArrayKernels.matrixMultiply(16));
+  }
+
+  @Test
+  public void test_snippets() throws Throwable {
+    CodeLoader loader = new CodeLoader();
+    for (String kind : new String[]{"objects", "primitives"}) {
+      assertEquals(1229, loader.golo("array-kernels", "sieve_" + kind, 1).invoke(10_000));
+      assertEquals(228, loader.golo("array-kernels", "fannkuch_" + kind, 1).invoke(7));
+      assertEquals(82320L, loader.golo("array-kernels", "matrix_multiply_" + kind, 1).invoke(16));
+    }
+
+    assertEquals(1229L, loader.clojure("array-kernels", "array-kernels", "sieve").invoke(10_000));
+    assertEquals(228L, loader.clojure("array-kernels", "array-kernels", "fannkuch").invoke(7));
+    assertEquals(82320L, loader.clojure("array-kernels", "array-kernels", "matrix-multiply").invoke(16));
+
+    JRubyContainerAndReceiver jruby = loader.jruby("array-kernels");
+    assertEquals(1229L, jruby.container().callMethod(jruby.receiver(), "sieve", 10_000));
+    assertEquals(228L, jruby.container().callMethod(jruby.receiver(), "fannkuch", 7));
+    assertEquals(82320L, jruby.container().callMethod(jruby.receiver(), "matrix_multiply", 16));
+
+    PythonInterpreter jython = loader.jython("array-kernels");
+    assertEquals(1229, jython.get("sieve").__call__(Py.newInteger(10_000)).asInt());
+    assertEquals(228, jython.get("fannkuch").__call__(Py.newInteger(7)).asInt());
+    assertEquals(82320, jython.get("matrix_multiply").__call__(Py.newInteger(16)).asInt());
+  }
+
+  @Test
+  public void test_groovy_nashorn() throws Throwable {
+    CodeLoader loader = new CodeLoader();
+    assertEquals(1229, loader.groovy("ArrayKernels", "sieve", genericMethodType(1)).invoke(10_000));
+    assertEquals(228, loader.groovy("ArrayKernels", "fannkuch", genericMethodType(1)).invoke(7));
+    assertEquals(82320L, loader.groovy("ArrayKernels", "matrix_multiply", genericMethodType(1)).invoke(16));
+
+    assertEquals(1229, loader.groovy_indy("ArrayKernels", "sieve", genericMethodType(1)).invoke(10_000));
+    assertEquals(228, loader.groovy_indy("ArrayKernels", "fannkuch", genericMethodType(1)).invoke(7));
+    assertEquals(82320L, loader.groovy_indy("ArrayKernels", "matrix_multiply", genericMethodType(1)).invoke(16));
+
+    // Nashorn numbers come back as Integer or Double depending on the arithmetic, e.g. 228.0 for fannkuch
+    Invocable nashorn = (Invocable) loader.nashorn("array-kernels");
+    assertEquals(1229L, ((Number) nashorn.invokeFunction("sieve", 10_000)).longValue());
+    assertEquals(228L, ((Number) nashorn.invokeFunction("fannkuch", 7)).longValue());
+    assertEquals(82320L, ((Number) nashorn.invokeFunction("matrix_multiply", 16)).longValue());
+  }
+}
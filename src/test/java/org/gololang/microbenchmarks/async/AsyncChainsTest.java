@@ -0,0 +1,97 @@
+/*
+ * Copyright 2012-2016 Institut National des Sciences Appliquées de Lyon (INSA-Lyon)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gololang.microbenchmarks.async;
+
+import gololang.concurrent.async.Future;
+import gololang.concurrent.async.Promise;
+import org.gololang.microbenchmarks.support.CodeLoader;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class AsyncChainsTest {
+
+  private final CodeLoader loader = new CodeLoader();
+
+  @Test
+  public void test_chains() throws Throwable {
+    Promise promise = new Promise();
+    Future golo = (Future) loader.golo("async", "map_chain", 2).invoke(promise.future(), 16);
+    promise.set(0);
+    CompletableFuture<Integer> source = new CompletableFuture<>();
+    CompletableFuture<Integer> java = JavaFutures.mapChain(source, 16);
+    source.complete(0);
+    assertEquals(16, golo.blockingGet());
+    assertEquals(java.join(), golo.blockingGet());
+
+    promise = new Promise();
+    golo = (Future) loader.golo("async", "flat_map_chain", 2).invoke(promise.future(), 16);
+    promise.set(0);
+    source = new CompletableFuture<>();
+    java = JavaFutures.flatMapChain(source, 16);
+    source.complete(0);
+    assertEquals(java.join(), golo.blockingGet());
+  }
+
+  @Test
+  public void test_failure() throws Throwable {
+    IllegalStateException failure = new IllegalStateException();
+    Promise promise = new Promise();
+    Future golo = (Future) loader.golo("async", "map_chain", 2).invoke(promise.future(), 4);
+    promise.fail(failure);
+    assertTrue(golo.isFailed());
+    assertSame(failure, golo.blockingGet());
+  }
+
+  @Test
+  public void test_observers() throws Throwable {
+    List<Object> results = new ArrayList<>();
+    Promise promise = new Promise();
+    loader.golo("async", "observers", 3).invoke(promise.future(), 3, results);
+    promise.set(7);
+    assertEquals(Arrays.asList(7, 7, 7), results);
+
+    List<Object> javaResults = new ArrayList<>();
+    CompletableFuture<Integer> source = new CompletableFuture<>();
+    JavaFutures.observers(source, 3, javaResults);
+    source.complete(7);
+    assertEquals(results, javaResults);
+  }
+
+  @Test
+  public void test_fan_in() throws Throwable {
+    Promise first = new Promise();
+    Promise second = new Promise();
+    Future golo = (Future) loader.golo("async", "fan_in", 1).invoke(Arrays.asList(first.future(), second.future()));
+    first.set(1);
+    second.set(2);
+    CompletableFuture<Integer> javaFirst = new CompletableFuture<>();
+    CompletableFuture<Integer> javaSecond = new CompletableFuture<>();
+    CompletableFuture<List<Integer>> java = JavaFutures.fanIn(Arrays.asList(javaFirst, javaSecond));
+    javaFirst.complete(1);
+    javaSecond.complete(2);
+    assertEquals(Arrays.asList(1, 2), golo.blockingGet());
+    assertEquals(java.join(), golo.blockingGet());
+  }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2012-2016 Institut National des Sciences Appliquées de Lyon (INSA-Lyon)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gololang.microbenchmarks.binarytrees;
+
+import org.gololang.microbenchmarks.support.CodeLoader;
+import org.gololang.microbenchmarks.support.JRubyContainerAndReceiver;
+import org.junit.Test;
+
+import static java.lang.invoke.MethodType.genericMethodType;
+import static org.junit.Assert.assertEquals;
+
+public class BinaryTreesTest {
+
+  @Test
+  public void test_java() {
+    assertEquals(1, JavaTreeNode.tree(0));
+    assertEquals(31, JavaTreeNode.tree(4));
+    assertEquals(2047, JavaTreeNode.tree(10));
+  }
+
+  @Test
+  public void test_snippets() throws Throwable {
+    CodeLoader loader = new CodeLoader();
+    for (String func : new String[]{"struct_tree", "dynamic_tree", "java_tree"}) {
+      assertEquals(2047, loader.golo("binary-trees", func, 1).invoke(10));
+    }
+    assertEquals(2047L, loader.clojure("binary-trees", "binary-trees", "tree").invoke(10));
+    JRubyContainerAndReceiver jruby = loader.jruby("binary-trees");
+    assertEquals(2047L, jruby.container().callMethod(jruby.receiver(), "tree", 10));
+    assertEquals(2047, loader.groovy("BinaryTrees", "tree", genericMethodType(1)).invoke(10));
+    assertEquals(2047, loader.groovy_indy("BinaryTrees", "tree", genericMethodType(1)).invoke(10));
+  }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2012-2016 Institut National des Sciences Appliquées de Lyon (INSA-Lyon)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gololang.microbenchmarks.calls;
+
+import org.gololang.microbenchmarks.support.CodeLoader;
+import org.junit.Test;
+
+import java.lang.invoke.MethodHandle;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class CallsSnippetsTest {
+
+  @Test
+  public void test_positional_and_named_calls() throws Throwable {
+    MethodHandle positional = new CodeLoader().golo("calls", "positional", 4);
+    MethodHandle named = new CodeLoader().golo("calls", "named", 4);
+    MethodHandle namedShuffled = new CodeLoader().golo("calls", "named_shuffled", 4);
+    Object[][] samples = {{1L, 2L, 3L, 4L}, {10L, -7L, 5L, 0L}, {-3L, 8L, -2L, 100L}};
+    for (Object[] args : samples) {
+      Object expected = JavaCalls.positional(args[0], args[1], args[2], args[3]);
+      assertEquals(expected, positional.invokeWithArguments(args));
+      assertEquals(expected, named.invokeWithArguments(args));
+      assertEquals(expected, namedShuffled.invokeWithArguments(args));
+    }
+  }
+
+  @Test
+  public void test_varargs_calls() throws Throwable {
+    int[] counts = {0, 1, 2, 4, 8, 16};
+    for (int trailing : counts) {
+      MethodHandle golo = new CodeLoader().golo("calls", "varargs_" + trailing, 1);
+      Object java = JavaCalls.class.getMethod("varargs_" + trailing, Object.class).invoke(null, 42L);
+      Object[] packed = (Object[]) golo.invoke(42L);
+      assertEquals(trailing, packed.length);
+      assertArrayEquals((Object[]) java, packed);
+    }
+  }
+}
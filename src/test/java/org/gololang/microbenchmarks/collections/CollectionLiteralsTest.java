@@ -0,0 +1,68 @@
+/*
+ * Copyright 2012-2016 Institut National des Sciences Appliquées de Lyon (INSA-Lyon)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gololang.microbenchmarks.collections;
+
+import gololang.Tuple;
+import org.gololang.microbenchmarks.support.CodeLoader;
+import org.junit.Test;
+
+import java.util.*;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class CollectionLiteralsTest {
+
+  private static Object literal(String kind, int size) throws Throwable {
+    return new CodeLoader().goloFromSources("new_" + kind, 0, CollectionLiterals.generate(size)).invoke();
+  }
+
+  @Test
+  public void test_generated_literals() throws Throwable {
+    for (int size : new int[]{0, 1, 5}) {
+      List<Integer> expected = new ArrayList<>();
+      Map<Integer, Integer> expectedMap = new HashMap<>();
+      for (int i = 0; i < size; i++) {
+        expected.add(i);
+        expectedMap.put(i, i);
+      }
+      assertEquals(new LinkedList<>(expected), literal("list", size));
+      assertEquals(expected, literal("vector", size));
+      assertEquals(new HashSet<>(expected), literal("set", size));
+      assertEquals(expectedMap, literal("map", size));
+      assertEquals(Tuple.fromArray(expected.toArray()), literal("tuple", size));
+      assertArrayEquals(expected.toArray(), (Object[]) literal("array", size));
+    }
+  }
+
+  @Test
+  public void test_collection_functions() throws Throwable {
+    CodeLoader loader = new CodeLoader();
+    Object list = literal("list", 5);
+    Object tuple = literal("tuple", 5);
+    assertEquals(3, loader.golo("collections", "get", 2).invoke(tuple, 3));
+    assertEquals(10L, loader.golo("collections", "sum", 1).invoke(literal("array", 5)));
+    assertEquals(9, loader.golo("collections", "append", 2).invoke(list, 9));
+    assertEquals(9, loader.golo("collections", "prepend", 2).invoke(list, 9));
+    assertEquals(literal("list", 5), list);
+    assertEquals(0, loader.golo("collections", "head", 1).invoke(list));
+    assertEquals(Arrays.asList(1, 2, 3, 4), loader.golo("collections", "tail", 1).invoke(list));
+    assertEquals(3, loader.golo("collections", "find", 2).invoke(tuple, 3));
+    assertEquals(10L, loader.golo("collections", "each", 1).invoke(tuple));
+    assertEquals(3, loader.golo("collections", "count", 1).invoke(list));
+  }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2012-2016 Institut National des Sciences Appliquées de Lyon (INSA-Lyon)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gololang.microbenchmarks.counting;
+
+import org.gololang.microbenchmarks.support.CodeLoader;
+import org.gololang.microbenchmarks.support.JRubyContainerAndReceiver;
+import org.junit.Test;
+import org.python.core.Py;
+import org.python.core.PyDictionary;
+import org.python.core.PyObject;
+
+import java.util.List;
+import java.util.Map;
+
+import static java.lang.invoke.MethodType.genericMethodType;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class CountingTest {
+
+  private static void assertSameCounts(Map<String, Integer> expected, Map<?, ?> actual) {
+    assertEquals(expected.size(), actual.size());
+    for (Map.Entry<String, Integer> entry : expected.entrySet()) {
+      assertEquals(entry.getValue().longValue(), ((Number) actual.get(entry.getKey())).longValue());
+    }
+  }
+
+  @Test
+  public void test_corpus() {
+    assertEquals(64L * 1024L, Corpus.parseSize("64KB"));
+    assertEquals(1L << 30, Corpus.parseSize("1GB"));
+    List<String> lines = Corpus.words(Corpus.parseSize("64KB"));
+    assertEquals(lines, Corpus.words(Corpus.parseSize("64KB")));
+    long length = lines.stream().mapToLong(line -> line.length() + 1).sum();
+    assertTrue(length >= 64L * 1024L && length < 65L * 1024L);
+    String dna = Corpus.dna(1000L);
+    assertEquals(1000, dna.length());
+    assertTrue(dna.matches("[ACGT]+"));
+  }
+
+  @Test
+  public void test_java_k_nucleotide() {
+    String dna = Corpus.dna(Corpus.parseSize("64KB"));
+    for (int k : new int[]{1, 2, 12}) {
+      Map<String, Integer> strings = JavaCounting.kNucleotide(dna, k);
+      Map<Long, Integer> boxed = JavaCounting.kNucleotideBoxedKeys(dna, k);
+      LongIntCounter primitive = JavaCounting.kNucleotidePrimitiveKeys(dna, k);
+      assertEquals(strings.size(), boxed.size());
+      assertEquals(strings.size(), primitive.size());
+      for (Map.Entry<String, Integer> entry : strings.entrySet()) {
+        long key = JavaCounting.encode(entry.getKey());
+        assertEquals(entry.getValue(), boxed.get(key));
+        assertEquals((int) entry.getValue(), primitive.get(key));
+      }
+    }
+  }
+
+  @Test
+  public void test_snippets() throws Throwable {
+    CodeLoader loader = new CodeLoader();
+    List<String> lines = Corpus.words(Corpus.parseSize("64KB"));
+    String dna = Corpus.dna(Corpus.parseSize("64KB"));
+    Map<String, Integer> words = JavaCounting.wordCount(lines);
+    Map<String, Integer> fragments = JavaCounting.kNucleotide(dna, 4);
+
+    assertSameCounts(words, (Map<?, ?>) loader.golo("counting", "word_count", 1).invoke(lines));
+    assertSameCounts(fragments, (Map<?, ?>) loader.golo("counting", "k_nucleotide", 2).invoke(dna, 4));
+
+    assertSameCounts(words, (Map<?, ?>) loader.clojure("counting", "counting", "word-count").invoke(lines));
+    assertSameCounts(fragments, (Map<?, ?>) loader.clojure("counting", "counting", "k-nucleotide").invoke(dna, 4));
+
+    JRubyContainerAndReceiver jruby = loader.jruby("counting");
+    assertSameCounts(words, (Map<?, ?>) jruby.container().callMethod(jruby.receiver(), "word_count", lines));
+    assertSameCounts(fragments, (Map<?, ?>) jruby.container().callMethod(jruby.receiver(), "k_nucleotide", dna, 4));
+
+    assertSameCounts(words, (Map<?, ?>) loader.groovy("Counting", "word_count", genericMethodType(1)).invoke(lines));
+    assertSameCounts(fragments, (Map<?, ?>) loader.groovy("Counting", "k_nucleotide", genericMethodType(2)).invoke(dna, 4));
+    assertSameCounts(words, (Map<?, ?>) loader.groovy_indy("Counting", "word_count", genericMethodType(1)).invoke(lines));
+    assertSameCounts(fragments, (Map<?, ?>) loader.groovy_indy("Counting", "k_nucleotide", genericMethodType(2)).invoke(dna, 4));
+
+    PyObject jython = loader.jython("counting").get("word_count");
+    assertSameCounts(words, (PyDictionary) jython.__call__(Py.java2py(lines)));
+    jython = loader.jython("counting").get("k_nucleotide");
+    assertSameCounts(fragments, (PyDictionary) jython.__call__(Py.newString(dna), Py.newInteger(4)));
+  }
+}
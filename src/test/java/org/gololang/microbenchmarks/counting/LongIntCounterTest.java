@@ -0,0 +1,50 @@
+/*
+ * Copyright 2012-2016 Institut National des Sciences Appliquées de Lyon (INSA-Lyon)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gololang.microbenchmarks.counting;
+
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+public class LongIntCounterTest {
+
+  @Test
+  public void test_counts_match_a_hashmap() {
+    Random random = new Random(42L);
+    LongIntCounter counter = new LongIntCounter();
+    Map<Long, Integer> expected = new HashMap<>();
+    for (int i = 0; i < 200_000; i++) {
+      long key = random.nextInt(50_000) * 1_000_003L;
+      counter.increment(key);
+      expected.merge(key, 1, Integer::sum);
+    }
+    assertEquals(expected.size(), counter.size());
+    for (Map.Entry<Long, Integer> entry : expected.entrySet()) {
+      assertEquals((int) entry.getValue(), counter.get(entry.getKey()));
+    }
+    assertEquals(0, counter.get(7L));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void test_negative_keys_are_rejected() {
+    new LongIntCounter().increment(-1L);
+  }
+}
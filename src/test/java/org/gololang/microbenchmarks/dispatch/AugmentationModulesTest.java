@@ -0,0 +1,59 @@
+/*
+ * Copyright 2012-2016 Institut National des Sciences Appliquées de Lyon (INSA-Lyon)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gololang.microbenchmarks.dispatch;
+
+import org.gololang.microbenchmarks.support.CodeLoader;
+import org.junit.Test;
+
+import java.lang.invoke.MethodHandle;
+import java.util.TreeMap;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class AugmentationModulesTest {
+
+  @Test
+  public void test_generate() throws Exception {
+    String[] sources = AugmentationModules.generate("java.util.Map", 3);
+    assertEquals(5, sources.length);
+    assertTrue(sources[4].contains("augment java.util.Map with Filler0, Filler1, Filler2, Target"));
+  }
+
+  @Test
+  public void test_dispatch_on_interface() throws Throwable {
+    MethodHandle dispatch = new CodeLoader().goloFromSources(AugmentationModules.DISPATCH_FUNCTION, 1,
+        AugmentationModules.generate("org.gololang.microbenchmarks.dispatch.AugmentationHierarchy$Root", 4));
+    for (int depth = 0; depth <= AugmentationHierarchy.MAX_DEPTH; depth++) {
+      assertEquals(42, (Object) dispatch.invokeExact((Object) AugmentationHierarchy.newInstance(depth)));
+    }
+  }
+
+  @Test
+  public void test_dispatch_on_superclass() throws Throwable {
+    MethodHandle dispatch = new CodeLoader().goloFromSources(AugmentationModules.DISPATCH_FUNCTION, 1,
+        AugmentationModules.generate("org.gololang.microbenchmarks.dispatch.AugmentationHierarchy$Level0", 0));
+    assertEquals(42, (Object) dispatch.invokeExact((Object) AugmentationHierarchy.newInstance(AugmentationHierarchy.MAX_DEPTH)));
+  }
+
+  @Test
+  public void test_dispatch_on_map() throws Throwable {
+    MethodHandle dispatch = new CodeLoader().goloFromSources(AugmentationModules.DISPATCH_FUNCTION, 1,
+        AugmentationModules.generate("java.util.Map", 2));
+    assertEquals(42, (Object) dispatch.invokeExact((Object) new TreeMap<>()));
+  }
+}
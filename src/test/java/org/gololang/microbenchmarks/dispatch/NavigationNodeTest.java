@@ -0,0 +1,75 @@
+/*
+ * Copyright 2012-2016 Institut National des Sciences Appliquées de Lyon (INSA-Lyon)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gololang.microbenchmarks.dispatch;
+
+import org.gololang.microbenchmarks.support.CodeLoader;
+import org.junit.Test;
+
+import java.lang.invoke.MethodHandle;
+
+import static org.gololang.microbenchmarks.dispatch.NavigationNode.*;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class NavigationNodeTest {
+
+  @Test
+  public void test_chain() throws Exception {
+    assertNull(chain(3, 0, "v"));
+    assertNull(chain(3, 1, "v").child());
+    assertNull(chain(3, 3, "v").child().child().child());
+    assertEquals("v", chain(3, 4, "v").child().child().child().value());
+    assertNull(chain(3, 4, "v").child().child().child().child());
+  }
+
+  @Test
+  public void test_navigation() throws Exception {
+    for (int depth = 1; depth <= 10; depth++) {
+      assertEquals("v", withoutNullChecks(chain(depth, depth + 1, "v"), depth));
+      assertEquals("v", withNullChecks(chain(depth, depth + 1, "v"), depth));
+      assertEquals("v", withOptional(chain(depth, depth + 1, "v"), depth));
+      for (int missingAt = 0; missingAt <= depth; missingAt++) {
+        assertNull(withNullChecks(chain(depth, missingAt, "v"), depth));
+        assertNull(withOptional(chain(depth, missingAt, "v"), depth));
+      }
+    }
+  }
+
+  @Test
+  public void test_snippets() throws Throwable {
+    CodeLoader loader = new CodeLoader();
+    for (int depth : new int[]{1, 2, 4, 6, 8, 10}) {
+      MethodHandle nullSafe = loader.golo("null-safe", "null_safe_" + depth, 1);
+      MethodHandle nullSafeOrFallback = loader.golo("null-safe", "null_safe_or_fallback_" + depth, 2);
+      MethodHandle plain = loader.golo("null-safe", "plain_" + depth, 1);
+      for (String nulls : new String[]{"never", "sometimes", "every_depth"}) {
+        NullSafeNavigationMicroBenchmark.DataState state = new NullSafeNavigationMicroBenchmark.DataState();
+        state.depth = depth;
+        state.nulls = nulls;
+        state.prepare();
+        for (NavigationNode root : state.roots) {
+          Object expected = withNullChecks(root, depth);
+          assertEquals(expected, nullSafe.invoke(root));
+          assertEquals((expected != null) ? expected : "fallback", nullSafeOrFallback.invoke(root, "fallback"));
+          if (expected != null) {
+            assertEquals(withoutNullChecks(root, depth), plain.invoke(root));
+          }
+        }
+      }
+    }
+  }
+}
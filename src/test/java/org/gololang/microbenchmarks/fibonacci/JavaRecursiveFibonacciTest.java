@@ -18,6 +18,8 @@ package org.gololang.microbenchmarks.fibonacci;
 
 import org.junit.Test;
 
+import static org.gololang.microbenchmarks.fibonacci.JavaRecursiveFibonacci.iterative;
+import static org.gololang.microbenchmarks.fibonacci.JavaRecursiveFibonacci.tailRecursive;
 import static org.gololang.microbenchmarks.fibonacci.JavaRecursiveFibonacci.withBoxing;
 import static org.gololang.microbenchmarks.fibonacci.JavaRecursiveFibonacci.withPrimitives;
 import static org.junit.Assert.assertEquals;
@@ -45,4 +47,12 @@ public class JavaRecursiveFibonacciTest {
     assertEquals((Long) 8L, withBoxing(6L));
     assertEquals((Long) 13L, withBoxing(7L));
   }
+
+  @Test
+  public void test_tailRecursive_and_iterative() throws Exception {
+    for (long n = 1L; n <= 30L; n++) {
+      assertEquals(withPrimitives(n), tailRecursive(n));
+      assertEquals(withPrimitives(n), iterative(n));
+    }
+  }
 }
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2012-2016 Institut National des Sciences Appliquées de Lyon (INSA-Lyon)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gololang.microbenchmarks.fibonacci;
+
+import org.gololang.microbenchmarks.support.CodeLoader;
+import org.junit.Test;
+
+import java.lang.invoke.MethodHandle;
+
+import static org.junit.Assert.assertEquals;
+
+public class MemoizedFibonacciTest {
+
+  private final CodeLoader loader = new CodeLoader();
+
+  @Test
+  public void test_memoized_fib_matches_java() throws Throwable {
+    MethodHandle memoizedFib = loader.golo("memoized-fibonacci", "cached_fib", 1);
+    MethodHandle concurrentMemoizedFib = loader.golo("memoized-fibonacci", "concurrent_cached_fib", 1);
+    for (long n = 1L; n <= 40L; n++) {
+      Long expected = new JavaMemoizedFibonacci().memoizedFib(n);
+      assertEquals(expected, memoizedFib.invoke(n));
+      assertEquals(expected, concurrentMemoizedFib.invoke(n));
+    }
+    assertEquals(102334155L, new JavaMemoizedFibonacci().memoizedFib(40L).longValue());
+  }
+
+  @Test
+  public void test_memoized_work_matches_java() throws Throwable {
+    MethodHandle work = loader.golo("memoized-fibonacci", "work", 1);
+    MethodHandle memoizedWork = loader.golo("memoized-fibonacci", "cached_work", 1);
+    MethodHandle concurrentMemoizedWork = loader.golo("memoized-fibonacci", "concurrent_cached_work", 1);
+    JavaMemoizedFibonacci javaMemo = new JavaMemoizedFibonacci();
+    for (long key = 0L; key < 32L; key++) {
+      Long expected = JavaMemoizedFibonacci.work(key);
+      assertEquals(expected, work.invoke(key));
+      assertEquals(expected, javaMemo.memoizedWork(key));
+      assertEquals(expected, memoizedWork.invoke(key));
+      assertEquals(expected, concurrentMemoizedWork.invoke(key));
+    }
+  }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2012-2016 Institut National des Sciences Appliquées de Lyon (INSA-Lyon)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gololang.microbenchmarks.filtermapreduce;
+
+import org.gololang.microbenchmarks.support.CodeLoader;
+import org.junit.Test;
+
+import java.util.ArrayList;
+
+import static org.junit.Assert.assertEquals;
+
+public class LazyFilterMapReduceTest {
+
+  @Test
+  public void test_lazy_pipelines_agree_with_eager() throws Throwable {
+    CodeLoader loader = new CodeLoader();
+    for (int size : new int[]{0, 1, 1000, 100_000}) {
+      ArrayList<Long> data = new ArrayList<>();
+      for (int i = 0; i < size; i++) {
+        data.add((long) i);
+      }
+      Object expected = loader.golo("filter-map-reduce", "run", 1).invoke(data);
+      assertEquals(expected, loader.golo("lazy-filter-map-reduce", "lazy_list", 1).invoke(data));
+      assertEquals(expected, loader.golo("lazy-filter-map-reduce", "lazy_range", 1).invoke((long) size));
+      assertEquals(expected, loader.golo("lazy-filter-map-reduce", "generator", 1).invoke((long) size));
+
+      int count = size / 10;
+      Object expectedTake = loader.golo("lazy-filter-map-reduce", "eager_take", 2).invoke(data, count);
+      assertEquals(expectedTake, loader.golo("lazy-filter-map-reduce", "lazy_take", 1).invoke(count));
+    }
+  }
+}
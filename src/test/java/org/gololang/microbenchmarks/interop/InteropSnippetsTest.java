@@ -0,0 +1,91 @@
+/*
+ * Copyright 2012-2016 Institut National des Sciences Appliquées de Lyon (INSA-Lyon)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gololang.microbenchmarks.interop;
+
+import org.gololang.microbenchmarks.support.CodeLoader;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+// Among the applicable overloads Golo links the first one in reflection order, which is not stable between JVM runs
+public class InteropSnippetsTest {
+
+  private static final List<String> INTEGER_OVERLOADS = Arrays.asList("int", "long", "double", "Integer", "Object");
+  private static final List<String> LONG_OVERLOADS = Arrays.asList("long", "double", "Long", "Object");
+
+  private static void assertOneOf(List<String> expected, Object actual) {
+    assertTrue(actual + " is not one of " + expected, expected.contains(actual));
+  }
+
+  private static Object kind(Object target) {
+    return ((JavaInteropTarget) target).kind();
+  }
+
+  // Each loaded handle comes from a fresh module, so each call site resolves its own target
+  @Test
+  public void test_static_overloads() throws Throwable {
+    CodeLoader loader = new CodeLoader();
+    assertOneOf(INTEGER_OVERLOADS, loader.golo("interop", "static_overloaded", 1).invoke((Object) 42));
+    assertOneOf(LONG_OVERLOADS, loader.golo("interop", "static_overloaded", 1).invoke((Object) 42L));
+    assertOneOf(Arrays.asList("String", "Object"), loader.golo("interop", "static_overloaded", 1).invoke((Object) "42"));
+
+    Object value = new Object();
+    assertEquals(value, loader.golo("interop", "static_generic", 1).invoke(value));
+  }
+
+  @Test
+  public void test_instance_overloads() throws Throwable {
+    CodeLoader loader = new CodeLoader();
+    JavaInteropTarget target = new JavaInteropTarget(0);
+    assertOneOf(INTEGER_OVERLOADS, loader.golo("interop", "instance_overloaded", 2).invoke(target, (Object) 42));
+    assertOneOf(LONG_OVERLOADS, loader.golo("interop", "instance_overloaded", 2).invoke(target, (Object) 42L));
+    assertOneOf(Arrays.asList("double", "Object"), loader.golo("interop", "instance_overloaded", 2).invoke(target, (Object) 4.2D));
+    assertOneOf(Arrays.asList("String", "Object"), loader.golo("interop", "instance_overloaded", 2).invoke(target, (Object) "42"));
+    assertEquals("Object", loader.golo("interop", "instance_overloaded", 2).invoke(target, new Object()));
+  }
+
+  @Test
+  public void test_constructors() throws Throwable {
+    CodeLoader loader = new CodeLoader();
+    assertOneOf(Arrays.asList("int", "long", "Object"), kind(loader.golo("interop", "constructor_1", 1).invoke((Object) 42)));
+    assertOneOf(Arrays.asList("long", "Object"), kind(loader.golo("interop", "constructor_1", 1).invoke((Object) 42L)));
+    assertOneOf(Arrays.asList("String", "Object"), kind(loader.golo("interop", "constructor_1", 1).invoke((Object) "42")));
+    assertEquals("Object", kind(loader.golo("interop", "constructor_1", 1).invoke(new Object())));
+    assertOneOf(Arrays.asList("int, int", "Object, Object"), kind(loader.golo("interop", "constructor_2", 2).invoke((Object) 1, (Object) 2)));
+    assertEquals("Object, Object", kind(loader.golo("interop", "constructor_2", 2).invoke((Object) 1L, (Object) "2")));
+  }
+
+  @Test
+  public void test_varargs() throws Throwable {
+    CodeLoader loader = new CodeLoader();
+    assertEquals(JavaInteropTarget.varargs(), loader.golo("interop", "varargs_0", 0).invoke());
+    assertEquals(JavaInteropTarget.varargs(1), loader.golo("interop", "varargs_1", 1).invoke((Object) 1));
+    assertEquals(JavaInteropTarget.varargs(1, 2L, "3", null), loader.golo("interop", "varargs_4", 4).invoke(1, 2L, "3", null));
+    assertEquals(JavaInteropTarget.prefixedVarargs("p", 1L, 2L), loader.golo("interop", "prefixed_varargs", 3).invoke("p", 1L, 2L));
+  }
+
+  @Test
+  public void test_fields() throws Throwable {
+    CodeLoader loader = new CodeLoader();
+    assertEquals(JavaInteropTarget.field, loader.golo("interop", "static_field", 0).invoke());
+    assertEquals(JavaInteropTarget.CONSTANT, loader.golo("interop", "static_constant", 0).invoke());
+  }
+}
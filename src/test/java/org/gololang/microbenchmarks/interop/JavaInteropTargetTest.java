@@ -0,0 +1,41 @@
+/*
+ * Copyright 2012-2016 Institut National des Sciences Appliquées de Lyon (INSA-Lyon)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gololang.microbenchmarks.interop;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class JavaInteropTargetTest {
+
+  @Test
+  public void test_dispatchInstanceOverloaded() throws Exception {
+    JavaInteropTarget target = new JavaInteropTarget(0);
+    assertEquals("int", target.dispatchInstanceOverloaded(1));
+    assertEquals("long", target.dispatchInstanceOverloaded(1L));
+    assertEquals("double", target.dispatchInstanceOverloaded(1.0D));
+    assertEquals("String", target.dispatchInstanceOverloaded("1"));
+    assertEquals("Object", target.dispatchInstanceOverloaded(new Object()));
+  }
+
+  @Test
+  public void test_varargs() throws Exception {
+    assertEquals(0, JavaInteropTarget.varargs());
+    assertEquals(3, JavaInteropTarget.varargs(1, "2", 3L));
+    assertEquals(2, JavaInteropTarget.prefixedVarargs("", 1L, 2L));
+  }
+}
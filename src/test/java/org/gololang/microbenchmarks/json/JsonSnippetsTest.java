@@ -0,0 +1,60 @@
+/*
+ * Copyright 2012-2016 Institut National des Sciences Appliquées de Lyon (INSA-Lyon)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gololang.microbenchmarks.json;
+
+import org.gololang.microbenchmarks.support.CodeLoader;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+
+public class JsonSnippetsTest {
+
+  private final String text = JsonDocuments.generate(5, 3);
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void test_documents() throws Throwable {
+    Map<String, Object> document = (Map<String, Object>) JavaJson.parse(text);
+    List<Object> records = (List<Object>) document.get("records");
+    assertEquals(5, records.size());
+    Map<String, Object> child = (Map<String, Object>) ((List<Object>) ((Map<String, Object>) records.get(0)).get("children")).get(0);
+    Map<String, Object> leaf = (Map<String, Object>) ((List<Object>) child.get("children")).get(0);
+    assertEquals(2L, leaf.get("id"));
+    assertEquals(0, ((List<Object>) leaf.get("children")).size());
+    assertEquals(text, JsonDocuments.generate(5, 3));
+  }
+
+  @Test
+  public void test_java_round_trips() throws Throwable {
+    Object document = JavaJson.parse(text);
+    assertEquals(document, JavaJson.parse(JavaJson.roundTrip(text)));
+    assertEquals(document, JavaJson.parse(JavaJson.roundTripRecords(text)));
+  }
+
+  @Test
+  public void test_golo_round_trips() throws Throwable {
+    CodeLoader loader = new CodeLoader();
+    Object document = JavaJson.parse(text);
+    assertEquals(document, loader.golo("json", "parse", 1).invoke(text));
+    assertEquals(document, JavaJson.parse((String) loader.golo("json", "round_trip", 1).invoke(text)));
+    assertEquals(document, JavaJson.parse((String) loader.golo("json", "round_trip_struct", 1).invoke(text)));
+    assertEquals(document, JavaJson.parse((String) loader.golo("json", "round_trip_dynamic_object", 1).invoke(text)));
+  }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2012-2016 Institut National des Sciences Appliquées de Lyon (INSA-Lyon)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gololang.microbenchmarks.loops;
+
+import org.gololang.microbenchmarks.support.CodeLoader;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class JavaLoopsTest {
+
+  @Test
+  public void test_same_results_as_golo() throws Throwable {
+    CodeLoader loader = new CodeLoader();
+    for (int n : new int[]{0, 1, 10, 1000}) {
+      long sum = JavaLoops.sum(n);
+      assertEquals(sum, JavaLoops.sumBoxed(n));
+      assertEquals(sum, JavaLoops.sumIntStream(n));
+      assertEquals(sum, JavaLoops.sumList(JavaLoops.buildArrayList(n)));
+      assertEquals(sum, loader.golo("loops", "sum_while", 1).invoke(n));
+      assertEquals(sum, loader.golo("loops", "sum_for", 1).invoke(n));
+      assertEquals(sum, loader.golo("loops", "sum_foreach_range", 1).invoke(n));
+      assertEquals(sum, loader.golo("loops", "sum_foreach_list", 1).invoke(JavaLoops.buildLinkedList(n)));
+      assertEquals(JavaLoops.sumNested(n), loader.golo("loops", "sum_nested_foreach_range", 1).invoke(n));
+
+      int evens = JavaLoops.countEven(n);
+      assertEquals(evens, loader.golo("loops", "count_even_for", 1).invoke(n));
+      assertEquals(evens, loader.golo("loops", "count_even_foreach_range", 1).invoke(n));
+      assertEquals(evens, loader.golo("loops", "count_even_comprehension", 1).invoke(n));
+
+      List<Integer> list = JavaLoops.buildLinkedList(n);
+      assertEquals(list, JavaLoops.buildArrayList(n));
+      assertEquals(list, loader.golo("loops", "build_list_for", 1).invoke(n));
+      assertEquals(list, loader.golo("loops", "build_list_foreach_range", 1).invoke(n));
+      assertEquals(list, loader.golo("loops", "build_list_comprehension", 1).invoke(n));
+    }
+  }
+}
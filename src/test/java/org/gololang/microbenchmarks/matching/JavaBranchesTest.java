@@ -0,0 +1,43 @@
+/*
+ * Copyright 2012-2016 Institut National des Sciences Appliquées de Lyon (INSA-Lyon)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gololang.microbenchmarks.matching;
+
+import org.junit.Test;
+
+import static org.gololang.microbenchmarks.matching.JavaBranches.*;
+import static org.junit.Assert.assertEquals;
+
+public class JavaBranchesTest {
+
+  @Test
+  public void test_branches() throws Exception {
+    for (int i = 0; i < MAX_BRANCHES; i++) {
+      assertEquals(i, withSwitch(i));
+      assertEquals(i, withIfChain(i));
+    }
+    assertEquals(-1, withSwitch(MAX_BRANCHES));
+    assertEquals(-1, withIfChain(-1));
+  }
+
+  @Test
+  public void test_instanceof_chain() throws Exception {
+    for (int i = 0; i < MAX_BRANCHES; i++) {
+      assertEquals(i, JavaEvents.withInstanceofChain(JavaEvents.event(i)));
+    }
+    assertEquals(-1, JavaEvents.withInstanceofChain("plop"));
+  }
+}
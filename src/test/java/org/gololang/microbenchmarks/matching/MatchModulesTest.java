@@ -0,0 +1,53 @@
+/*
+ * Copyright 2012-2016 Institut National des Sciences Appliquées de Lyon (INSA-Lyon)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gololang.microbenchmarks.matching;
+
+import org.gololang.microbenchmarks.support.CodeLoader;
+import org.junit.Test;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+
+import static java.lang.invoke.MethodType.genericMethodType;
+import static org.junit.Assert.assertEquals;
+
+public class MatchModulesTest {
+
+  @Test
+  public void test_generated_branches() throws Throwable {
+    int branches = 5;
+    MethodHandle event = new CodeLoader().goloFromSources("event", 1, MatchModules.generate(branches));
+    Object anEvent = event.invoke(0);
+    Class<?> module = anEvent.getClass().getClassLoader().loadClass(MatchModules.MODULE);
+    MethodHandles.Lookup lookup = MethodHandles.lookup();
+    MethodHandle matchValue = lookup.findStatic(module, "match_value", genericMethodType(1));
+    MethodHandle caseValue = lookup.findStatic(module, "case_value", genericMethodType(1));
+    MethodHandle tableValue = lookup.findStatic(module, "table_value", genericMethodType(1));
+    MethodHandle matchType = lookup.findStatic(module, "match_type", genericMethodType(1));
+    MethodHandle tableType = lookup.findStatic(module, "table_type", genericMethodType(1));
+    for (int i = 0; i < branches; i++) {
+      assertEquals(i, matchValue.invoke(i));
+      assertEquals(i, caseValue.invoke(i));
+      assertEquals(i, tableValue.invoke(i));
+      assertEquals(i, matchType.invoke(event.invoke(i)));
+      assertEquals(i, tableType.invoke(event.invoke(i)));
+    }
+    assertEquals(-1, matchValue.invoke(branches));
+    assertEquals(-1, caseValue.invoke(branches));
+    assertEquals(-1, matchType.invoke("plop"));
+  }
+}
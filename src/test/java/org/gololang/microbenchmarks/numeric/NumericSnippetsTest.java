@@ -0,0 +1,87 @@
+/*
+ * Copyright 2012-2016 Institut National des Sciences Appliquées de Lyon (INSA-Lyon)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gololang.microbenchmarks.numeric;
+
+import org.gololang.microbenchmarks.support.CodeLoader;
+import org.gololang.microbenchmarks.support.JRubyContainerAndReceiver;
+import org.junit.Test;
+import org.python.core.Py;
+import org.python.util.PythonInterpreter;
+
+import javax.script.Invocable;
+
+import static java.lang.invoke.MethodType.genericMethodType;
+import static java.lang.invoke.MethodType.methodType;
+import static org.junit.Assert.assertEquals;
+
+public class NumericSnippetsTest {
+
+  private static final double DELTA = 1e-9;
+
+  // Expected outputs from the benchmarks game
+  @Test
+  public void test_java() {
+    assertEquals(-0.169075164, JavaNBody.energy(JavaNBody.system()), DELTA);
+    assertEquals(-0.169087605, JavaNBody.run(1000), DELTA);
+    assertEquals(1.274219991, JavaSpectralNorm.run(100), DELTA);
+  }
+
+  @Test
+  public void test_snippets() throws Throwable {
+    CodeLoader loader = new CodeLoader();
+    double nbody = JavaNBody.run(1000);
+    double spectralNorm = JavaSpectralNorm.run(100);
+
+    assertEquals(nbody, (Double) loader.golo("nbody", "run", 1).invoke(1000), DELTA);
+    assertEquals(spectralNorm, (Double) loader.golo("spectral-norm", "run", 1).invoke(100), DELTA);
+
+    assertEquals(nbody, (Double) loader.clojure("nbody", "nbody", "run").invoke(1000), DELTA);
+    assertEquals(spectralNorm, (Double) loader.clojure("spectral-norm", "spectral-norm", "run").invoke(100), DELTA);
+
+    JRubyContainerAndReceiver nbodyRuby = loader.jruby("nbody");
+    assertEquals(nbody, (Double) nbodyRuby.container().callMethod(nbodyRuby.receiver(), "run", 1000), DELTA);
+    JRubyContainerAndReceiver spectralNormRuby = loader.jruby("spectral-norm");
+    assertEquals(spectralNorm, (Double) spectralNormRuby.container().callMethod(spectralNormRuby.receiver(), "run", 100), DELTA);
+
+    PythonInterpreter nbodyPython = loader.jython("nbody");
+    assertEquals(nbody, nbodyPython.get("run").__call__(Py.newInteger(1000)).asDouble(), DELTA);
+    PythonInterpreter spectralNormPython = loader.jython("spectral-norm");
+    assertEquals(spectralNorm, spectralNormPython.get("run").__call__(Py.newInteger(100)).asDouble(), DELTA);
+
+    Invocable nbodyJs = (Invocable) loader.nashorn("nbody");
+    assertEquals(nbody, ((Number) nbodyJs.invokeFunction("run", 1000)).doubleValue(), DELTA);
+    Invocable spectralNormJs = (Invocable) loader.nashorn("spectral-norm");
+    assertEquals(spectralNorm, ((Number) spectralNormJs.invokeFunction("run", 100)).doubleValue(), DELTA);
+  }
+
+  @Test
+  public void test_groovy() throws Throwable {
+    CodeLoader loader = new CodeLoader();
+    double nbody = JavaNBody.run(1000);
+    double spectralNorm = JavaSpectralNorm.run(100);
+
+    assertEquals(nbody, (Double) loader.groovy("NBody", "run", genericMethodType(1)).invoke(1000), DELTA);
+    assertEquals(nbody, (double) loader.groovy("NBody", "fastest_run", methodType(double.class, int.class)).invokeExact(1000), DELTA);
+    assertEquals(spectralNorm, (Double) loader.groovy("SpectralNorm", "run", genericMethodType(1)).invoke(100), DELTA);
+    assertEquals(spectralNorm, (double) loader.groovy("SpectralNorm", "fastest_run", methodType(double.class, int.class)).invokeExact(100), DELTA);
+
+    assertEquals(nbody, (Double) loader.groovy_indy("NBody", "run", genericMethodType(1)).invoke(1000), DELTA);
+    assertEquals(nbody, (double) loader.groovy_indy("NBody", "fastest_run", methodType(double.class, int.class)).invokeExact(1000), DELTA);
+    assertEquals(spectralNorm, (Double) loader.groovy_indy("SpectralNorm", "run", genericMethodType(1)).invoke(100), DELTA);
+    assertEquals(spectralNorm, (double) loader.groovy_indy("SpectralNorm", "fastest_run", methodType(double.class, int.class)).invokeExact(100), DELTA);
+  }
+}
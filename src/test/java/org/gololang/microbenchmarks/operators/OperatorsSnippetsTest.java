@@ -0,0 +1,59 @@
+/*
+ * Copyright 2012-2016 Institut National des Sciences Appliquées de Lyon (INSA-Lyon)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gololang.microbenchmarks.operators;
+
+import org.junit.Test;
+
+import java.util.Objects;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class OperatorsSnippetsTest {
+
+  private void check(Object[] data, Object[] others) throws Throwable {
+    EqualityAndTypeTestMicroBenchmark.GoloState golo = new EqualityAndTypeTestMicroBenchmark.GoloState();
+    golo.prepare();
+    for (int i = 0; i < data.length; i++) {
+      Object a = data[i];
+      Object b = others[i];
+      assertEquals(Objects.equals(a, b), golo.equals.invoke(a, b));
+      assertEquals(!Objects.equals(a, b), golo.notEquals.invoke(a, b));
+      assertEquals(a == b, golo.identical.invoke(a, b));
+      assertEquals(a != b, golo.notIdentical.invoke(a, b));
+      assertEquals(a instanceof String, golo.oftypeString.invoke(a));
+      assertEquals(a instanceof Number, golo.oftypeNumber.invoke(a));
+      assertEquals((a != null) ? a : b, golo.orIfNull.invoke(a, b));
+    }
+  }
+
+  @Test
+  public void test_monomorphic_matches_java() throws Throwable {
+    EqualityAndTypeTestMicroBenchmark.MonomorphicState state = new EqualityAndTypeTestMicroBenchmark.MonomorphicState();
+    state.prepare();
+    assertTrue(state.data[0] == state.others[0]);
+    check(state.data, state.others);
+  }
+
+  @Test
+  public void test_polymorphic_matches_java() throws Throwable {
+    EqualityAndTypeTestMicroBenchmark.PolyMorphicState state = new EqualityAndTypeTestMicroBenchmark.PolyMorphicState();
+    state.prepare();
+    assertTrue(state.data[0] == state.others[0]);
+    check(state.data, state.others);
+  }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2012-2016 Institut National des Sciences Appliquées de Lyon (INSA-Lyon)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gololang.microbenchmarks.sorting;
+
+import org.gololang.microbenchmarks.support.CodeLoader;
+import org.junit.Test;
+
+import java.lang.invoke.MethodHandle;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class SortingSnippetsTest {
+
+  private static void assertSortedByScore(List<?> records) {
+    for (int i = 1; i < records.size(); i++) {
+      assertTrue(((JavaRecord) records.get(i - 1)).score() <= ((JavaRecord) records.get(i)).score());
+    }
+  }
+
+  @Test
+  public void test_sorting_and_grouping_java_records() throws Throwable {
+    CodeLoader loader = new CodeLoader();
+    Random random = new Random(666L);
+    List<JavaRecord> records = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      records.add(new JavaRecord(i, random.nextInt(100)));
+    }
+    for (String func : new String[]{"list_sort", "collections_sort", "sort_comparing"}) {
+      List<?> sorted = (List<?>) loader.golo("sorting", func, 1).invoke(new ArrayList<>(records));
+      assertEquals(records.size(), sorted.size());
+      assertSortedByScore(sorted);
+    }
+    Map<?, ?> groups = (Map<?, ?>) loader.golo("sorting", "group_by", 1).invoke(records);
+    assertEquals(64, groups.size());
+  }
+
+  @Test
+  public void test_sorting_golo_records() throws Throwable {
+    CodeLoader loader = new CodeLoader();
+    MethodHandle listSort = loader.golo("sorting", "list_sort", 1);
+    for (String constructor : new String[]{"struct_record", "dynamic_record"}) {
+      MethodHandle record = loader.golo("sorting", constructor, 2);
+      List<Object> records = new ArrayList<>();
+      records.add(record.invoke(1, 30));
+      records.add(record.invoke(2, 10));
+      records.add(record.invoke(3, 20));
+      List<?> sorted = (List<?>) listSort.invoke(records);
+      MethodHandle id = loader.goloFromSources("id", 1, "module RecordId\n\nfunction id = |record| -> record: id()\n");
+      assertEquals(2, id.invoke(sorted.get(0)));
+      assertEquals(3, id.invoke(sorted.get(1)));
+      assertEquals(1, id.invoke(sorted.get(2)));
+    }
+  }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2012-2016 Institut National des Sciences Appliquées de Lyon (INSA-Lyon)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gololang.microbenchmarks.strings;
+
+import org.gololang.microbenchmarks.support.CodeLoader;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class StringsSnippetsTest {
+
+  private final List<String> words = Arrays.asList("alpha", "beta", "gamma");
+
+  @Test
+  public void test_java() {
+    assertEquals("alpha,beta,gamma,", JavaStrings.concatPlus(words));
+    assertEquals("alpha,beta,gamma,", JavaStrings.concatBuilder(words));
+    assertEquals(32, JavaStrings.format(words));
+    assertEquals("<entry>\n  <id>0</id>\n  <name>alpha</name>\n</entry>\n", JavaStrings.formatTemplate(words.subList(0, 1)));
+    assertEquals("a | b | c", JavaStrings.splitJoin("a,b,c"));
+    assertEquals(60L, JavaStrings.parse("10,20,30"));
+  }
+
+  @Test
+  public void test_golo_matches_java() throws Throwable {
+    CodeLoader loader = new CodeLoader();
+    assertEquals(JavaStrings.concatPlus(words), loader.golo("strings", "concat_plus", 1).invoke(words));
+    assertEquals(JavaStrings.concatBuilder(words), loader.golo("strings", "concat_builder", 1).invoke(words));
+    assertEquals(JavaStrings.format(words), loader.golo("strings", "format_interop", 1).invoke(words));
+    assertEquals(JavaStrings.format(words), loader.golo("strings", "format_augmentation", 1).invoke(words));
+    assertEquals(JavaStrings.formatTemplate(words), loader.golo("strings", "format_multiline", 1).invoke(words));
+    assertEquals(JavaStrings.splitJoin("a,b,c"), loader.golo("strings", "split_join_interop", 1).invoke("a,b,c"));
+    assertEquals(JavaStrings.splitJoin("a,b,c"), loader.golo("strings", "split_join_augmentations", 1).invoke("a,b,c"));
+    assertEquals(JavaStrings.parse("10,20,30"), loader.golo("strings", "parse_interop", 1).invoke("10,20,30"));
+    assertEquals(JavaStrings.parse("10,20,30"), loader.golo("strings", "parse_augmentations", 1).invoke("10,20,30"));
+  }
+}
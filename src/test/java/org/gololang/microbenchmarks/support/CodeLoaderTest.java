@@ -42,6 +42,16 @@ public class CodeLoaderTest {
     assertEquals(42, (Object) incr.invokeExact((Object) 41));
   }
 
+  @Test
+  public void test_golo_from_sources_loading() throws Throwable {
+    CodeLoader loader = new CodeLoader();
+
+    MethodHandle truth = loader.goloFromSources("truth", 0,
+        "module Answer\n\nfunction answer = -> 42\n",
+        "module Truth\n\nimport Answer\n\nfunction truth = -> answer()\n");
+    assertEquals(42, (Object) truth.invokeExact());
+  }
+
   @Test
   public void test_groovy_loading() throws Throwable {
     CodeLoader loader = new CodeLoader();
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2012-2016 Institut National des Sciences Appliquées de Lyon (INSA-Lyon)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gololang.microbenchmarks.templates;
+
+import gololang.FunctionReference;
+import gololang.TemplateEngine;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class TemplatesTest {
+
+  private final Map<String, Object> customer = OrderTemplates.customer();
+
+  @Test
+  public void test_golo_renders_like_java() throws Throwable {
+    FunctionReference template = new TemplateEngine().compile(OrderTemplates.ORDER_SUMMARY);
+    for (int count : new int[]{0, 1, 10}) {
+      List<Map<String, Object>> items = OrderTemplates.items(count);
+      assertEquals(JavaTemplates.orderSummary(customer, items), template.invoke(customer, items));
+    }
+  }
+
+  @Test
+  public void test_repeated() throws Throwable {
+    List<Map<String, Object>> items = OrderTemplates.items(3);
+    String rendered = (String) new TemplateEngine().compile(OrderTemplates.repeated(3)).invoke(customer, items);
+    assertTrue(rendered.endsWith(JavaTemplates.orderSummary(customer, items).substring(1)));
+    assertEquals(3 * (JavaTemplates.orderSummary(customer, items).length() - 1) + 1, rendered.length());
+  }
+}
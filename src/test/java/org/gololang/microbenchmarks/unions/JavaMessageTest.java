@@ -0,0 +1,40 @@
+/*
+ * Copyright 2012-2016 Institut National des Sciences Appliquées de Lyon (INSA-Lyon)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gololang.microbenchmarks.unions;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class JavaMessageTest {
+
+  @Test
+  public void test_variants() {
+    for (int i = 0; i < JavaMessage.MAX_VARIANTS; i++) {
+      JavaMessage message = JavaMessage.create(i, i, "payload-" + i);
+      assertEquals(i, message.handle());
+      assertEquals(i, JavaMessage.handleWithInstanceof(message));
+      assertEquals(i, message.id());
+      assertEquals("payload-" + i, message.payload());
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void test_unknown_variant() {
+    JavaMessage.create(JavaMessage.MAX_VARIANTS, 0, null);
+  }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2012-2016 Institut National des Sciences Appliquées de Lyon (INSA-Lyon)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gololang.microbenchmarks.unions;
+
+import org.gololang.microbenchmarks.support.CodeLoader;
+import org.junit.Test;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+
+import static java.lang.invoke.MethodType.genericMethodType;
+import static org.junit.Assert.assertEquals;
+
+public class UnionModulesTest {
+
+  @Test
+  public void test_generated_variants() throws Throwable {
+    int variants = 5;
+    MethodHandle create = new CodeLoader().goloFromSources("create", 3, UnionModules.generate(variants));
+    Object aMessage = create.invoke(0, 1, "a");
+    Class<?> module = aMessage.getClass().getClassLoader().loadClass(UnionModules.MODULE);
+    MethodHandles.Lookup lookup = MethodHandles.lookup();
+    MethodHandle construct = lookup.findStatic(module, "construct", genericMethodType(2));
+    MethodHandle handle = lookup.findStatic(module, "handle", genericMethodType(1));
+    MethodHandle isFirst = lookup.findStatic(module, "is_first", genericMethodType(1));
+    MethodHandle handleWithTests = lookup.findStatic(module, "handle_with_tests", genericMethodType(1));
+    MethodHandle destructure = lookup.findStatic(module, "destructure", genericMethodType(1));
+    for (int i = 0; i < variants; i++) {
+      Object message = create.invoke(i, i, "payload-" + i);
+      assertEquals(i, handle.invoke(message));
+      assertEquals(i, handleWithTests.invoke(message));
+      assertEquals(i == 0, isFirst.invoke(message));
+      assertEquals("payload-" + i, destructure.invoke(message));
+    }
+    assertEquals(0, handle.invoke(construct.invoke(1, "a")));
+  }
+}
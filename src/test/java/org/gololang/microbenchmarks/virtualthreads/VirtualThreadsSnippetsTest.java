@@ -0,0 +1,55 @@
+/*
+ * Copyright 2012-2016 Institut National des Sciences Appliquées de Lyon (INSA-Lyon)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gololang.microbenchmarks.virtualthreads;
+
+import org.gololang.microbenchmarks.support.CodeLoader;
+import org.junit.Test;
+
+import java.lang.invoke.MethodHandle;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+// The benchmark only builds on JDK 21, the snippet itself runs on any JDK
+public class VirtualThreadsSnippetsTest {
+
+  public static class RecordingMonitor {
+
+    boolean held;
+
+    public synchronized void sleepWhileHolding(long millis) throws InterruptedException {
+      held = Thread.holdsLock(this);
+      Thread.sleep(millis);
+    }
+  }
+
+  @Test
+  public void test_blocking() throws Throwable {
+    MethodHandle blocking = new CodeLoader().golo("virtual-threads", "blocking", 2);
+    long start = System.nanoTime();
+    assertEquals(110, blocking.invoke(10, 20L));
+    assertTrue(System.nanoTime() - start >= 20_000_000L);
+  }
+
+  @Test
+  public void test_pinning() throws Throwable {
+    MethodHandle pinning = new CodeLoader().golo("virtual-threads", "pinning", 3);
+    RecordingMonitor monitor = new RecordingMonitor();
+    assertEquals(110, pinning.invoke(10, 1L, monitor));
+    assertTrue(monitor.held);
+  }
+}
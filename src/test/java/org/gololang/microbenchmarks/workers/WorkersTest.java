@@ -0,0 +1,71 @@
+/*
+ * Copyright 2012-2016 Institut National des Sciences Appliquées de Lyon (INSA-Lyon)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gololang.microbenchmarks.workers;
+
+import gololang.concurrent.workers.WorkerEnvironment;
+import org.gololang.microbenchmarks.support.CodeLoader;
+import org.junit.Test;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class WorkersTest {
+
+  @Test
+  public void test_golo_workers() throws Throwable {
+    CodeLoader loader = new CodeLoader();
+    WorkerEnvironment env = (WorkerEnvironment) loader.golo("workers", "environment", 1).invoke(4);
+    try {
+      Object ports = loader.golo("workers", "counting_workers", 2).invoke(env, 4);
+      CountDownLatch latch = new CountDownLatch(1000);
+      loader.golo("workers", "send_batch", 3).invoke(ports, latch, 1000);
+      assertTrue(latch.await(10, TimeUnit.SECONDS));
+
+      BlockingQueue<Object> replies = new LinkedBlockingQueue<>();
+      Object port = loader.golo("workers", "echo_worker", 2).invoke(env, replies);
+      loader.golo("workers", "send", 2).invoke(port, "ping");
+      assertEquals("ping", replies.poll(10, TimeUnit.SECONDS));
+
+      SlowConsumer consumer = new SlowConsumer(10L);
+      Object consumerPort = loader.golo("workers", "consumer_worker", 2).invoke(env, consumer);
+      for (int i = 0; i < 100; i++) {
+        loader.golo("workers", "send", 2).invoke(consumerPort, i);
+      }
+      consumer.drain(100L);
+      assertEquals(100L, consumer.processed());
+    } finally {
+      env.shutdown();
+      env.awaitTermination(10, TimeUnit.SECONDS);
+    }
+  }
+
+  @Test
+  public void test_queue_workers() throws Throwable {
+    CountDownLatch latch = new CountDownLatch(1000);
+    QueueWorkers queueWorkers = new QueueWorkers(4, message -> ((CountDownLatch) message).countDown());
+    for (int i = 0; i < 1000; i++) {
+      queueWorkers.send(latch);
+    }
+    assertTrue(latch.await(10, TimeUnit.SECONDS));
+    queueWorkers.stop();
+  }
+}